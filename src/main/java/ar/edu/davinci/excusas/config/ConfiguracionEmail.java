@@ -0,0 +1,85 @@
+package ar.edu.davinci.excusas.config;
+
+import ar.edu.davinci.excusas.model.email.AgregadorResumenProductivo;
+import ar.edu.davinci.excusas.model.email.CacheConsultasCorteLuz;
+import ar.edu.davinci.excusas.model.email.EmailSenderConcreto;
+import ar.edu.davinci.excusas.model.email.EmailSenderMemoria;
+import ar.edu.davinci.excusas.model.email.EmailSenderSmtp;
+import ar.edu.davinci.excusas.model.email.NotificadorProductivoInmediato;
+import ar.edu.davinci.excusas.model.email.RegistroConsultasSinVentana;
+import ar.edu.davinci.excusas.model.email.RegistroDifusionesProntuarios;
+import ar.edu.davinci.excusas.model.email.RegistroPlantillasEmail;
+import ar.edu.davinci.excusas.model.email.ServiciosEmail;
+import ar.edu.davinci.excusas.model.email.interfaces.IEmailSender;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.Map;
+
+// Transporte con el que efectivamente salen los emails, elegido con app.email.transporte, plantillas
+// de los emails de los encargados con las personalizaciones de app.email.plantillas.* y los servicios
+// de email que reciben los encargados de la cadena
+@Configuration
+public class ConfiguracionEmail {
+
+    @Bean(name = "transporteEmail")
+    @ConditionalOnProperty(value = "app.email.transporte", havingValue = "consola", matchIfMissing = true)
+    public IEmailSender transporteConsola() {
+        return new EmailSenderConcreto();
+    }
+
+    @Bean(name = "transporteEmail")
+    @ConditionalOnProperty(value = "app.email.transporte", havingValue = "memoria")
+    public EmailSenderMemoria transporteMemoria() {
+        return new EmailSenderMemoria();
+    }
+
+    @Bean(name = "transporteEmail")
+    @ConditionalOnProperty(value = "app.email.transporte", havingValue = "smtp")
+    public EmailSenderSmtp transporteSmtp(
+            @Value("${app.email.smtp.host:localhost}") String host,
+            @Value("${app.email.smtp.puerto:25}") int puerto,
+            @Value("${app.email.smtp.usuario:}") String usuario,
+            @Value("${app.email.smtp.clave:}") String clave,
+            @Value("${app.email.smtp.starttls:false}") boolean starttls,
+            @Value("${app.email.smtp.tamanio-pool:4}") int tamanioPool,
+            @Value("${app.email.smtp.timeout-ms:5000}") long timeoutMs) {
+        return new EmailSenderSmtp(host, puerto, usuario, clave, starttls, tamanioPool, timeoutMs);
+    }
+
+    @Bean
+    public RegistroPlantillasEmail plantillasEmail(Environment environment) {
+        Map<String, String> personalizadas = Binder.get(environment)
+                .bind("app.email.plantillas", Bindable.mapOf(String.class, String.class))
+                .orElse(Map.of());
+        return new RegistroPlantillasEmail(personalizadas);
+    }
+
+    @Bean
+    public RegistroDifusionesProntuarios difusionesProntuarios(
+            @Value("${app.email.difusion-ceos.capacidad:10000}") int capacidad) {
+        return new RegistroDifusionesProntuarios(capacidad);
+    }
+
+    // IEmailSender es el outbox (@Primary). El resumen productivo y la ventana de EDESUR se pueden apagar:
+    // en ese caso los encargados vuelven a un email por excusa
+    @Bean
+    public ServiciosEmail serviciosEmail(IEmailSender emailSender,
+                                         RegistroPlantillasEmail plantillasEmail,
+                                         AgregadorResumenProductivo agregadorResumenProductivo,
+                                         CacheConsultasCorteLuz cacheConsultasCorteLuz) {
+        return new ServiciosEmail(
+                emailSender,
+                plantillasEmail,
+                agregadorResumenProductivo.isHabilitado()
+                        ? agregadorResumenProductivo
+                        : new NotificadorProductivoInmediato(emailSender, plantillasEmail),
+                cacheConsultasCorteLuz.isHabilitado() ? cacheConsultasCorteLuz : new RegistroConsultasSinVentana()
+        );
+    }
+}
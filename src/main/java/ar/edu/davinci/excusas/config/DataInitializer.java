@@ -79,14 +79,8 @@ public class DataInitializer implements CommandLineRunner {
     private void procesarExcusasParaProntuarios() {
 
         try {
-            var todasLasExcusas = excusaService.obtenerTodasLasExcusas();
-
-            for (int i = 0; i < todasLasExcusas.size(); i++) {
-                var excusa = todasLasExcusas.get(i);
-
-                if (excusa.getMotivo().getClass().getSimpleName().equals("MotivoInverosimil")) {
-                    excusaService.procesarExcusa(i);
-                }
+            for (Long id : excusaService.obtenerIdsExcusasPorTipoMotivo("INVEROSIMIL")) {
+                excusaService.procesarExcusaPorId(id);
             }
 
         } catch (Exception e) {
@@ -3,6 +3,7 @@ package ar.edu.davinci.excusas.controller;
 import ar.edu.davinci.excusas.model.empleados.Empleado;
 import ar.edu.davinci.excusas.service.EmpleadoService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Email;
@@ -24,8 +25,9 @@ public class EmpleadoController {
     }
 
     @GetMapping
-    public List<Empleado> obtenerTodosLosEmpleados() {
-        return empleadoService.obtenerTodosLosEmpleados();
+    public ResponseEntity<List<Empleado>> obtenerTodosLosEmpleados(@RequestParam(required = false) Long desdeId,
+                                                                   @RequestParam(required = false) Integer limite) {
+        return RespuestasPaginadas.de(empleadoService.obtenerTodosLosEmpleados(desdeId, limite), empleado -> empleado);
     }
 
     @GetMapping("/legajo/{legajo}")
@@ -40,8 +42,10 @@ public class EmpleadoController {
     }
 
     @GetMapping("/buscar/nombre/{nombre}")
-    public List<Empleado> buscarPorNombre(@PathVariable String nombre) {
-        return empleadoService.buscarPorNombre(nombre);
+    public ResponseEntity<List<Empleado>> buscarPorNombre(@PathVariable String nombre,
+                                                          @RequestParam(required = false) Long desdeId,
+                                                          @RequestParam(required = false) Integer limite) {
+        return RespuestasPaginadas.de(empleadoService.buscarPorNombre(nombre, desdeId, limite), empleado -> empleado);
     }
 
     public static class EmpleadoRequest {
@@ -2,19 +2,25 @@ package ar.edu.davinci.excusas.controller;
 
 import ar.edu.davinci.excusas.model.excusas.Excusa;
 import ar.edu.davinci.excusas.service.ExcusaService;
+import ar.edu.davinci.excusas.service.ExportacionService;
+import ar.edu.davinci.excusas.service.ProcesamientoAsincronoService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.*;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Size;
 import org.springframework.format.annotation.DateTimeFormat;
+import java.io.IOException;
+import java.net.URI;
 import java.time.LocalDate;
 
 import java.util.List;
 import ar.edu.davinci.excusas.exception.InvalidDataException;
-import ar.edu.davinci.excusas.exception.ExcusaNotFoundException;
 
 @RestController
 @RequestMapping("/excusas")
@@ -23,6 +29,12 @@ public class ExcusaController {
     @Autowired
     private ExcusaService excusaService;
 
+    @Autowired
+    private ProcesamientoAsincronoService procesamientoAsincronoService;
+
+    @Autowired
+    private ExportacionService exportacionService;
+
     @PostMapping
     public ExcusaResponse crearExcusa(@Valid @RequestBody ExcusaRequest request) {
         Excusa excusa = excusaService.crearExcusa(
@@ -33,81 +45,105 @@ public class ExcusaController {
         return convertirAResponse(excusa);
     }
 
+    @PostMapping("/{id}/procesar")
+    public ProcesarExcusaResponse procesarExcusaPorId(@PathVariable Long id) {
+        Excusa excusa = excusaService.procesarExcusaPorId(id);
+        return convertirAProcesarResponse(excusa);
+    }
+
+    @PostMapping(value = "/{id}/procesar", params = "async=true")
+    public ResponseEntity<ProcesamientoAsincronoService.EstadoProcesamiento> encolarProcesamiento(@PathVariable Long id) {
+        ProcesamientoAsincronoService.EstadoProcesamiento estado = procesamientoAsincronoService.encolarExcusa(id);
+        return ResponseEntity.accepted()
+                .location(URI.create("/excusas/procesamientos/" + estado.getTicket()))
+                .body(estado);
+    }
+
+    @GetMapping("/procesamientos/{ticket}")
+    public ProcesamientoAsincronoService.EstadoProcesamiento obtenerEstadoProcesamiento(@PathVariable String ticket) {
+        return procesamientoAsincronoService.obtenerEstado(ticket);
+    }
+
+    @PostMapping("/procesar/pendientes")
+    public ExcusaService.ResultadoProcesamientoMasivo procesarExcusasPendientes(
+            @RequestParam(required = false) Integer tamanioLote,
+            @RequestParam(required = false) Integer paralelismo) {
+        if (paralelismo != null) {
+            return excusaService.procesarExcusasPendientesEnParalelo(tamanioLote, paralelismo);
+        }
+        return excusaService.procesarExcusasPendientes(tamanioLote);
+    }
+
     @PostMapping("/procesar/indice/{index}")
     public ProcesarExcusaResponse procesarExcusa(@PathVariable int index) {
-        try {
-            List<Excusa> excusas = excusaService.obtenerTodasLasExcusas();
-
-            if (index < 0) {
-                throw new InvalidDataException("El índice no puede ser negativo");
-            }
-            if (index >= excusas.size()) {
-                throw new ExcusaNotFoundException("Excusa no encontrada en el índice: " + index);
-            }
-
-            Excusa excusa = excusas.get(index);
-
-            excusaService.procesarExcusa(index);
-
-            ProcesarExcusaResponse response = new ProcesarExcusaResponse();
-            response.setMensaje("Excusa procesada correctamente");
-            response.setIndice(index);
-            response.setEmpleado(excusa.getNombreEmpleado());
-            response.setDescripcion(excusa.getDescripcion());
-            response.setTipoMotivo(excusa.getMotivo().getClass().getSimpleName());
-            return response;
-        } catch (InvalidDataException | ExcusaNotFoundException e) {
-            throw e; // Re-throw to be handled by GlobalExceptionHandler
-        } catch (Exception e) {
-            throw new RuntimeException("Error procesando excusa: " + e.getMessage(), e);
-        }
+        Excusa excusa = excusaService.procesarExcusa(index);
+
+        ProcesarExcusaResponse response = convertirAProcesarResponse(excusa);
+        response.setIndice(index);
+        return response;
     }
 
     @GetMapping
-    public List<ExcusaResponse> obtenerTodasLasExcusas() {
-        return excusaService.obtenerTodasLasExcusas().stream()
-                .map(this::convertirAResponse)
-                .toList();
+    public ResponseEntity<List<ExcusaResponse>> obtenerTodasLasExcusas(@RequestParam(required = false) Long desdeId,
+                                                                       @RequestParam(required = false) Integer limite) {
+        return RespuestasPaginadas.de(excusaService.obtenerTodasLasExcusas(desdeId, limite), this::convertirAResponse);
+    }
+
+    // Volcado completo en NDJSON, escrito a medida que se lee; con gzip=true sale comprimido (Content-Encoding).
+    // Se escribe en el hilo del pedido: como respuesta asincrónica la cortaría el timeout de la petición
+    @GetMapping(path = "/exportar", produces = "application/x-ndjson")
+    public void exportarExcusas(@RequestParam(defaultValue = "false") boolean gzip,
+                                HttpServletResponse response) throws IOException {
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding("UTF-8");
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        exportacionService.exportarExcusas(response.getOutputStream(), gzip);
     }
 
     // Endpoint según consigna exacta
     @GetMapping("/{legajo}")
-    public List<ExcusaResponse> obtenerExcusasPorLegajo(@PathVariable int legajo) {
-        return excusaService.obtenerExcusasPorEmpleado(legajo).stream()
-                .map(this::convertirAResponse)
-                .toList();
+    public ResponseEntity<List<ExcusaResponse>> obtenerExcusasPorLegajo(@PathVariable int legajo,
+                                                                        @RequestParam(required = false) Long desdeId,
+                                                                        @RequestParam(required = false) Integer limite) {
+        return RespuestasPaginadas.de(excusaService.obtenerExcusasPorEmpleado(legajo, desdeId, limite),
+                this::convertirAResponse);
     }
 
     // Mantener el endpoint anterior por compatibilidad
     @GetMapping("/buscar/empleado/{legajo}")
-    public List<ExcusaResponse> obtenerExcusasPorEmpleado(@PathVariable int legajo) {
-        return excusaService.obtenerExcusasPorEmpleado(legajo).stream()
-                .map(this::convertirAResponse)
-                .toList();
+    public ResponseEntity<List<ExcusaResponse>> obtenerExcusasPorEmpleado(@PathVariable int legajo,
+                                                                          @RequestParam(required = false) Long desdeId,
+                                                                          @RequestParam(required = false) Integer limite) {
+        return RespuestasPaginadas.de(excusaService.obtenerExcusasPorEmpleado(legajo, desdeId, limite),
+                this::convertirAResponse);
     }
 
     @GetMapping("/buscar/motivo/{tipoMotivo}")
-    public List<ExcusaResponse> obtenerExcusasPorTipoMotivo(@PathVariable String tipoMotivo) {
-        return excusaService.obtenerExcusasPorTipoMotivo(tipoMotivo).stream()
-                .map(this::convertirAResponse)
-                .toList();
+    public ResponseEntity<List<ExcusaResponse>> obtenerExcusasPorTipoMotivo(@PathVariable String tipoMotivo,
+                                                                            @RequestParam(required = false) Long desdeId,
+                                                                            @RequestParam(required = false) Integer limite) {
+        return RespuestasPaginadas.de(excusaService.obtenerExcusasPorTipoMotivo(tipoMotivo, desdeId, limite),
+                this::convertirAResponse);
     }
 
     @GetMapping("/rechazadas")
-    public List<ExcusaResponse> obtenerExcusasRechazadas() {
-        return excusaService.obtenerExcusasRechazadas().stream()
-                .map(this::convertirAResponse)
-                .toList();
+    public ResponseEntity<List<ExcusaResponse>> obtenerExcusasRechazadas(@RequestParam(required = false) Long desdeId,
+                                                                         @RequestParam(required = false) Integer limite) {
+        return RespuestasPaginadas.de(excusaService.obtenerExcusasRechazadas(desdeId, limite), this::convertirAResponse);
     }
 
     @GetMapping("/busqueda")
-    public List<ExcusaResponse> buscarExcusas(
+    public ResponseEntity<List<ExcusaResponse>> buscarExcusas(
             @RequestParam int legajo,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fechaDesde,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fechaHasta) {
-        return excusaService.buscarExcusasPorLegajoYFechas(legajo, fechaDesde, fechaHasta).stream()
-                .map(this::convertirAResponse)
-                .toList();
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fechaHasta,
+            @RequestParam(required = false) Long desdeId,
+            @RequestParam(required = false) Integer limite) {
+        return RespuestasPaginadas.de(
+                excusaService.buscarExcusasPorLegajoYFechas(legajo, fechaDesde, fechaHasta, desdeId, limite),
+                this::convertirAResponse);
     }
 
     @DeleteMapping("/eliminar")
@@ -127,13 +163,26 @@ public class ExcusaController {
         return response;
     }
 
+    private ProcesarExcusaResponse convertirAProcesarResponse(Excusa excusa) {
+        ProcesarExcusaResponse response = new ProcesarExcusaResponse();
+        response.setMensaje("Excusa procesada correctamente");
+        response.setId(excusa.getId());
+        response.setEmpleado(excusa.getNombreEmpleado());
+        response.setDescripcion(excusa.getDescripcion());
+        response.setTipoMotivo(excusa.getMotivo().getClass().getSimpleName());
+        response.setVersionEncargados(excusa.getVersionEncargados());
+        return response;
+    }
+
     private ExcusaResponse convertirAResponse(Excusa excusa) {
         ExcusaResponse response = new ExcusaResponse();
+        response.setId(excusa.getId());
         response.setNombreEmpleado(excusa.getNombreEmpleado());
         response.setEmailEmpleado(excusa.getEmailEmpleado());
         response.setLegajoEmpleado(excusa.getLegajoEmpleado());
         response.setDescripcion(excusa.getDescripcion());
         response.setTipoMotivo(excusa.getMotivo().getClass().getSimpleName());
+        response.setVersionEncargados(excusa.getVersionEncargados());
         return response;
     }
 
@@ -158,12 +207,16 @@ public class ExcusaController {
     }
 
     public static class ExcusaResponse {
+        private Long id;
         private String nombreEmpleado;
         private String emailEmpleado;
         private int legajoEmpleado;
         private String descripcion;
         private String tipoMotivo;
+        private Long versionEncargados;
 
+        public Long getId() { return id; }
+        public void setId(Long id) { this.id = id; }
         public String getNombreEmpleado() { return nombreEmpleado; }
         public void setNombreEmpleado(String nombreEmpleado) { this.nombreEmpleado = nombreEmpleado; }
         public String getEmailEmpleado() { return emailEmpleado; }
@@ -174,25 +227,33 @@ public class ExcusaController {
         public void setDescripcion(String descripcion) { this.descripcion = descripcion; }
         public String getTipoMotivo() { return tipoMotivo; }
         public void setTipoMotivo(String tipoMotivo) { this.tipoMotivo = tipoMotivo; }
+        public Long getVersionEncargados() { return versionEncargados; }
+        public void setVersionEncargados(Long versionEncargados) { this.versionEncargados = versionEncargados; }
     }
 
     public static class ProcesarExcusaResponse {
         private String mensaje;
-        private int indice;
+        private Long id;
+        private Integer indice;
         private String empleado;
         private String descripcion;
         private String tipoMotivo;
+        private Long versionEncargados;
 
         public String getMensaje() { return mensaje; }
         public void setMensaje(String mensaje) { this.mensaje = mensaje; }
-        public int getIndice() { return indice; }
-        public void setIndice(int indice) { this.indice = indice; }
+        public Long getId() { return id; }
+        public void setId(Long id) { this.id = id; }
+        public Integer getIndice() { return indice; }
+        public void setIndice(Integer indice) { this.indice = indice; }
         public String getEmpleado() { return empleado; }
         public void setEmpleado(String empleado) { this.empleado = empleado; }
         public String getDescripcion() { return descripcion; }
         public void setDescripcion(String descripcion) { this.descripcion = descripcion; }
         public String getTipoMotivo() { return tipoMotivo; }
         public void setTipoMotivo(String tipoMotivo) { this.tipoMotivo = tipoMotivo; }
+        public Long getVersionEncargados() { return versionEncargados; }
+        public void setVersionEncargados(Long versionEncargados) { this.versionEncargados = versionEncargados; }
     }
 
     public static class EliminarExcusasResponse {
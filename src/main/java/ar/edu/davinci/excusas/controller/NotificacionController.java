@@ -0,0 +1,130 @@
+package ar.edu.davinci.excusas.controller;
+
+import ar.edu.davinci.excusas.entity.NotificacionFallidaEntity;
+import ar.edu.davinci.excusas.entity.NotificacionFallidaEntity.TipoNotificacion;
+import ar.edu.davinci.excusas.exception.InvalidDataException;
+import ar.edu.davinci.excusas.service.NotificacionesFallidasService;
+import ar.edu.davinci.excusas.service.NotificacionesFallidasService.ResultadoReenvio;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/notificaciones")
+public class NotificacionController {
+
+    private static final int LIMITE_MAXIMO = 1000;
+
+    @Autowired
+    private NotificacionesFallidasService notificacionesFallidasService;
+
+    @GetMapping("/fallidas")
+    public List<NotificacionFallidaResponse> obtenerFallidas(@RequestParam(required = false) TipoNotificacion tipo,
+                                                             @RequestParam(defaultValue = "100") int limite) {
+        if (limite <= 0 || limite > LIMITE_MAXIMO) {
+            throw new InvalidDataException("El límite debe estar entre 1 y " + LIMITE_MAXIMO);
+        }
+        return notificacionesFallidasService.obtenerPendientes(tipo, limite).stream()
+                .map(this::convertirAResponse)
+                .toList();
+    }
+
+    @GetMapping("/fallidas/estadisticas/count")
+    public ContarFallidasResponse contarFallidas() {
+        long cantidad = notificacionesFallidasService.contarPendientes();
+        ContarFallidasResponse response = new ContarFallidasResponse();
+        response.setCantidad(cantidad);
+        response.setMensaje("Notificaciones fallidas pendientes de reenvío: " + cantidad);
+        return response;
+    }
+
+    @PostMapping("/administracion/fallidas/{id}/reenviar")
+    public NotificacionFallidaResponse reenviar(@PathVariable Long id) {
+        return convertirAResponse(notificacionesFallidasService.reenviar(id));
+    }
+
+    @PostMapping("/administracion/fallidas/reenviar")
+    public ReenviarFallidasResponse reenviarPendientes() {
+        ResultadoReenvio resultado = notificacionesFallidasService.reenviarPendientes();
+
+        ReenviarFallidasResponse response = new ReenviarFallidasResponse();
+        response.setReenviadas(resultado.reenviadas());
+        response.setFallidas(resultado.fallidas());
+        response.setMensaje("Reenviadas: " + resultado.reenviadas() + ", volvieron a fallar: " + resultado.fallidas());
+        return response;
+    }
+
+    private NotificacionFallidaResponse convertirAResponse(NotificacionFallidaEntity notificacion) {
+        NotificacionFallidaResponse response = new NotificacionFallidaResponse();
+        response.setId(notificacion.getId());
+        response.setTipo(notificacion.getTipo().name());
+        response.setEstado(notificacion.getEstado().name());
+        response.setDestino(notificacion.getDestino());
+        response.setAsunto(notificacion.getAsunto());
+        response.setProntuarioId(notificacion.getProntuarioId());
+        response.setMotivo(notificacion.getMotivo());
+        response.setIntentos(notificacion.getIntentos());
+        response.setFechaCreacion(notificacion.getFechaCreacion());
+        response.setFechaUltimoIntento(notificacion.getFechaUltimoIntento());
+        return response;
+    }
+
+    public static class NotificacionFallidaResponse {
+        private Long id;
+        private String tipo;
+        private String estado;
+        private String destino;
+        private String asunto;
+        private Long prontuarioId;
+        private String motivo;
+        private int intentos;
+        private LocalDateTime fechaCreacion;
+        private LocalDateTime fechaUltimoIntento;
+
+        public Long getId() { return id; }
+        public void setId(Long id) { this.id = id; }
+        public String getTipo() { return tipo; }
+        public void setTipo(String tipo) { this.tipo = tipo; }
+        public String getEstado() { return estado; }
+        public void setEstado(String estado) { this.estado = estado; }
+        public String getDestino() { return destino; }
+        public void setDestino(String destino) { this.destino = destino; }
+        public String getAsunto() { return asunto; }
+        public void setAsunto(String asunto) { this.asunto = asunto; }
+        public Long getProntuarioId() { return prontuarioId; }
+        public void setProntuarioId(Long prontuarioId) { this.prontuarioId = prontuarioId; }
+        public String getMotivo() { return motivo; }
+        public void setMotivo(String motivo) { this.motivo = motivo; }
+        public int getIntentos() { return intentos; }
+        public void setIntentos(int intentos) { this.intentos = intentos; }
+        public LocalDateTime getFechaCreacion() { return fechaCreacion; }
+        public void setFechaCreacion(LocalDateTime fechaCreacion) { this.fechaCreacion = fechaCreacion; }
+        public LocalDateTime getFechaUltimoIntento() { return fechaUltimoIntento; }
+        public void setFechaUltimoIntento(LocalDateTime fechaUltimoIntento) { this.fechaUltimoIntento = fechaUltimoIntento; }
+    }
+
+    public static class ContarFallidasResponse {
+        private long cantidad;
+        private String mensaje;
+
+        public long getCantidad() { return cantidad; }
+        public void setCantidad(long cantidad) { this.cantidad = cantidad; }
+        public String getMensaje() { return mensaje; }
+        public void setMensaje(String mensaje) { this.mensaje = mensaje; }
+    }
+
+    public static class ReenviarFallidasResponse {
+        private int reenviadas;
+        private int fallidas;
+        private String mensaje;
+
+        public int getReenviadas() { return reenviadas; }
+        public void setReenviadas(int reenviadas) { this.reenviadas = reenviadas; }
+        public int getFallidas() { return fallidas; }
+        public void setFallidas(int fallidas) { this.fallidas = fallidas; }
+        public String getMensaje() { return mensaje; }
+        public void setMensaje(String mensaje) { this.mensaje = mensaje; }
+    }
+}
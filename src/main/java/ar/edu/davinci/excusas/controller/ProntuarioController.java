@@ -1,10 +1,19 @@
 package ar.edu.davinci.excusas.controller;
 
+import ar.edu.davinci.excusas.exception.InvalidDataException;
 import ar.edu.davinci.excusas.model.prontuarios.Prontuario;
+import ar.edu.davinci.excusas.service.ExportacionService;
 import ar.edu.davinci.excusas.service.ProntuarioService;
+import ar.edu.davinci.excusas.service.StreamProntuariosService;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -14,18 +23,48 @@ public class ProntuarioController {
     @Autowired
     private ProntuarioService prontuarioService;
 
+    @Autowired
+    private StreamProntuariosService streamProntuariosService;
+
+    @Autowired
+    private ExportacionService exportacionService;
+
     @GetMapping
-    public List<ProntuarioResponse> obtenerTodosLosProntuarios() {
-        return prontuarioService.obtenerTodosLosProntuarios().stream()
-                .map(this::convertirAResponse)
-                .toList();
+    public ResponseEntity<List<ProntuarioResponse>> obtenerTodosLosProntuarios(@RequestParam(required = false) Long desdeId,
+                                                                               @RequestParam(required = false) Integer limite) {
+        return RespuestasPaginadas.de(prontuarioService.obtenerTodosLosProntuarios(desdeId, limite),
+                this::convertirAResponse);
+    }
+
+    // Prontuarios nuevos a medida que se crean; desdeId (o Last-Event-ID al reconectar) reenvía los posteriores
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamProntuarios(@RequestParam(required = false) Long desdeId,
+                                        @RequestHeader(name = "Last-Event-ID", required = false) Long ultimoEventoId) {
+        Long desde = desdeId != null ? desdeId : ultimoEventoId;
+        if (desde != null && desde < 0) {
+            throw new InvalidDataException("El id desde el que reanudar no puede ser negativo");
+        }
+        return streamProntuariosService.suscribir(desde, this::convertirAResponse);
+    }
+
+    // Volcado completo en NDJSON, igual que /excusas/exportar
+    @GetMapping(path = "/exportar", produces = "application/x-ndjson")
+    public void exportarProntuarios(@RequestParam(defaultValue = "false") boolean gzip,
+                                    HttpServletResponse response) throws IOException {
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding("UTF-8");
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        exportacionService.exportarProntuarios(response.getOutputStream(), gzip);
     }
 
     @GetMapping("/buscar/empleado/{legajo}")
-    public List<ProntuarioResponse> obtenerProntuariosPorEmpleado(@PathVariable int legajo) {
-        return prontuarioService.obtenerProntuariosPorEmpleado(legajo).stream()
-                .map(this::convertirAResponse)
-                .toList();
+    public ResponseEntity<List<ProntuarioResponse>> obtenerProntuariosPorEmpleado(@PathVariable int legajo,
+                                                                                  @RequestParam(required = false) Long desdeId,
+                                                                                  @RequestParam(required = false) Integer limite) {
+        return RespuestasPaginadas.de(prontuarioService.obtenerProntuariosPorEmpleado(legajo, desdeId, limite),
+                this::convertirAResponse);
     }
 
     @GetMapping("/estadisticas/count")
@@ -50,6 +89,7 @@ public class ProntuarioController {
 
     private ProntuarioResponse convertirAResponse(Prontuario prontuario) {
         ProntuarioResponse response = new ProntuarioResponse();
+        response.setId(prontuario.getId());
         response.setNombreEmpleado(prontuario.getEmpleado().getNombre());
         response.setEmailEmpleado(prontuario.getEmpleado().getEmail());
         response.setLegajo(prontuario.getLegajo());
@@ -59,12 +99,15 @@ public class ProntuarioController {
     }
 
     public static class ProntuarioResponse {
+        private Long id;
         private String nombreEmpleado;
         private String emailEmpleado;
         private int legajo;
         private String descripcionExcusa;
         private String tipoMotivoExcusa;
 
+        public Long getId() { return id; }
+        public void setId(Long id) { this.id = id; }
         public String getNombreEmpleado() { return nombreEmpleado; }
         public void setNombreEmpleado(String nombreEmpleado) { this.nombreEmpleado = nombreEmpleado; }
         public String getEmailEmpleado() { return emailEmpleado; }
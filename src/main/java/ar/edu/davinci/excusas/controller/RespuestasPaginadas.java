@@ -0,0 +1,32 @@
+package ar.edu.davinci.excusas.controller;
+
+import ar.edu.davinci.excusas.dto.Pagina;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.util.List;
+import java.util.function.Function;
+
+// El cuerpo sigue siendo la lista; el cursor de la página siguiente va en X-Siguiente-Id y en un Link rel="next"
+final class RespuestasPaginadas {
+
+    static final String SIGUIENTE_ID = "X-Siguiente-Id";
+
+    private RespuestasPaginadas() {
+    }
+
+    static <T, R> ResponseEntity<List<R>> de(Pagina<T> pagina, Function<T, R> conversor) {
+        List<R> cuerpo = pagina.elementos().stream().map(conversor).toList();
+        if (!pagina.hayMas()) {
+            return ResponseEntity.ok(cuerpo);
+        }
+        String siguiente = ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQueryParam("desdeId", pagina.siguienteId())
+                .toUriString();
+        return ResponseEntity.ok()
+                .header(SIGUIENTE_ID, String.valueOf(pagina.siguienteId()))
+                .header(HttpHeaders.LINK, "<" + siguiente + ">; rel=\"next\"")
+                .body(cuerpo);
+    }
+}
@@ -0,0 +1,11 @@
+package ar.edu.davinci.excusas.dto;
+
+import ar.edu.davinci.excusas.entity.ExcusaEntity.TipoMotivo;
+
+import java.time.LocalDateTime;
+
+// Una línea del NDJSON de excusas: se arma directo de la consulta, sin entidades administradas
+public record FilaExportacionExcusa(Long id, Integer legajo, String nombreEmpleado, String emailEmpleado,
+                                    TipoMotivo tipoMotivo, String descripcion, LocalDateTime fechaCreacion,
+                                    Boolean procesada, Long versionEncargados) {
+}
@@ -0,0 +1,11 @@
+package ar.edu.davinci.excusas.dto;
+
+import ar.edu.davinci.excusas.entity.ExcusaEntity.TipoMotivo;
+
+import java.time.LocalDateTime;
+
+// Una línea del NDJSON de prontuarios: se arma directo de la consulta, sin entidades administradas
+public record FilaExportacionProntuario(Long id, Integer legajo, String nombreEmpleado, String emailEmpleado,
+                                        Long excusaId, TipoMotivo tipoMotivo, String descripcionExcusa,
+                                        LocalDateTime fechaCreacion) {
+}
@@ -0,0 +1,11 @@
+package ar.edu.davinci.excusas.dto;
+
+import java.util.List;
+
+// Una página de un listado por cursor: siguienteId es el desdeId para pedir la próxima, o null si no hay más
+public record Pagina<T>(List<T> elementos, Long siguienteId) {
+
+    public boolean hayMas() {
+        return siguienteId != null;
+    }
+}
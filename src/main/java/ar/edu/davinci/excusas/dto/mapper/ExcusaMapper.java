@@ -23,7 +23,8 @@ public class ExcusaMapper {
             entity.getEmpleado().getLegajo()
         );
         
-        return new Excusa(empleado, crearMotivo(entity.getTipoMotivo()), entity.getDescripcion());
+        return new Excusa(entity.getId(), empleado, crearMotivo(entity.getTipoMotivo()), entity.getDescripcion(),
+                entity.getVersionEncargados());
     }
 
     private MotivoExcusa crearMotivo(String tipoMotivo) {
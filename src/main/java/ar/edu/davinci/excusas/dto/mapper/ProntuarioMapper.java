@@ -24,6 +24,6 @@ public class ProntuarioMapper {
         
         Excusa excusa = excusaMapper.toModel(entity.getExcusa());
         
-        return new Prontuario(empleado, excusa, entity.getLegajo());
+        return new Prontuario(entity.getId(), empleado, excusa, entity.getLegajo());
     }
 }
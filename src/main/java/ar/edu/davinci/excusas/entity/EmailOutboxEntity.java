@@ -0,0 +1,95 @@
+package ar.edu.davinci.excusas.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "email_outbox", indexes = {
+        @Index(name = "idx_email_outbox_estado_proximo", columnList = "estado, proximoIntento, id")
+})
+public class EmailOutboxEntity {
+
+    public enum EstadoEmail {
+        PENDIENTE, ENVIADO, FALLIDO
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String destino;
+
+    @Column(nullable = false)
+    private String origen;
+
+    @Column(nullable = false)
+    private String asunto;
+
+    @Column(nullable = false, length = 2000)
+    private String cuerpo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EstadoEmail estado;
+
+    @Column(nullable = false)
+    private Integer intentos;
+
+    @Column(nullable = false)
+    private LocalDateTime proximoIntento;
+
+    @Column(nullable = false)
+    private LocalDateTime fechaCreacion;
+
+    private LocalDateTime fechaEnvio;
+
+    @Column(length = 500)
+    private String ultimoError;
+
+    public EmailOutboxEntity() {}
+
+    public EmailOutboxEntity(String destino, String origen, String asunto, String cuerpo) {
+        this.destino = destino;
+        this.origen = origen;
+        this.asunto = asunto;
+        this.cuerpo = cuerpo;
+        this.estado = EstadoEmail.PENDIENTE;
+        this.intentos = 0;
+        this.fechaCreacion = LocalDateTime.now();
+        this.proximoIntento = this.fechaCreacion;
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getDestino() { return destino; }
+    public void setDestino(String destino) { this.destino = destino; }
+
+    public String getOrigen() { return origen; }
+    public void setOrigen(String origen) { this.origen = origen; }
+
+    public String getAsunto() { return asunto; }
+    public void setAsunto(String asunto) { this.asunto = asunto; }
+
+    public String getCuerpo() { return cuerpo; }
+    public void setCuerpo(String cuerpo) { this.cuerpo = cuerpo; }
+
+    public EstadoEmail getEstado() { return estado; }
+    public void setEstado(EstadoEmail estado) { this.estado = estado; }
+
+    public Integer getIntentos() { return intentos; }
+    public void setIntentos(Integer intentos) { this.intentos = intentos; }
+
+    public LocalDateTime getProximoIntento() { return proximoIntento; }
+    public void setProximoIntento(LocalDateTime proximoIntento) { this.proximoIntento = proximoIntento; }
+
+    public LocalDateTime getFechaCreacion() { return fechaCreacion; }
+    public void setFechaCreacion(LocalDateTime fechaCreacion) { this.fechaCreacion = fechaCreacion; }
+
+    public LocalDateTime getFechaEnvio() { return fechaEnvio; }
+    public void setFechaEnvio(LocalDateTime fechaEnvio) { this.fechaEnvio = fechaEnvio; }
+
+    public String getUltimoError() { return ultimoError; }
+    public void setUltimoError(String ultimoError) { this.ultimoError = ultimoError; }
+}
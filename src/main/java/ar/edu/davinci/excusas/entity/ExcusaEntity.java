@@ -4,9 +4,61 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "excusas")
+@Table(name = "excusas", indexes = {
+        @Index(name = "idx_excusas_empleado_fecha", columnList = "empleado_id, fechaCreacion"),
+        @Index(name = "idx_excusas_procesada", columnList = "procesada, id"),
+        @Index(name = "idx_excusas_tipo_motivo", columnList = "tipoMotivo, id"),
+        @Index(name = "idx_excusas_fecha", columnList = "fechaCreacion")
+})
 public class ExcusaEntity {
 
+    // Se guarda el código de una letra: la columna es chica y se compara por igualdad contra el índice
+    public enum TipoMotivo {
+        TRIVIAL("T"),
+        PROBLEMA_ELECTRICO("E"),
+        PROBLEMA_FAMILIAR("F"),
+        COMPLEJO("C"),
+        INVEROSIMIL("I");
+
+        private final String codigo;
+
+        TipoMotivo(String codigo) {
+            this.codigo = codigo;
+        }
+
+        public String getCodigo() {
+            return codigo;
+        }
+
+        // Lanza IllegalArgumentException si el nombre no es un tipo de motivo
+        public static TipoMotivo desdeNombre(String nombre) {
+            return valueOf(nombre.trim().toUpperCase());
+        }
+
+        public static TipoMotivo desdeCodigo(String codigo) {
+            for (TipoMotivo tipo : values()) {
+                if (tipo.codigo.equals(codigo)) {
+                    return tipo;
+                }
+            }
+            throw new IllegalArgumentException("Código de motivo desconocido: " + codigo);
+        }
+    }
+
+    @Converter
+    public static class CodigoMotivoConverter implements AttributeConverter<TipoMotivo, String> {
+
+        @Override
+        public String convertToDatabaseColumn(TipoMotivo tipo) {
+            return tipo == null ? null : tipo.getCodigo();
+        }
+
+        @Override
+        public TipoMotivo convertToEntityAttribute(String codigo) {
+            return codigo == null ? null : TipoMotivo.desdeCodigo(codigo);
+        }
+    }
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -18,8 +70,9 @@ public class ExcusaEntity {
     @Column(nullable = false, length = 500)
     private String descripcion;
 
-    @Column(nullable = false, length = 50)
-    private String tipoMotivo;
+    @Convert(converter = CodigoMotivoConverter.class)
+    @Column(nullable = false, length = 1)
+    private TipoMotivo tipoMotivo;
 
     @Column(nullable = false)
     private LocalDateTime fechaCreacion;
@@ -27,12 +80,16 @@ public class ExcusaEntity {
     @Column(nullable = false)
     private Boolean procesada = false;
 
+    // Versión del registro de encargados contra la que se procesó la excusa
+    @Column
+    private Long versionEncargados;
+
     public ExcusaEntity() {}
 
     public ExcusaEntity(EmpleadoEntity empleado, String descripcion, String tipoMotivo) {
         this.empleado = empleado;
         this.descripcion = descripcion;
-        this.tipoMotivo = tipoMotivo;
+        this.tipoMotivo = TipoMotivo.desdeNombre(tipoMotivo);
         this.fechaCreacion = LocalDateTime.now();
         this.procesada = false;
     }
@@ -46,12 +103,15 @@ public class ExcusaEntity {
     public String getDescripcion() { return descripcion; }
     public void setDescripcion(String descripcion) { this.descripcion = descripcion; }
 
-    public String getTipoMotivo() { return tipoMotivo; }
-    public void setTipoMotivo(String tipoMotivo) { this.tipoMotivo = tipoMotivo; }
+    public String getTipoMotivo() { return tipoMotivo.name(); }
+    public void setTipoMotivo(String tipoMotivo) { this.tipoMotivo = TipoMotivo.desdeNombre(tipoMotivo); }
 
     public LocalDateTime getFechaCreacion() { return fechaCreacion; }
     public void setFechaCreacion(LocalDateTime fechaCreacion) { this.fechaCreacion = fechaCreacion; }
 
     public Boolean getProcesada() { return procesada; }
     public void setProcesada(Boolean procesada) { this.procesada = procesada; }
+
+    public Long getVersionEncargados() { return versionEncargados; }
+    public void setVersionEncargados(Long versionEncargados) { this.versionEncargados = versionEncargados; }
 }
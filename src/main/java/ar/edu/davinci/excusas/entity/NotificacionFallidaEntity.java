@@ -0,0 +1,109 @@
+package ar.edu.davinci.excusas.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "notificaciones_fallidas", indexes = {
+        @Index(name = "idx_notificaciones_fallidas_estado", columnList = "estado, id")
+})
+public class NotificacionFallidaEntity {
+
+    public enum TipoNotificacion {
+        EMAIL, OBSERVADOR
+    }
+
+    public enum EstadoNotificacion {
+        PENDIENTE, REENVIADA
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TipoNotificacion tipo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EstadoNotificacion estado;
+
+    // Email de destino o identificador del observador
+    @Column(nullable = false)
+    private String destino;
+
+    private String origen;
+
+    private String asunto;
+
+    @Column(length = 2000)
+    private String cuerpo;
+
+    private Long prontuarioId;
+
+    @Column(length = 500)
+    private String motivo;
+
+    @Column(nullable = false)
+    private Integer intentos;
+
+    @Column(nullable = false)
+    private LocalDateTime fechaCreacion;
+
+    @Column(nullable = false)
+    private LocalDateTime fechaUltimoIntento;
+
+    private LocalDateTime fechaReenvio;
+
+    public NotificacionFallidaEntity() {}
+
+    public NotificacionFallidaEntity(TipoNotificacion tipo, String destino, String motivo, int intentos) {
+        this.tipo = tipo;
+        this.destino = destino;
+        this.motivo = motivo;
+        this.intentos = intentos;
+        this.estado = EstadoNotificacion.PENDIENTE;
+        this.fechaCreacion = LocalDateTime.now();
+        this.fechaUltimoIntento = this.fechaCreacion;
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public TipoNotificacion getTipo() { return tipo; }
+    public void setTipo(TipoNotificacion tipo) { this.tipo = tipo; }
+
+    public EstadoNotificacion getEstado() { return estado; }
+    public void setEstado(EstadoNotificacion estado) { this.estado = estado; }
+
+    public String getDestino() { return destino; }
+    public void setDestino(String destino) { this.destino = destino; }
+
+    public String getOrigen() { return origen; }
+    public void setOrigen(String origen) { this.origen = origen; }
+
+    public String getAsunto() { return asunto; }
+    public void setAsunto(String asunto) { this.asunto = asunto; }
+
+    public String getCuerpo() { return cuerpo; }
+    public void setCuerpo(String cuerpo) { this.cuerpo = cuerpo; }
+
+    public Long getProntuarioId() { return prontuarioId; }
+    public void setProntuarioId(Long prontuarioId) { this.prontuarioId = prontuarioId; }
+
+    public String getMotivo() { return motivo; }
+    public void setMotivo(String motivo) { this.motivo = motivo; }
+
+    public Integer getIntentos() { return intentos; }
+    public void setIntentos(Integer intentos) { this.intentos = intentos; }
+
+    public LocalDateTime getFechaCreacion() { return fechaCreacion; }
+    public void setFechaCreacion(LocalDateTime fechaCreacion) { this.fechaCreacion = fechaCreacion; }
+
+    public LocalDateTime getFechaUltimoIntento() { return fechaUltimoIntento; }
+    public void setFechaUltimoIntento(LocalDateTime fechaUltimoIntento) { this.fechaUltimoIntento = fechaUltimoIntento; }
+
+    public LocalDateTime getFechaReenvio() { return fechaReenvio; }
+    public void setFechaReenvio(LocalDateTime fechaReenvio) { this.fechaReenvio = fechaReenvio; }
+}
@@ -4,7 +4,9 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "prontuarios")
+@Table(name = "prontuarios", indexes = {
+        @Index(name = "idx_prontuarios_legajo", columnList = "legajo, id")
+})
 public class ProntuarioEntity {
 
     @Id
@@ -0,0 +1,7 @@
+package ar.edu.davinci.excusas.exception;
+
+public class ColaProcesamientoLlenaException extends RuntimeException {
+    public ColaProcesamientoLlenaException(String message) {
+        super(message);
+    }
+}
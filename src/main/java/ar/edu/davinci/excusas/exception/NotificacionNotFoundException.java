@@ -0,0 +1,7 @@
+package ar.edu.davinci.excusas.exception;
+
+public class NotificacionNotFoundException extends RuntimeException {
+    public NotificacionNotFoundException(String message) {
+        super(message);
+    }
+}
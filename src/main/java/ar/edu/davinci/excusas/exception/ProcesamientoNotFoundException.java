@@ -0,0 +1,7 @@
+package ar.edu.davinci.excusas.exception;
+
+public class ProcesamientoNotFoundException extends RuntimeException {
+    public ProcesamientoNotFoundException(String message) {
+        super(message);
+    }
+}
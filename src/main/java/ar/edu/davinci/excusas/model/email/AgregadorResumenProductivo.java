@@ -0,0 +1,217 @@
+package ar.edu.davinci.excusas.model.email;
+
+import ar.edu.davinci.excusas.model.email.interfaces.IEmailSender;
+import ar.edu.davinci.excusas.model.email.interfaces.INotificadorProductivo;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Junta las notificaciones productivas de cada encargado y envía un único resumen al CTO al cumplirse
+// la ventana de tiempo o al llegar al umbral de excusas. Por encargado solo se guardan contadores y
+// a lo sumo empleados-por-resumen nombres, así que la memoria no depende del volumen. Solo se cuentan
+// las excusas cuya transacción se confirmó, y los resúmenes salen desde el hilo propio del agregador.
+@Component
+public class AgregadorResumenProductivo implements INotificadorProductivo {
+
+    @Autowired
+    private IEmailSender emailSender;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.email.resumen-productivo.habilitado:true}")
+    private boolean habilitado;
+
+    @Value("${app.email.resumen-productivo.ventana-ms:60000}")
+    private long ventanaMs;
+
+    @Value("${app.email.resumen-productivo.umbral:100}")
+    private int umbral;
+
+    @Value("${app.email.resumen-productivo.empleados-por-resumen:10}")
+    private int empleadosPorResumen;
+
+    private final Map<String, Resumen> pendientes = new ConcurrentHashMap<>();
+    private ScheduledExecutorService executor;
+    private TransactionTemplate transaccionPropia;
+
+    @PostConstruct
+    void instalar() {
+        // Cada resumen se encola (o envía) en su propia transacción, nunca en la de una excusa
+        transaccionPropia = new TransactionTemplate(transactionManager);
+        transaccionPropia.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        if (!habilitado) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(tarea -> {
+            Thread hilo = new Thread(tarea, "resumen-productivo");
+            hilo.setDaemon(true);
+            return hilo;
+        });
+        executor.scheduleWithFixedDelay(this::vaciarRegistrandoErrores, ventanaMs, ventanaMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void desinstalar() throws InterruptedException {
+        if (executor != null) {
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+        vaciarRegistrandoErrores();
+    }
+
+    @Override
+    public void notificarProcesamiento(String emailOrigen, String nombreEmpleado) {
+        // Una excusa cuya transacción se revierte no cuenta para el resumen
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    registrar(emailOrigen, nombreEmpleado);
+                }
+            });
+            return;
+        }
+        registrar(emailOrigen, nombreEmpleado);
+    }
+
+    private void registrar(String emailOrigen, String nombreEmpleado) {
+        Resumen[] completo = new Resumen[1];
+        // compute es atómico por encargado: el resumen que llega al umbral se retira antes de enviarse
+        pendientes.compute(emailOrigen, (origen, resumen) -> {
+            Resumen actual = resumen != null ? resumen : new Resumen();
+            actual.agregar(nombreEmpleado, empleadosPorResumen);
+            if (actual.cantidad >= umbral) {
+                completo[0] = actual;
+                return null;
+            }
+            return actual;
+        });
+        if (completo[0] != null) {
+            enviarEnSegundoPlano(emailOrigen, completo[0]);
+        }
+    }
+
+    // Envía los resúmenes acumulados de todos los encargados; devuelve cuántos se enviaron
+    public int vaciar() {
+        int enviados = 0;
+        for (String emailOrigen : pendientes.keySet()) {
+            Resumen resumen = pendientes.remove(emailOrigen);
+            if (resumen != null && enviarOReponer(emailOrigen, resumen)) {
+                enviados++;
+            }
+        }
+        return enviados;
+    }
+
+    public boolean isHabilitado() {
+        return habilitado;
+    }
+
+    public int getEncargadosConPendientes() {
+        return pendientes.size();
+    }
+
+    private void vaciarRegistrandoErrores() {
+        try {
+            vaciar();
+        } catch (RuntimeException e) {
+            System.err.println("Error enviando resúmenes productivos: " + e.getMessage());
+        }
+    }
+
+    private void enviarEnSegundoPlano(String emailOrigen, Resumen resumen) {
+        if (executor != null && !executor.isShutdown()) {
+            try {
+                executor.execute(() -> enviarOReponer(emailOrigen, resumen));
+                return;
+            } catch (RejectedExecutionException e) {
+                // El agregador se está cerrando: el resumen sale desde este hilo
+            }
+        }
+        enviarOReponer(emailOrigen, resumen);
+    }
+
+    // Si el envío falla el resumen vuelve a pendientes y sale con la próxima ventana
+    private boolean enviarOReponer(String emailOrigen, Resumen resumen) {
+        try {
+            transaccionPropia.executeWithoutResult(status -> enviar(emailOrigen, resumen));
+            return true;
+        } catch (RuntimeException e) {
+            System.err.println("Error enviando resumen productivo de " + emailOrigen + ": " + e.getMessage());
+            pendientes.merge(emailOrigen, resumen, (actual, fallido) -> fallido.absorber(actual, empleadosPorResumen));
+            return false;
+        }
+    }
+
+    private void enviar(String emailOrigen, Resumen resumen) {
+        StringBuilder cuerpo = new StringBuilder()
+                .append("Se procesaron ").append(resumen.cantidad)
+                .append(" excusas de manera productiva entre ").append(resumen.desde)
+                .append(" y ").append(resumen.hasta).append(". Empleados: ");
+        String separador = "";
+        for (Map.Entry<String, Integer> empleado : resumen.porEmpleado.entrySet()) {
+            cuerpo.append(separador).append(empleado.getKey()).append(" (").append(empleado.getValue()).append(")");
+            separador = ", ";
+        }
+        if (resumen.otros > 0) {
+            cuerpo.append(separador).append("otros (").append(resumen.otros).append(")");
+        }
+
+        emailSender.enviarEmail(
+                "cto@excusas.com",
+                emailOrigen,
+                "Resumen de procesamiento productivo",
+                cuerpo.toString()
+        );
+    }
+
+    private static class Resumen {
+        private int cantidad;
+        private int otros;
+        private final LocalDateTime desde = LocalDateTime.now();
+        private LocalDateTime hasta;
+        private final Map<String, Integer> porEmpleado = new LinkedHashMap<>();
+
+        void agregar(String nombreEmpleado, int maxEmpleados) {
+            cantidad++;
+            hasta = LocalDateTime.now();
+            if (porEmpleado.containsKey(nombreEmpleado) || porEmpleado.size() < maxEmpleados) {
+                porEmpleado.merge(nombreEmpleado, 1, Integer::sum);
+            } else {
+                otros++;
+            }
+        }
+
+        // El resumen que no pudo enviarse conserva su inicio y suma lo que llegó mientras tanto
+        Resumen absorber(Resumen posterior, int maxEmpleados) {
+            cantidad += posterior.cantidad;
+            otros += posterior.otros;
+            hasta = posterior.hasta;
+            for (Map.Entry<String, Integer> empleado : posterior.porEmpleado.entrySet()) {
+                if (porEmpleado.containsKey(empleado.getKey()) || porEmpleado.size() < maxEmpleados) {
+                    porEmpleado.merge(empleado.getKey(), empleado.getValue(), Integer::sum);
+                } else {
+                    otros += empleado.getValue();
+                }
+            }
+            return this;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package ar.edu.davinci.excusas.model.email;
+
+import ar.edu.davinci.excusas.model.email.interfaces.IRegistroConsultasCorteLuz;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Un solo corte afecta a todas las excusas de la zona: dentro de la ventana se reutiliza la última
+// consulta a EDESUR de cada supervisor en lugar de enviar otra idéntica
+@Component
+public class CacheConsultasCorteLuz implements IRegistroConsultasCorteLuz {
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Value("${app.email.edesur.habilitado:true}")
+    private boolean habilitado;
+
+    @Value("${app.email.edesur.ventana-ms:1800000}")
+    private long ventanaMs;
+
+    private final Map<String, ConsultaCorteLuz> consultas = new ConcurrentHashMap<>();
+    private Counter enviadas;
+    private Counter suprimidas;
+
+    @PostConstruct
+    void registrarContadores() {
+        enviadas = registry.counter("excusas.edesur.consultas", "resultado", "enviada");
+        suprimidas = registry.counter("excusas.edesur.consultas", "resultado", "suprimida");
+    }
+
+    public boolean isHabilitado() {
+        return habilitado;
+    }
+
+    @Override
+    public ConsultaCorteLuz registrarConsulta(String emailOrigen) {
+        LocalDateTime ahora = LocalDateTime.now();
+        ConsultaCorteLuz vigente = consultas.compute(emailOrigen, (origen, anterior) -> {
+            if (anterior != null && anterior.fechaConsulta().plusNanos(ventanaMs * 1_000_000L).isAfter(ahora)) {
+                return anterior.reutilizada();
+            }
+            return new ConsultaCorteLuz(ahora, true);
+        });
+
+        (vigente.nueva() ? enviadas : suprimidas).increment();
+        if (vigente.nueva()) {
+            descartarSiSeRevierte(emailOrigen, vigente);
+        }
+        return vigente;
+    }
+
+    // La consulta sale como fila del outbox en la transacción de la excusa: si esa se revierte, EDESUR
+    // nunca la recibe y la ventana no puede seguir suprimiendo las siguientes
+    private void descartarSiSeRevierte(String emailOrigen, ConsultaCorteLuz consulta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    descartarConsulta(emailOrigen, consulta);
+                }
+            }
+        });
+    }
+
+    // Si el envío falló, la próxima excusa vuelve a consultar
+    @Override
+    public void descartarConsulta(String emailOrigen, ConsultaCorteLuz consulta) {
+        consultas.computeIfPresent(emailOrigen, (origen, actual) ->
+                actual.fechaConsulta().equals(consulta.fechaConsulta()) ? null : actual);
+    }
+
+    public long getEnviadas() {
+        return (long) enviadas.count();
+    }
+
+    public long getSuprimidas() {
+        return (long) suprimidas.count();
+    }
+}
@@ -0,0 +1,11 @@
+package ar.edu.davinci.excusas.model.email;
+
+import java.time.LocalDateTime;
+
+// Resultado de una consulta de corte de luz: si es nueva hay que enviarla, si no se reutiliza la anterior
+public record ConsultaCorteLuz(LocalDateTime fechaConsulta, boolean nueva) {
+
+    public ConsultaCorteLuz reutilizada() {
+        return new ConsultaCorteLuz(fechaConsulta, false);
+    }
+}
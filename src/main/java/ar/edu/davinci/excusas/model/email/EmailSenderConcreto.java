@@ -9,11 +9,12 @@ public class EmailSenderConcreto implements IEmailSender {
 
     @Override
     public void enviarEmail(String unEmailDestino, String unEmailOrigen, String unAsunto, String unCuerpo) {
-        System.out.println("=== EMAIL ENVIADO ===");
-        System.out.println("Para: " + unEmailDestino);
-        System.out.println("De: " + unEmailOrigen);
-        System.out.println("Asunto: " + unAsunto);
-        System.out.println("Cuerpo: " + unCuerpo);
-        System.out.println("====================");
+        // Una sola escritura para que los emails de distintos hilos no se mezclen
+        System.out.println("=== EMAIL ENVIADO ===" + System.lineSeparator() +
+                "Para: " + unEmailDestino + System.lineSeparator() +
+                "De: " + unEmailOrigen + System.lineSeparator() +
+                "Asunto: " + unAsunto + System.lineSeparator() +
+                "Cuerpo: " + unCuerpo + System.lineSeparator() +
+                "====================");
     }
 }
@@ -0,0 +1,29 @@
+package ar.edu.davinci.excusas.model.email;
+
+import ar.edu.davinci.excusas.model.email.interfaces.IEmailSender;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+// Guarda los emails en memoria en lugar de enviarlos; pensado para pruebas y entornos sin servidor de correo
+public class EmailSenderMemoria implements IEmailSender {
+
+    private final Queue<EmailEnviado> enviados = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public void enviarEmail(String unEmailDestino, String unEmailOrigen, String unAsunto, String unCuerpo) {
+        enviados.add(new EmailEnviado(unEmailDestino, unEmailOrigen, unAsunto, unCuerpo));
+    }
+
+    public List<EmailEnviado> getEnviados() {
+        return List.copyOf(enviados);
+    }
+
+    public void limpiar() {
+        enviados.clear();
+    }
+
+    public record EmailEnviado(String destino, String origen, String asunto, String cuerpo) {
+    }
+}
@@ -0,0 +1,11 @@
+package ar.edu.davinci.excusas.model.email;
+
+import ar.edu.davinci.excusas.model.email.interfaces.IEmailSender;
+
+// Descarta los emails; sirve para medir o probar la cadena sin el costo del envío
+public class EmailSenderNulo implements IEmailSender {
+
+    @Override
+    public void enviarEmail(String unEmailDestino, String unEmailOrigen, String unAsunto, String unCuerpo) {
+    }
+}
@@ -0,0 +1,67 @@
+package ar.edu.davinci.excusas.model.email;
+
+import ar.edu.davinci.excusas.entity.EmailOutboxEntity;
+import ar.edu.davinci.excusas.model.email.interfaces.IEmailSender;
+import ar.edu.davinci.excusas.service.NotificacionesFallidasService;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// Encola el email en la tabla email_outbox dentro de la transacción en curso (la del procesamiento
+// de la excusa); el envío real lo hace DespachadorEmailsService en segundo plano. Es el único IEmailSender
+// que usan los encargados: con el outbox deshabilitado entrega directo al transporte configurado y, si falla,
+// lo deja en las notificaciones fallidas en vez de hacer fallar el procesamiento
+@Component
+@Primary
+public class EmailSenderOutbox implements IEmailSender {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("transporteEmail")
+    private IEmailSender transporte;
+
+    @Autowired
+    private NotificacionesFallidasService notificacionesFallidas;
+
+    @Value("${app.email.outbox.habilitado:true}")
+    private boolean habilitado;
+
+    private TransactionTemplate transaccion;
+
+    @PostConstruct
+    void instalar() {
+        transaccion = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void enviarEmail(String unEmailDestino, String unEmailOrigen, String unAsunto, String unCuerpo) {
+        if (!habilitado) {
+            try {
+                transporte.enviarEmail(unEmailDestino, unEmailOrigen, unAsunto, unCuerpo);
+            } catch (RuntimeException e) {
+                notificacionesFallidas.emailFallido(unEmailDestino, unEmailOrigen, unAsunto, unCuerpo, 1, e);
+                return;
+            }
+            notificacionesFallidas.emailEntregado(1);
+            return;
+        }
+        transaccion.executeWithoutResult(status -> {
+            EmailOutboxEntity email = new EmailOutboxEntity(unEmailDestino, unEmailOrigen, unAsunto, unCuerpo);
+            entityManager.persist(email);
+            // Ya insertado: no hace falta mantenerlo en el contexto de persistencia de la transacción
+            entityManager.detach(email);
+        });
+    }
+}
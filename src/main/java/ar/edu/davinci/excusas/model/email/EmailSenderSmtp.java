@@ -0,0 +1,156 @@
+package ar.edu.davinci.excusas.model.email;
+
+import ar.edu.davinci.excusas.model.email.interfaces.IEmailSender;
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+
+import java.util.Properties;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// Mantiene abiertas hasta tamanioPool conexiones SMTP y las reutiliza entre envíos: cada email viaja por una
+// conexión ya saludada y autenticada, sin repetir EHLO, STARTTLS, AUTH ni QUIT por mensaje
+public class EmailSenderSmtp implements IEmailSender, AutoCloseable {
+
+    // Pasado este tiempo sin uso el servidor pudo haber cerrado la conexión: se verifica antes de reutilizarla
+    private static final long INACTIVIDAD_VERIFICACION_MS = 30_000;
+
+    private final Session sesion;
+    private final String host;
+    private final int puerto;
+    private final String usuario;
+    private final String clave;
+    private final long timeoutMs;
+    private final Semaphore permisos;
+    private final BlockingQueue<Conexion> libres = new LinkedBlockingQueue<>();
+    private volatile boolean cerrado;
+
+    public EmailSenderSmtp(String host, int puerto, String usuario, String clave, boolean starttls,
+                           int tamanioPool, long timeoutMs) {
+        this.host = host;
+        this.puerto = puerto;
+        this.usuario = usuario == null || usuario.isBlank() ? null : usuario;
+        this.clave = clave;
+        this.timeoutMs = timeoutMs;
+        this.permisos = new Semaphore(tamanioPool);
+
+        Properties propiedades = new Properties();
+        propiedades.put("mail.smtp.host", host);
+        propiedades.put("mail.smtp.port", String.valueOf(puerto));
+        propiedades.put("mail.smtp.auth", String.valueOf(this.usuario != null));
+        propiedades.put("mail.smtp.starttls.enable", String.valueOf(starttls));
+        propiedades.put("mail.smtp.connectiontimeout", String.valueOf(timeoutMs));
+        propiedades.put("mail.smtp.timeout", String.valueOf(timeoutMs));
+        propiedades.put("mail.smtp.writetimeout", String.valueOf(timeoutMs));
+        this.sesion = Session.getInstance(propiedades);
+    }
+
+    @Override
+    public void enviarEmail(String unEmailDestino, String unEmailOrigen, String unAsunto, String unCuerpo) {
+        MimeMessage mensaje = crearMensaje(unEmailDestino, unEmailOrigen, unAsunto, unCuerpo);
+        Conexion conexion = tomarConexion();
+        boolean reutilizable = false;
+        try {
+            conexion.transporte().sendMessage(mensaje, mensaje.getAllRecipients());
+            reutilizable = true;
+        } catch (MessagingException e) {
+            throw new IllegalStateException("No se pudo enviar el email a " + unEmailDestino + ": " + e.getMessage(), e);
+        } finally {
+            devolverConexion(conexion, reutilizable);
+        }
+    }
+
+    public int getConexionesLibres() {
+        return libres.size();
+    }
+
+    @Override
+    public void close() {
+        cerrado = true;
+        Conexion conexion;
+        while ((conexion = libres.poll()) != null) {
+            cerrar(conexion.transporte());
+        }
+    }
+
+    private MimeMessage crearMensaje(String destino, String origen, String asunto, String cuerpo) {
+        try {
+            MimeMessage mensaje = new MimeMessage(sesion);
+            mensaje.setFrom(new InternetAddress(origen));
+            mensaje.setRecipient(Message.RecipientType.TO, new InternetAddress(destino));
+            mensaje.setSubject(asunto, "UTF-8");
+            mensaje.setText(cuerpo, "UTF-8");
+            return mensaje;
+        } catch (MessagingException e) {
+            throw new IllegalArgumentException("Email inválido para " + destino + ": " + e.getMessage(), e);
+        }
+    }
+
+    private Conexion tomarConexion() {
+        if (cerrado) {
+            throw new IllegalStateException("El transporte SMTP está cerrado");
+        }
+        try {
+            if (!permisos.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("No hay conexiones SMTP disponibles");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrumpido esperando una conexión SMTP", e);
+        }
+
+        // El permiso viaja con la conexión entregada; si no se entrega ninguna se devuelve acá, falle como falle
+        boolean entregada = false;
+        Conexion conexion = libres.poll();
+        try {
+            if (conexion != null && (System.currentTimeMillis() - conexion.ultimoUso() < INACTIVIDAD_VERIFICACION_MS
+                    || conexion.transporte().isConnected())) {
+                entregada = true;
+                return conexion;
+            }
+            if (conexion != null) {
+                cerrar(conexion.transporte());
+            }
+            Transport transporte = sesion.getTransport("smtp");
+            transporte.connect(host, puerto, usuario, clave);
+            entregada = true;
+            return new Conexion(transporte, System.currentTimeMillis());
+        } catch (MessagingException e) {
+            throw new IllegalStateException("No se pudo conectar al servidor SMTP " + host + ":" + puerto
+                    + ": " + e.getMessage(), e);
+        } finally {
+            if (!entregada) {
+                permisos.release();
+            }
+        }
+    }
+
+    private void devolverConexion(Conexion conexion, boolean reutilizable) {
+        try {
+            if (reutilizable && !cerrado) {
+                libres.add(new Conexion(conexion.transporte(), System.currentTimeMillis()));
+            } else {
+                cerrar(conexion.transporte());
+            }
+        } finally {
+            permisos.release();
+        }
+    }
+
+    private void cerrar(Transport transporte) {
+        try {
+            transporte.close();
+        } catch (MessagingException e) {
+            // La conexión se descarta igual
+        }
+    }
+
+    private record Conexion(Transport transporte, long ultimoUso) {
+    }
+}
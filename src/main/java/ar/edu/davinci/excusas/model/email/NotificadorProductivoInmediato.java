@@ -0,0 +1,27 @@
+package ar.edu.davinci.excusas.model.email;
+
+import ar.edu.davinci.excusas.model.email.interfaces.IEmailSender;
+import ar.edu.davinci.excusas.model.email.interfaces.INotificadorProductivo;
+
+// Un email al CTO por cada excusa procesada en modo productivo
+public class NotificadorProductivoInmediato implements INotificadorProductivo {
+
+    private final IEmailSender emailSender;
+    private final RegistroPlantillasEmail plantillas;
+
+    public NotificadorProductivoInmediato(IEmailSender emailSender, RegistroPlantillasEmail plantillas) {
+        this.emailSender = emailSender;
+        this.plantillas = plantillas;
+    }
+
+    @Override
+    public void notificarProcesamiento(String emailOrigen, String nombreEmpleado) {
+        PlantillaEmail plantilla = plantillas.obtener(RegistroPlantillasEmail.PRODUCTIVO_PROCESAMIENTO);
+        emailSender.enviarEmail(
+                "cto@excusas.com",
+                emailOrigen,
+                plantilla.renderizarAsunto(nombreEmpleado, emailOrigen),
+                plantilla.renderizarCuerpo(nombreEmpleado, emailOrigen)
+        );
+    }
+}
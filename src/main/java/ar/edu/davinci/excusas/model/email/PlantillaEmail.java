@@ -0,0 +1,170 @@
+package ar.edu.davinci.excusas.model.email;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Asunto y cuerpo de un email con variables {nombre}. El texto se analiza una sola vez al compilar la plantilla
+// y queda como una lista de literales y posiciones de variables. Con una o dos apariciones (todas las plantillas
+// actuales) se renderiza con la concatenación de javac, que arma el String final de una vez con el largo exacto;
+// con más se escribe en un StringBuilder de largo exacto. Los textos sin variables se devuelven tal cual.
+// Los valores se pasan con sobrecargas tipadas: sin varargs ni legajos en caja
+public final class PlantillaEmail {
+
+    private final Texto asunto;
+    private final Texto cuerpo;
+
+    private PlantillaEmail(Texto asunto, Texto cuerpo) {
+        this.asunto = asunto;
+        this.cuerpo = cuerpo;
+    }
+
+    // Las variables se pasan al renderizar en el mismo orden en que se declaran aquí
+    public static PlantillaEmail compilar(String asunto, String cuerpo, List<String> variables) {
+        return new PlantillaEmail(Texto.compilar(asunto, variables), Texto.compilar(cuerpo, variables));
+    }
+
+    public String renderizarAsunto() {
+        return asunto.renderizar(0, null, null, 0);
+    }
+
+    public String renderizarAsunto(String primero) {
+        return asunto.renderizar(1, primero, null, 0);
+    }
+
+    public String renderizarAsunto(String primero, String segundo) {
+        return asunto.renderizar(2, primero, segundo, 0);
+    }
+
+    public String renderizarAsunto(String primero, int segundo) {
+        return asunto.renderizar(2, primero, null, segundo);
+    }
+
+    public String renderizarCuerpo() {
+        return cuerpo.renderizar(0, null, null, 0);
+    }
+
+    public String renderizarCuerpo(String primero) {
+        return cuerpo.renderizar(1, primero, null, 0);
+    }
+
+    public String renderizarCuerpo(String primero, String segundo) {
+        return cuerpo.renderizar(2, primero, segundo, 0);
+    }
+
+    public String renderizarCuerpo(String primero, int segundo) {
+        return cuerpo.renderizar(2, primero, null, segundo);
+    }
+
+    private static final class Texto {
+        private final String constante;
+        // literales[i] va antes de la variable indices[i]; el último literal cierra el texto
+        private final String[] literales;
+        private final int[] indices;
+        private final int largoLiterales;
+        private final int variablesUsadas;
+
+        private Texto(String constante, String[] literales, int[] indices) {
+            this.constante = constante;
+            this.literales = literales;
+            this.indices = indices;
+            int largo = 0;
+            for (String literal : literales) {
+                largo += literal.length();
+            }
+            this.largoLiterales = largo;
+            int usadas = 0;
+            for (int indice : indices) {
+                usadas = Math.max(usadas, indice + 1);
+            }
+            this.variablesUsadas = usadas;
+        }
+
+        static Texto compilar(String texto, List<String> variables) {
+            List<String> literales = new ArrayList<>();
+            List<Integer> indices = new ArrayList<>();
+            int desde = 0;
+            int apertura;
+            while ((apertura = texto.indexOf('{', desde)) >= 0) {
+                int cierre = texto.indexOf('}', apertura);
+                if (cierre < 0) {
+                    throw new IllegalArgumentException("Variable sin cerrar en la plantilla: " + texto);
+                }
+                String variable = texto.substring(apertura + 1, cierre);
+                int indice = variables.indexOf(variable);
+                if (indice < 0) {
+                    throw new IllegalArgumentException("Variable desconocida {" + variable + "} en la plantilla: "
+                            + texto + ". Variables disponibles: " + variables);
+                }
+                if (indice > 1) {
+                    throw new IllegalArgumentException("Las plantillas admiten a lo sumo dos variables: " + texto);
+                }
+                literales.add(texto.substring(desde, apertura));
+                indices.add(indice);
+                desde = cierre + 1;
+            }
+            literales.add(texto.substring(desde));
+
+            return new Texto(indices.isEmpty() ? texto : null,
+                    literales.toArray(new String[0]),
+                    indices.stream().mapToInt(Integer::intValue).toArray());
+        }
+
+        // El segundo valor es segundoTexto o, si es null, el número segundoNumero
+        String renderizar(int cantidad, String primero, String segundoTexto, int segundoNumero) {
+            if (variablesUsadas > cantidad) {
+                throw new IllegalArgumentException("La plantilla usa " + variablesUsadas
+                        + " variables y se pasaron " + cantidad);
+            }
+            if (constante != null) {
+                return constante;
+            }
+            String uno = String.valueOf(primero);
+            boolean numerico = cantidad == 2 && segundoTexto == null;
+            String dos = numerico ? null : String.valueOf(segundoTexto);
+
+            if (indices.length == 1) {
+                if (indices[0] == 0) {
+                    return literales[0] + uno + literales[1];
+                }
+                return numerico ? literales[0] + segundoNumero + literales[1] : literales[0] + dos + literales[1];
+            }
+            if (indices.length == 2 && !numerico) {
+                return literales[0] + (indices[0] == 0 ? uno : dos)
+                        + literales[1] + (indices[1] == 0 ? uno : dos) + literales[2];
+            }
+            if (indices.length == 2 && indices[0] == 0 && indices[1] == 1) {
+                return literales[0] + uno + literales[1] + segundoNumero + literales[2];
+            }
+            if (indices.length == 2 && indices[0] == 1 && indices[1] == 0) {
+                return literales[0] + segundoNumero + literales[1] + uno + literales[2];
+            }
+
+            int largo = largoLiterales;
+            for (int indice : indices) {
+                largo += indice == 0 ? uno.length() : numerico ? largoDecimal(segundoNumero) : dos.length();
+            }
+            StringBuilder resultado = new StringBuilder(largo);
+            for (int i = 0; i < indices.length; i++) {
+                resultado.append(literales[i]);
+                if (indices[i] == 0) {
+                    resultado.append(uno);
+                } else if (numerico) {
+                    resultado.append(segundoNumero);
+                } else {
+                    resultado.append(dos);
+                }
+            }
+            return resultado.append(literales[indices.length]).toString();
+        }
+
+        private static int largoDecimal(int numero) {
+            int largo = numero < 0 ? 2 : 1;
+            long resto = Math.abs((long) numero);
+            while (resto >= 10) {
+                resto /= 10;
+                largo++;
+            }
+            return largo;
+        }
+    }
+}
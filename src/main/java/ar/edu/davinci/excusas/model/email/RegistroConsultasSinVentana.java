@@ -0,0 +1,18 @@
+package ar.edu.davinci.excusas.model.email;
+
+import ar.edu.davinci.excusas.model.email.interfaces.IRegistroConsultasCorteLuz;
+
+import java.time.LocalDateTime;
+
+// Sin deduplicación: cada excusa por problema eléctrico genera su propia consulta
+public class RegistroConsultasSinVentana implements IRegistroConsultasCorteLuz {
+
+    @Override
+    public ConsultaCorteLuz registrarConsulta(String emailOrigen) {
+        return new ConsultaCorteLuz(LocalDateTime.now(), true);
+    }
+
+    @Override
+    public void descartarConsulta(String emailOrigen, ConsultaCorteLuz consulta) {
+    }
+}
@@ -0,0 +1,53 @@
+package ar.edu.davinci.excusas.model.email;
+
+import ar.edu.davinci.excusas.model.email.interfaces.IRegistroDifusiones;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Recuerda los últimos prontuarios ya difundidos a todos-ceos para que N CEOs observando generen un solo email.
+// Los prontuarios se notifican apenas se crean, así que alcanza con retener los más recientes
+public class RegistroDifusionesProntuarios implements IRegistroDifusiones {
+
+    private final Map<Long, Boolean> difundidos;
+    private final AtomicLong suprimidas = new AtomicLong();
+
+    public RegistroDifusionesProntuarios(int capacidad) {
+        this.difundidos = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Boolean> masAntiguo) {
+                return size() > capacidad;
+            }
+        };
+    }
+
+    @Override
+    public boolean registrarDifusion(Long idProntuario) {
+        // Sin id no hay forma de reconocer el duplicado: se envía como antes
+        if (idProntuario == null) {
+            return true;
+        }
+        synchronized (difundidos) {
+            if (difundidos.putIfAbsent(idProntuario, Boolean.TRUE) == null) {
+                return true;
+            }
+        }
+        suprimidas.incrementAndGet();
+        return false;
+    }
+
+    @Override
+    public void descartarDifusion(Long idProntuario) {
+        if (idProntuario == null) {
+            return;
+        }
+        synchronized (difundidos) {
+            difundidos.remove(idProntuario);
+        }
+    }
+
+    public long getSuprimidas() {
+        return suprimidas.get();
+    }
+}
@@ -0,0 +1,79 @@
+package ar.edu.davinci.excusas.model.email;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Plantillas compiladas de los emails que envían los encargados. Cada una puede personalizarse con
+// <id>.asunto y <id>.cuerpo (en Spring, app.email.plantillas.<id>.asunto / .cuerpo)
+public class RegistroPlantillasEmail {
+
+    public static final String RECEPCIONISTA_ACEPTADA = "recepcionista.aceptada";
+    public static final String SUPERVISOR_CORTE_LUZ = "supervisor.corte-luz";
+    public static final String SUPERVISOR_FAMILIAR = "supervisor.familiar";
+    public static final String CEO_RESPUESTA = "ceo.respuesta";
+    public static final String CEO_NUEVO_PRONTUARIO = "ceo.nuevo-prontuario";
+    public static final String PRODUCTIVO_PROCESAMIENTO = "productivo.procesamiento";
+    public static final String POR_DEFECTO_RECHAZO = "por-defecto.rechazo";
+
+    private static final Map<String, Definicion> DEFINICIONES = new LinkedHashMap<>();
+
+    static {
+        definir(RECEPCIONISTA_ACEPTADA, "motivo demora", "la licencia fue aceptada", "empleado");
+        definir(SUPERVISOR_CORTE_LUZ, "Consulta corte de luz", "Consulta si hubo corte de luz en la zona");
+        definir(SUPERVISOR_FAMILIAR, "Consulta familiar", "¿Todo está bien con tu familiar?", "empleado");
+        definir(CEO_RESPUESTA, "Respuesta CEO", "Aprobado por creatividad", "empleado");
+        definir(CEO_NUEVO_PRONTUARIO, "Nuevo Prontuario Creado",
+                "Se ha creado un nuevo prontuario para el empleado: {empleado} (Legajo: {legajo})",
+                "empleado", "legajo");
+        definir(PRODUCTIVO_PROCESAMIENTO, "Procesamiento productivo",
+                "Procesando excusa de manera productiva para: {empleado}", "empleado", "encargado");
+        definir(POR_DEFECTO_RECHAZO, "Excusa rechazada", "Excusa rechazada: necesitamos pruebas contundentes",
+                "empleado");
+    }
+
+    private final Map<String, PlantillaEmail> plantillas;
+
+    public RegistroPlantillasEmail() {
+        this(Map.of());
+    }
+
+    public RegistroPlantillasEmail(Map<String, String> personalizadas) {
+        for (String clave : personalizadas.keySet()) {
+            int punto = clave.lastIndexOf('.');
+            String id = punto < 0 ? clave : clave.substring(0, punto);
+            String campo = punto < 0 ? "" : clave.substring(punto + 1);
+            if (!DEFINICIONES.containsKey(id) || !(campo.equals("asunto") || campo.equals("cuerpo"))) {
+                throw new IllegalArgumentException("Plantilla de email desconocida: " + clave
+                        + ". Plantillas disponibles: " + DEFINICIONES.keySet() + " (campos asunto y cuerpo)");
+            }
+        }
+
+        Map<String, PlantillaEmail> compiladas = new HashMap<>();
+        for (Map.Entry<String, Definicion> entrada : DEFINICIONES.entrySet()) {
+            String id = entrada.getKey();
+            Definicion definicion = entrada.getValue();
+            compiladas.put(id, PlantillaEmail.compilar(
+                    personalizadas.getOrDefault(id + ".asunto", definicion.asunto()),
+                    personalizadas.getOrDefault(id + ".cuerpo", definicion.cuerpo()),
+                    definicion.variables()));
+        }
+        this.plantillas = Map.copyOf(compiladas);
+    }
+
+    public PlantillaEmail obtener(String id) {
+        PlantillaEmail plantilla = plantillas.get(id);
+        if (plantilla == null) {
+            throw new IllegalArgumentException("Plantilla de email desconocida: " + id);
+        }
+        return plantilla;
+    }
+
+    private static void definir(String id, String asunto, String cuerpo, String... variables) {
+        DEFINICIONES.put(id, new Definicion(asunto, cuerpo, List.of(variables)));
+    }
+
+    private record Definicion(String asunto, String cuerpo, List<String> variables) {
+    }
+}
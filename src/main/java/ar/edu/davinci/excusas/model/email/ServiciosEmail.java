@@ -0,0 +1,58 @@
+package ar.edu.davinci.excusas.model.email;
+
+import ar.edu.davinci.excusas.model.email.interfaces.IEmailSender;
+import ar.edu.davinci.excusas.model.email.interfaces.INotificadorProductivo;
+import ar.edu.davinci.excusas.model.email.interfaces.IRegistroConsultasCorteLuz;
+
+// Colaboradores de email que la cadena entrega a cada encargado al construirlo. En Spring es un bean
+// (ver ConfiguracionEmail); fuera de Spring cada cadena arma los suyos con porDefecto
+public final class ServiciosEmail {
+
+    // Las plantillas por defecto son inmutables: todas las cadenas armadas fuera de Spring comparten una sola
+    private static final RegistroPlantillasEmail PLANTILLAS_POR_DEFECTO = new RegistroPlantillasEmail();
+
+    private final IEmailSender emailSender;
+    private final RegistroPlantillasEmail plantillas;
+    private final INotificadorProductivo notificadorProductivo;
+    private final IRegistroConsultasCorteLuz registroConsultasCorteLuz;
+
+    public ServiciosEmail(IEmailSender emailSender,
+                          RegistroPlantillasEmail plantillas,
+                          INotificadorProductivo notificadorProductivo,
+                          IRegistroConsultasCorteLuz registroConsultasCorteLuz) {
+        this.emailSender = emailSender;
+        this.plantillas = plantillas;
+        this.notificadorProductivo = notificadorProductivo;
+        this.registroConsultasCorteLuz = registroConsultasCorteLuz;
+    }
+
+    public static ServiciosEmail porDefecto() {
+        return porDefecto(new EmailSenderConcreto());
+    }
+
+    // Un email por evento, sin ventanas ni resúmenes: el comportamiento original de los encargados
+    public static ServiciosEmail porDefecto(IEmailSender emailSender) {
+        return new ServiciosEmail(
+                emailSender,
+                PLANTILLAS_POR_DEFECTO,
+                new NotificadorProductivoInmediato(emailSender, PLANTILLAS_POR_DEFECTO),
+                new RegistroConsultasSinVentana()
+        );
+    }
+
+    public IEmailSender getEmailSender() {
+        return emailSender;
+    }
+
+    public RegistroPlantillasEmail getPlantillas() {
+        return plantillas;
+    }
+
+    public INotificadorProductivo getNotificadorProductivo() {
+        return notificadorProductivo;
+    }
+
+    public IRegistroConsultasCorteLuz getRegistroConsultasCorteLuz() {
+        return registroConsultasCorteLuz;
+    }
+}
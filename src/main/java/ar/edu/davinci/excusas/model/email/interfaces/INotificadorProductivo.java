@@ -0,0 +1,5 @@
+package ar.edu.davinci.excusas.model.email.interfaces;
+
+public interface INotificadorProductivo {
+    void notificarProcesamiento(String emailOrigen, String nombreEmpleado);
+}
@@ -0,0 +1,8 @@
+package ar.edu.davinci.excusas.model.email.interfaces;
+
+import ar.edu.davinci.excusas.model.email.ConsultaCorteLuz;
+
+public interface IRegistroConsultasCorteLuz {
+    ConsultaCorteLuz registrarConsulta(String emailOrigen);
+    void descartarConsulta(String emailOrigen, ConsultaCorteLuz consulta);
+}
@@ -0,0 +1,9 @@
+package ar.edu.davinci.excusas.model.email.interfaces;
+
+public interface IRegistroDifusiones {
+    // true solo para el primer aviso de cada prontuario: los demás observadores no vuelven a enviarlo
+    boolean registrarDifusion(Long idProntuario);
+
+    // Si el aviso no se pudo enviar, el próximo intento (o el reenvío de la notificación fallida) lo vuelve a mandar
+    void descartarDifusion(Long idProntuario);
+}
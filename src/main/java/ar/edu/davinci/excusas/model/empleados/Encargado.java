@@ -2,14 +2,18 @@ package ar.edu.davinci.excusas.model.empleados;
 
 import ar.edu.davinci.excusas.model.empleados.interfaces.IEncargado;
 import ar.edu.davinci.excusas.model.empleados.interfaces.IManejadorExcusas;
+import ar.edu.davinci.excusas.model.empleados.encargados.metricas.IMedidorEncargado;
 import ar.edu.davinci.excusas.model.empleados.encargados.modos.interfaces.IModoManejo;
 import ar.edu.davinci.excusas.model.empleados.encargados.modos.ModoNormal;
 import ar.edu.davinci.excusas.model.excusas.Excusa;
 
 public abstract class Encargado extends Empleado implements IEncargado {
 
-    private IManejadorExcusas siguiente;
-    private IModoManejo modo;
+    // volatile: la cadena se recorre desde varios hilos a la vez
+    private volatile IManejadorExcusas siguiente;
+    private volatile IModoManejo modo;
+    private volatile Runnable oyenteConfiguracion = () -> { };
+    private volatile IMedidorEncargado medidor = IMedidorEncargado.NULO;
 
     public Encargado(String nombre, String email, int legajo) {
         super(nombre, email, legajo);
@@ -19,6 +23,7 @@ public abstract class Encargado extends Empleado implements IEncargado {
     @Override
     public void setSiguiente(IManejadorExcusas siguiente) {
         this.siguiente = siguiente;
+        this.oyenteConfiguracion.run();
     }
 
     @Override
@@ -29,6 +34,7 @@ public abstract class Encargado extends Empleado implements IEncargado {
     @Override
     public void setModo(IModoManejo modo) {
         this.modo = modo;
+        this.oyenteConfiguracion.run();
     }
 
     @Override
@@ -37,17 +43,20 @@ public abstract class Encargado extends Empleado implements IEncargado {
     }
 
     @Override
-    public void manejarExcusa(Excusa excusa) {
-        this.modo.manejar(this, excusa);
+    public IManejadorExcusas manejarExcusa(Excusa excusa) {
+        this.medidor.registrarPaso();
+        return this.modo.manejar(this, excusa);
     }
 
     @Override
-    public final void ejecutarProcesamiento(Excusa excusa) {
+    public final IManejadorExcusas ejecutarProcesamiento(Excusa excusa) {
         if (excusa.puedeSerManejadaPor(this)) {
+            long inicio = System.nanoTime();
             this.procesarExcusa(excusa);
-        } else {
-            this.getSiguiente().manejarExcusa(excusa);
+            this.medidor.registrarProcesamiento(System.nanoTime() - inicio, true);
+            return this;
         }
+        return this.getSiguiente().manejarExcusa(excusa);
     }
 
     @Override
@@ -77,4 +86,20 @@ public abstract class Encargado extends Empleado implements IEncargado {
     public String getEmailOrigen() {
         return this.getEmail();
     }
+
+    @Override
+    public void setOyenteConfiguracion(Runnable oyente) {
+        this.oyenteConfiguracion = oyente;
+    }
+
+    @Override
+    public void setMedidor(IMedidorEncargado medidor) {
+        this.medidor = medidor;
+        this.oyenteConfiguracion.run();
+    }
+
+    @Override
+    public IMedidorEncargado getMedidor() {
+        return this.medidor;
+    }
 }
@@ -2,7 +2,10 @@ package ar.edu.davinci.excusas.model.empleados.encargados;
 
 import ar.edu.davinci.excusas.model.prontuarios.interfaces.IObserver;
 import ar.edu.davinci.excusas.model.prontuarios.Prontuario;
-import ar.edu.davinci.excusas.model.email.EmailSenderConcreto;
+import ar.edu.davinci.excusas.model.email.PlantillaEmail;
+import ar.edu.davinci.excusas.model.email.RegistroPlantillasEmail;
+import ar.edu.davinci.excusas.model.email.ServiciosEmail;
+import ar.edu.davinci.excusas.model.email.interfaces.IRegistroDifusiones;
 import ar.edu.davinci.excusas.model.empleados.Encargado;
 import ar.edu.davinci.excusas.model.excusas.Excusa;
 import ar.edu.davinci.excusas.model.prontuarios.AdministradorProntuarios;
@@ -11,16 +14,21 @@ import ar.edu.davinci.excusas.model.prontuarios.AdministradorProntuariosJPA;
 public class CEO extends Encargado implements IObserver {
 
     private final AdministradorProntuariosJPA administradorProntuariosJPA;
+    private final ServiciosEmail serviciosEmail;
 
     public CEO(String nombre, String email, int legajo) {
-        super(nombre, email, legajo);
-        this.administradorProntuariosJPA = null;
-        AdministradorProntuarios.getInstance().agregarObservador(this);
+        this(nombre, email, legajo, null);
     }
 
     public CEO(String nombre, String email, int legajo, AdministradorProntuariosJPA administradorProntuarios) {
+        this(nombre, email, legajo, administradorProntuarios, ServiciosEmail.porDefecto());
+    }
+
+    public CEO(String nombre, String email, int legajo, AdministradorProntuariosJPA administradorProntuarios,
+               ServiciosEmail serviciosEmail) {
         super(nombre, email, legajo);
         this.administradorProntuariosJPA = administradorProntuarios;
+        this.serviciosEmail = serviciosEmail;
         if (administradorProntuarios != null) {
             administradorProntuarios.agregarObservador(this);
         } else {
@@ -35,11 +43,13 @@ public class CEO extends Encargado implements IObserver {
 
     @Override
     public void procesarExcusa(Excusa excusa) {
-        new EmailSenderConcreto().enviarEmail(
+        PlantillaEmail plantilla = serviciosEmail.getPlantillas()
+                .obtener(RegistroPlantillasEmail.CEO_RESPUESTA);
+        serviciosEmail.getEmailSender().enviarEmail(
                 excusa.getEmailEmpleado(),
                 this.getEmail(),
-                "Respuesta CEO",
-                "Aprobado por creatividad"
+                plantilla.renderizarAsunto(excusa.getNombreEmpleado()),
+                plantilla.renderizarCuerpo(excusa.getNombreEmpleado())
         );
 
         // Use JPA administrator if available, otherwise use the singleton
@@ -60,14 +70,36 @@ public class CEO extends Encargado implements IObserver {
         this.notificarOtrosCEOs(prontuario);
     }
 
+    // Puede haber varios CEOs observando (uno por cadena): el reenvío se dirige al que falló
+    @Override
+    public String getIdentificadorObservador() {
+        return "CEO " + this.getEmail();
+    }
+
     private void notificarOtrosCEOs(Prontuario prontuario) {
-        new EmailSenderConcreto().enviarEmail(
-                "todos-ceos@excusas.com",
-                this.getEmail(),
-                "Nuevo Prontuario Creado",
-                "Se ha creado un nuevo prontuario para el empleado: " +
-                        prontuario.getEmpleado().getNombre() + " (Legajo: " + prontuario.getLegajo() + ")"
-        );
+        // Todos los CEOs de un administrador observan el mismo prontuario: el aviso a todos-ceos sale una sola vez
+        IRegistroDifusiones difusiones = administradorProntuariosJPA != null
+                ? administradorProntuariosJPA.getDifusiones()
+                : AdministradorProntuarios.getInstance().getDifusiones();
+        if (!difusiones.registrarDifusion(prontuario.getId())) {
+            return;
+        }
+
+        PlantillaEmail plantilla = serviciosEmail.getPlantillas()
+                .obtener(RegistroPlantillasEmail.CEO_NUEVO_PRONTUARIO);
+        String empleado = prontuario.getEmpleado().getNombre();
+        int legajo = prontuario.getLegajo();
+        try {
+            serviciosEmail.getEmailSender().enviarEmail(
+                    "todos-ceos@excusas.com",
+                    this.getEmail(),
+                    plantilla.renderizarAsunto(empleado, legajo),
+                    plantilla.renderizarCuerpo(empleado, legajo)
+            );
+        } catch (RuntimeException e) {
+            difusiones.descartarDifusion(prontuario.getId());
+            throw e;
+        }
         System.out.println("Notificando a todos los CEOs sobre el nuevo prontuario");
     }
 }
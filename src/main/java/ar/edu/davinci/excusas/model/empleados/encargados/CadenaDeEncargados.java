@@ -1,52 +1,189 @@
 package ar.edu.davinci.excusas.model.empleados.encargados;
 
+import ar.edu.davinci.excusas.model.email.ServiciosEmail;
+import ar.edu.davinci.excusas.model.empleados.encargados.metricas.IMetricasEncargados;
+import ar.edu.davinci.excusas.model.empleados.encargados.modos.interfaces.IModoManejo;
 import ar.edu.davinci.excusas.model.excusas.Excusa;
 import ar.edu.davinci.excusas.model.empleados.interfaces.IManejadorExcusas;
 import ar.edu.davinci.excusas.model.prontuarios.AdministradorProntuariosJPA;
+import ar.edu.davinci.excusas.model.prontuarios.interfaces.IObserver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class CadenaDeEncargados {
 
     private final IManejadorExcusas primerEncargado;
+    private final List<IManejadorExcusas> manejadores = new ArrayList<>();
+    private final AdministradorProntuariosJPA administradorProntuarios;
+    private final long version;
+    private final IMetricasEncargados metricas;
+    private final ServiciosEmail serviciosEmail;
+    private final AtomicLong cambiosConfiguracion = new AtomicLong();
+    private volatile TablaDeRuteo tablaDeRuteo;
 
     public CadenaDeEncargados() {
+        this(ServiciosEmail.porDefecto());
+    }
+
+    public CadenaDeEncargados(ServiciosEmail serviciosEmail) {
+        this.administradorProntuarios = null;
+        this.version = 0;
+        this.metricas = IMetricasEncargados.NULAS;
+        this.serviciosEmail = serviciosEmail;
         this.primerEncargado = this.construirCadena();
     }
 
     public CadenaDeEncargados(AdministradorProntuariosJPA administradorProntuarios) {
+        this.administradorProntuarios = administradorProntuarios;
+        this.version = 0;
+        this.metricas = IMetricasEncargados.NULAS;
+        this.serviciosEmail = ServiciosEmail.porDefecto();
         this.primerEncargado = this.construirCadenaConJPA(administradorProntuarios);
     }
 
+    // Copia los encargados configurados (en orden) para no compartir estado con la configuración
+    public CadenaDeEncargados(List<IManejadorExcusas> configuracion,
+                              AdministradorProntuariosJPA administradorProntuarios,
+                              long version) {
+        this(configuracion, administradorProntuarios, version, IMetricasEncargados.NULAS);
+    }
+
+    public CadenaDeEncargados(List<IManejadorExcusas> configuracion,
+                              AdministradorProntuariosJPA administradorProntuarios,
+                              long version,
+                              IMetricasEncargados metricas) {
+        this(configuracion, configuracion.stream().map(IManejadorExcusas::getModo).toList(),
+                administradorProntuarios, version, metricas);
+    }
+
+    public CadenaDeEncargados(List<IManejadorExcusas> configuracion,
+                              List<IModoManejo> modos,
+                              AdministradorProntuariosJPA administradorProntuarios,
+                              long version,
+                              IMetricasEncargados metricas) {
+        this(configuracion, modos, administradorProntuarios, version, metricas, ServiciosEmail.porDefecto());
+    }
+
+    // El modo de cada eslabón se toma de la lista de modos y no del encargado configurado; las copias
+    // envían sus emails con los servicios de la cadena y no con los del encargado configurado
+    public CadenaDeEncargados(List<IManejadorExcusas> configuracion,
+                              List<IModoManejo> modos,
+                              AdministradorProntuariosJPA administradorProntuarios,
+                              long version,
+                              IMetricasEncargados metricas,
+                              ServiciosEmail serviciosEmail) {
+        this.administradorProntuarios = administradorProntuarios;
+        this.version = version;
+        this.metricas = metricas;
+        this.serviciosEmail = serviciosEmail;
+        this.primerEncargado = this.construirCadenaDesdeConfiguracion(configuracion, modos, administradorProntuarios);
+    }
+
     private IManejadorExcusas construirCadena() {
-        IManejadorExcusas recepcionista = new Recepcionista("Laura Recep", "laura@excusas.com", 2001);
-        IManejadorExcusas supervisor = new SupervisorArea("Pedro Super", "pedro@excusas.com", 2002);
+        IManejadorExcusas recepcionista = new Recepcionista("Laura Recep", "laura@excusas.com", 2001, serviciosEmail);
+        IManejadorExcusas supervisor = new SupervisorArea("Pedro Super", "pedro@excusas.com", 2002, serviciosEmail);
         IManejadorExcusas gerente = new GerenteRecursosHumanos("Sofia Gerente", "sofia@excusas.com", 2003);
-        IManejadorExcusas ceo = new CEO("Roberto CEO", "roberto@excusas.com", 2004);
-        IManejadorExcusas encargadoDefecto = new EncargadoPorDefecto();
+        IManejadorExcusas ceo = new CEO("Roberto CEO", "roberto@excusas.com", 2004, null, serviciosEmail);
+        IManejadorExcusas encargadoDefecto = new EncargadoPorDefecto(serviciosEmail);
 
-        recepcionista.setSiguiente(supervisor);
-        supervisor.setSiguiente(gerente);
-        gerente.setSiguiente(ceo);
-        ceo.setSiguiente(encargadoDefecto);
-
-        return recepcionista;
+        return this.enlazar(List.of(recepcionista, supervisor, gerente, ceo, encargadoDefecto));
     }
 
     private IManejadorExcusas construirCadenaConJPA(AdministradorProntuariosJPA administradorProntuarios) {
-        IManejadorExcusas recepcionista = new Recepcionista("Laura Recep", "laura@excusas.com", 2001);
-        IManejadorExcusas supervisor = new SupervisorArea("Pedro Super", "pedro@excusas.com", 2002);
+        IManejadorExcusas recepcionista = new Recepcionista("Laura Recep", "laura@excusas.com", 2001, serviciosEmail);
+        IManejadorExcusas supervisor = new SupervisorArea("Pedro Super", "pedro@excusas.com", 2002, serviciosEmail);
         IManejadorExcusas gerente = new GerenteRecursosHumanos("Sofia Gerente", "sofia@excusas.com", 2003);
-        IManejadorExcusas ceo = new CEO("Roberto CEO", "roberto@excusas.com", 2004, administradorProntuarios);
-        IManejadorExcusas encargadoDefecto = new EncargadoPorDefecto();
+        IManejadorExcusas ceo = new CEO("Roberto CEO", "roberto@excusas.com", 2004, administradorProntuarios, serviciosEmail);
+        IManejadorExcusas encargadoDefecto = new EncargadoPorDefecto(serviciosEmail);
+
+        return this.enlazar(List.of(recepcionista, supervisor, gerente, ceo, encargadoDefecto));
+    }
 
-        recepcionista.setSiguiente(supervisor);
-        supervisor.setSiguiente(gerente);
-        gerente.setSiguiente(ceo);
-        ceo.setSiguiente(encargadoDefecto);
+    private IManejadorExcusas construirCadenaDesdeConfiguracion(List<IManejadorExcusas> configuracion,
+                                                               List<IModoManejo> modos,
+                                                               AdministradorProntuariosJPA administradorProntuarios) {
+        List<IManejadorExcusas> eslabones = new ArrayList<>();
+        for (int i = 0; i < configuracion.size(); i++) {
+            IManejadorExcusas copia = this.copiar(configuracion.get(i), administradorProntuarios);
+            copia.setModo(modos.get(i));
+            eslabones.add(copia);
+        }
+        eslabones.add(new EncargadoPorDefecto(serviciosEmail));
+
+        return this.enlazar(eslabones);
+    }
+
+    private IManejadorExcusas copiar(IManejadorExcusas original, AdministradorProntuariosJPA administradorProntuarios) {
+        if (original instanceof Recepcionista r) {
+            return new Recepcionista(r.getNombre(), r.getEmail(), r.getLegajo(), serviciosEmail);
+        }
+        if (original instanceof SupervisorArea s) {
+            return new SupervisorArea(s.getNombre(), s.getEmail(), s.getLegajo(), serviciosEmail);
+        }
+        if (original instanceof GerenteRecursosHumanos g) {
+            return new GerenteRecursosHumanos(g.getNombre(), g.getEmail(), g.getLegajo());
+        }
+        if (original instanceof CEO c) {
+            return new CEO(c.getNombre(), c.getEmail(), c.getLegajo(), administradorProntuarios, serviciosEmail);
+        }
+        if (original instanceof EncargadoDinamico d) {
+            return new EncargadoDinamico(d.getNombre(), d.getEmail(), d.getLegajo(), d.getMascaraCapacidades());
+        }
+        throw new IllegalArgumentException("Tipo de encargado no soportado en la cadena: " +
+                original.getClass().getSimpleName());
+    }
+
+    private IManejadorExcusas enlazar(List<IManejadorExcusas> eslabones) {
+        for (int i = 0; i < eslabones.size() - 1; i++) {
+            eslabones.get(i).setSiguiente(eslabones.get(i + 1));
+        }
+        for (IManejadorExcusas eslabon : eslabones) {
+            eslabon.setMedidor(this.metricas.medidorPara(eslabon));
+            eslabon.setOyenteConfiguracion(this.cambiosConfiguracion::incrementAndGet);
+        }
+        this.manejadores.addAll(eslabones);
+        return eslabones.get(0);
+    }
+
+    // Devuelve el encargado que terminó procesando la excusa
+    public IManejadorExcusas procesarExcusa(Excusa excusa) {
+        return this.obtenerTablaDeRuteo().procesarExcusa(excusa);
+    }
+
+    public IManejadorExcusas procesarExcusaRecorriendo(Excusa excusa) {
+        return this.primerEncargado.manejarExcusa(excusa);
+    }
+
+    // Cualquier setModo/setSiguiente sobre un eslabón invalida la tabla; se recompila en el próximo uso
+    public TablaDeRuteo obtenerTablaDeRuteo() {
+        TablaDeRuteo tabla = this.tablaDeRuteo;
+        long cambios = this.cambiosConfiguracion.get();
+        if (tabla == null || tabla.getVersion() != cambios) {
+            tabla = TablaDeRuteo.compilar(this.primerEncargado, cambios);
+            this.tablaDeRuteo = tabla;
+        }
+        return tabla;
+    }
+
+    public List<IManejadorExcusas> getEncargados() {
+        return List.copyOf(this.manejadores);
+    }
 
-        return recepcionista;
+    public long getVersion() {
+        return this.version;
     }
 
-    public void procesarExcusa(Excusa excusa) {
-        this.primerEncargado.manejarExcusa(excusa);
+    // Una cadena reemplazada deja de observar al administrador de prontuarios
+    public void desconectar() {
+        if (this.administradorProntuarios == null) {
+            return;
+        }
+        for (IManejadorExcusas manejador : this.manejadores) {
+            if (manejador instanceof IObserver observador) {
+                this.administradorProntuarios.eliminarObservador(observador);
+            }
+        }
     }
 }
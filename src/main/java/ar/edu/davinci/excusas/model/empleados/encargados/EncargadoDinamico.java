@@ -2,38 +2,43 @@ package ar.edu.davinci.excusas.model.empleados.encargados;
 
 import ar.edu.davinci.excusas.model.empleados.Encargado;
 import ar.edu.davinci.excusas.model.excusas.Excusa;
+import ar.edu.davinci.excusas.model.excusas.motivos.CategoriaMotivo;
 
 import java.util.List;
 
 public class EncargadoDinamico extends Encargado {
 
+    private final int mascaraCapacidades;
     private final List<String> capacidades;
 
     public EncargadoDinamico(String nombre, String email, int legajo, List<String> capacidades) {
+        this(nombre, email, legajo, CategoriaMotivo.mascaraDe(capacidades));
+    }
+
+    public EncargadoDinamico(String nombre, String email, int legajo, int mascaraCapacidades) {
         super(nombre, email, legajo);
-        this.capacidades = capacidades.stream()
-                .map(String::toUpperCase)
-                .toList();
+        this.mascaraCapacidades = mascaraCapacidades;
+        this.capacidades = CategoriaMotivo.nombresDe(mascaraCapacidades);
     }
 
     @Override
     public boolean puedeManejarTrivial() {
-        return capacidades.contains("TRIVIAL");
+        return CategoriaMotivo.TRIVIAL.estaEn(mascaraCapacidades);
     }
 
     @Override
     public boolean puedeManejarModerado() {
-        return capacidades.contains("MODERADO");
+        return CategoriaMotivo.MODERADO.estaEn(mascaraCapacidades);
     }
 
     @Override
     public boolean puedeManejarComplejo() {
-        return capacidades.contains("COMPLEJO");
+        return CategoriaMotivo.COMPLEJO.estaEn(mascaraCapacidades);
     }
 
     @Override
     public boolean puedeManejarInverosimil() {
-        return capacidades.contains("INVEROSIMIL");
+        return CategoriaMotivo.INVEROSIMIL.estaEn(mascaraCapacidades);
     }
 
     @Override
@@ -50,5 +55,8 @@ public class EncargadoDinamico extends Encargado {
     public List<String> getCapacidades() {
         return capacidades;
     }
-}
 
+    public int getMascaraCapacidades() {
+        return mascaraCapacidades;
+    }
+}
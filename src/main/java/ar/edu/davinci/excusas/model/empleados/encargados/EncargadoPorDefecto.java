@@ -1,23 +1,35 @@
 package ar.edu.davinci.excusas.model.empleados.encargados;
 
-import ar.edu.davinci.excusas.model.email.EmailSenderConcreto;
+import ar.edu.davinci.excusas.model.email.PlantillaEmail;
+import ar.edu.davinci.excusas.model.email.RegistroPlantillasEmail;
+import ar.edu.davinci.excusas.model.email.ServiciosEmail;
 import ar.edu.davinci.excusas.model.empleados.interfaces.IManejadorExcusas;
+import ar.edu.davinci.excusas.model.empleados.encargados.metricas.IMedidorEncargado;
 import ar.edu.davinci.excusas.model.empleados.encargados.modos.interfaces.IModoManejo;
 import ar.edu.davinci.excusas.model.empleados.encargados.modos.ModoNormal;
 import ar.edu.davinci.excusas.model.excusas.Excusa;
 
 public class EncargadoPorDefecto implements IManejadorExcusas {
 
-    private IManejadorExcusas siguiente;
-    private IModoManejo modo;
+    private volatile IManejadorExcusas siguiente;
+    private volatile IModoManejo modo;
+    private volatile Runnable oyenteConfiguracion = () -> { };
+    private volatile IMedidorEncargado medidor = IMedidorEncargado.NULO;
+    private final ServiciosEmail serviciosEmail;
 
     public EncargadoPorDefecto() {
+        this(ServiciosEmail.porDefecto());
+    }
+
+    public EncargadoPorDefecto(ServiciosEmail serviciosEmail) {
         this.modo = new ModoNormal();
+        this.serviciosEmail = serviciosEmail;
     }
 
     @Override
     public void setSiguiente(IManejadorExcusas siguiente) {
         this.siguiente = siguiente;
+        this.oyenteConfiguracion.run();
     }
 
     @Override
@@ -28,6 +40,7 @@ public class EncargadoPorDefecto implements IManejadorExcusas {
     @Override
     public void setModo(IModoManejo modo) {
         this.modo = modo;
+        this.oyenteConfiguracion.run();
     }
 
     @Override
@@ -36,24 +49,30 @@ public class EncargadoPorDefecto implements IManejadorExcusas {
     }
 
     @Override
-    public void manejarExcusa(Excusa excusa) {
-        this.modo.manejar(this, excusa);
+    public IManejadorExcusas manejarExcusa(Excusa excusa) {
+        this.medidor.registrarPaso();
+        return this.modo.manejar(this, excusa);
     }
 
     @Override
-    public void ejecutarProcesamiento(Excusa excusa) {
+    public IManejadorExcusas ejecutarProcesamiento(Excusa excusa) {
+        long inicio = System.nanoTime();
         this.procesarExcusa(excusa);
+        this.medidor.registrarProcesamiento(System.nanoTime() - inicio, false);
+        return this;
     }
 
     @Override
     public void procesarExcusa(Excusa excusa) {
         System.out.println("Excusa rechazada: necesitamos pruebas contundentes");
 
-        new EmailSenderConcreto().enviarEmail(
+        PlantillaEmail plantilla = serviciosEmail.getPlantillas()
+                .obtener(RegistroPlantillasEmail.POR_DEFECTO_RECHAZO);
+        serviciosEmail.getEmailSender().enviarEmail(
                 excusa.getEmailEmpleado(),
                 "sistema@excusas.com",
-                "Excusa rechazada",
-                "Excusa rechazada: necesitamos pruebas contundentes"
+                plantilla.renderizarAsunto(excusa.getNombreEmpleado()),
+                plantilla.renderizarCuerpo(excusa.getNombreEmpleado())
         );
     }
 
@@ -81,4 +100,20 @@ public class EncargadoPorDefecto implements IManejadorExcusas {
     public String getEmailOrigen() {
         return "sistema@excusas.com";
     }
+
+    @Override
+    public void setOyenteConfiguracion(Runnable oyente) {
+        this.oyenteConfiguracion = oyente;
+    }
+
+    @Override
+    public void setMedidor(IMedidorEncargado medidor) {
+        this.medidor = medidor;
+        this.oyenteConfiguracion.run();
+    }
+
+    @Override
+    public IMedidorEncargado getMedidor() {
+        return this.medidor;
+    }
 }
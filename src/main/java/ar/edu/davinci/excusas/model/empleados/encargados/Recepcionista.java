@@ -1,13 +1,22 @@
 package ar.edu.davinci.excusas.model.empleados.encargados;
 
-import ar.edu.davinci.excusas.model.email.EmailSenderConcreto;
+import ar.edu.davinci.excusas.model.email.PlantillaEmail;
+import ar.edu.davinci.excusas.model.email.RegistroPlantillasEmail;
+import ar.edu.davinci.excusas.model.email.ServiciosEmail;
 import ar.edu.davinci.excusas.model.excusas.Excusa;
 import ar.edu.davinci.excusas.model.empleados.Encargado;
 
 public class Recepcionista extends Encargado {
 
+    private final ServiciosEmail serviciosEmail;
+
     public Recepcionista(String nombre, String email, int legajo) {
+        this(nombre, email, legajo, ServiciosEmail.porDefecto());
+    }
+
+    public Recepcionista(String nombre, String email, int legajo, ServiciosEmail serviciosEmail) {
         super(nombre, email, legajo);
+        this.serviciosEmail = serviciosEmail;
     }
 
     @Override
@@ -17,11 +26,13 @@ public class Recepcionista extends Encargado {
 
     @Override
     public void procesarExcusa(Excusa excusa) {
-        new EmailSenderConcreto().enviarEmail(
+        PlantillaEmail plantilla = serviciosEmail.getPlantillas()
+                .obtener(RegistroPlantillasEmail.RECEPCIONISTA_ACEPTADA);
+        serviciosEmail.getEmailSender().enviarEmail(
                 excusa.getEmailEmpleado(),
                 this.getEmail(),
-                "motivo demora",
-                "la licencia fue aceptada"
+                plantilla.renderizarAsunto(excusa.getNombreEmpleado()),
+                plantilla.renderizarCuerpo(excusa.getNombreEmpleado())
         );
     }
 }
@@ -1,13 +1,24 @@
 package ar.edu.davinci.excusas.model.empleados.encargados;
 
-import ar.edu.davinci.excusas.model.email.EmailSenderConcreto;
+import ar.edu.davinci.excusas.model.email.ConsultaCorteLuz;
+import ar.edu.davinci.excusas.model.email.PlantillaEmail;
+import ar.edu.davinci.excusas.model.email.RegistroPlantillasEmail;
+import ar.edu.davinci.excusas.model.email.ServiciosEmail;
+import ar.edu.davinci.excusas.model.email.interfaces.IRegistroConsultasCorteLuz;
 import ar.edu.davinci.excusas.model.excusas.Excusa;
 import ar.edu.davinci.excusas.model.empleados.Encargado;
 
 public class SupervisorArea extends Encargado {
 
+    private final ServiciosEmail serviciosEmail;
+
     public SupervisorArea(String nombre, String email, int legajo) {
+        this(nombre, email, legajo, ServiciosEmail.porDefecto());
+    }
+
+    public SupervisorArea(String nombre, String email, int legajo, ServiciosEmail serviciosEmail) {
         super(nombre, email, legajo);
+        this.serviciosEmail = serviciosEmail;
     }
 
     @Override
@@ -21,21 +32,37 @@ public class SupervisorArea extends Encargado {
     }
 
     public void procesarProblemaElectrico(Excusa excusa) {
-        new EmailSenderConcreto().enviarEmail(
-                "EDESUR@mailfake.com.ar",
-                this.getEmail(),
-                "Consulta corte de luz",
-                "Consulta si hubo corte de luz en la zona"
-        );
+        IRegistroConsultasCorteLuz registro = serviciosEmail.getRegistroConsultasCorteLuz();
+        ConsultaCorteLuz consulta = registro.registrarConsulta(this.getEmail());
+        if (!consulta.nueva()) {
+            System.out.println("Se reutiliza la consulta a EDESUR del " + consulta.fechaConsulta());
+            return;
+        }
+
+        PlantillaEmail plantilla = serviciosEmail.getPlantillas()
+                .obtener(RegistroPlantillasEmail.SUPERVISOR_CORTE_LUZ);
+        try {
+            serviciosEmail.getEmailSender().enviarEmail(
+                    "EDESUR@mailfake.com.ar",
+                    this.getEmail(),
+                    plantilla.renderizarAsunto(),
+                    plantilla.renderizarCuerpo()
+            );
+        } catch (RuntimeException e) {
+            registro.descartarConsulta(this.getEmail(), consulta);
+            throw e;
+        }
         System.out.println("Consultando a EDESUR sobre corte de luz en la zona");
     }
 
     public void procesarProblemaFamiliar(Excusa excusa) {
-        new EmailSenderConcreto().enviarEmail(
+        PlantillaEmail plantilla = serviciosEmail.getPlantillas()
+                .obtener(RegistroPlantillasEmail.SUPERVISOR_FAMILIAR);
+        serviciosEmail.getEmailSender().enviarEmail(
                 excusa.getEmailEmpleado(),
                 this.getEmail(),
-                "Consulta familiar",
-                "¿Todo está bien con tu familiar?"
+                plantilla.renderizarAsunto(excusa.getNombreEmpleado()),
+                plantilla.renderizarCuerpo(excusa.getNombreEmpleado())
         );
         System.out.println("Preguntando al empleado si todo está bien con el familiar");
     }
@@ -0,0 +1,130 @@
+package ar.edu.davinci.excusas.model.empleados.encargados;
+
+import ar.edu.davinci.excusas.model.empleados.encargados.metricas.IMedidorEncargado;
+import ar.edu.davinci.excusas.model.empleados.encargados.modos.ModoNormal;
+import ar.edu.davinci.excusas.model.empleados.encargados.modos.ModoProductivo;
+import ar.edu.davinci.excusas.model.empleados.encargados.modos.ModoVago;
+import ar.edu.davinci.excusas.model.empleados.encargados.modos.interfaces.IModoManejo;
+import ar.edu.davinci.excusas.model.empleados.interfaces.IManejadorExcusas;
+import ar.edu.davinci.excusas.model.excusas.Excusa;
+import ar.edu.davinci.excusas.model.excusas.motivos.CategoriaMotivo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Resultado precalculado de recorrer la cadena para cada categoría de motivo con los modos actuales:
+// qué encargado termina procesando la excusa, qué encargados productivos se atraviesan antes y
+// qué medidores registrarían los pasos y delegaciones del recorrido.
+public class TablaDeRuteo {
+
+    private static final CategoriaMotivo[] CATEGORIAS = CategoriaMotivo.values();
+
+    private final long version;
+    private final IManejadorExcusas primerEncargado;
+    private final IManejadorExcusas[] terminales;
+    private final PasoProductivo[][] productivos;
+    private final Recorrido[] recorridos;
+
+    private TablaDeRuteo(long version, IManejadorExcusas primerEncargado, IManejadorExcusas[] terminales,
+                         PasoProductivo[][] productivos, Recorrido[] recorridos) {
+        this.version = version;
+        this.primerEncargado = primerEncargado;
+        this.terminales = terminales;
+        this.productivos = productivos;
+        this.recorridos = recorridos;
+    }
+
+    public static TablaDeRuteo compilar(IManejadorExcusas primerEncargado, long version) {
+        IManejadorExcusas[] terminales = new IManejadorExcusas[CATEGORIAS.length];
+        PasoProductivo[][] productivos = new PasoProductivo[CATEGORIAS.length][];
+        Recorrido[] recorridos = new Recorrido[CATEGORIAS.length];
+
+        for (CategoriaMotivo categoria : CATEGORIAS) {
+            List<PasoProductivo> pasos = new ArrayList<>();
+            List<IMedidorEncargado> visitados = new ArrayList<>();
+            List<IMedidorEncargado> delegaciones = new ArrayList<>();
+            IManejadorExcusas terminal = resolver(primerEncargado, categoria, pasos, visitados, delegaciones);
+            if (terminal == null) {
+                // Modos desconocidos o cadena sin cierre: se recorre la cadena como siempre
+                return new TablaDeRuteo(version, primerEncargado, null, null, null);
+            }
+            terminales[categoria.ordinal()] = terminal;
+            productivos[categoria.ordinal()] = pasos.toArray(new PasoProductivo[0]);
+            recorridos[categoria.ordinal()] = new Recorrido(
+                    visitados.toArray(new IMedidorEncargado[0]),
+                    delegaciones.toArray(new IMedidorEncargado[0]),
+                    terminal.getMedidor(),
+                    !(terminal instanceof EncargadoPorDefecto)
+            );
+        }
+
+        return new TablaDeRuteo(version, primerEncargado, terminales, productivos, recorridos);
+    }
+
+    // Reproduce IModoManejo.manejar / Encargado.ejecutarProcesamiento sin efectos colaterales
+    private static IManejadorExcusas resolver(IManejadorExcusas encargado, CategoriaMotivo categoria,
+                                              List<PasoProductivo> pasos, List<IMedidorEncargado> visitados,
+                                              List<IMedidorEncargado> delegaciones) {
+        while (encargado != null) {
+            visitados.add(encargado.getMedidor());
+            IModoManejo modo = encargado.getModo();
+            if (modo instanceof ModoVago) {
+                delegaciones.add(encargado.getMedidor());
+                encargado = encargado.getSiguiente();
+                continue;
+            }
+            if (modo instanceof ModoProductivo productivo) {
+                pasos.add(new PasoProductivo(productivo, encargado));
+            } else if (!(modo instanceof ModoNormal)) {
+                return null;
+            }
+            if (encargado instanceof EncargadoPorDefecto || categoria.esAceptablePor(encargado)) {
+                return encargado;
+            }
+            encargado = encargado.getSiguiente();
+        }
+        return null;
+    }
+
+    public IManejadorExcusas procesarExcusa(Excusa excusa) {
+        if (terminales == null) {
+            return primerEncargado.manejarExcusa(excusa);
+        }
+
+        int indice = excusa.getMotivo().getCategoria().ordinal();
+        Recorrido recorrido = recorridos[indice];
+        for (IMedidorEncargado visitado : recorrido.visitados()) {
+            visitado.registrarPaso();
+        }
+        for (IMedidorEncargado delegacion : recorrido.delegaciones()) {
+            delegacion.registrarDelegacion();
+        }
+        for (PasoProductivo paso : productivos[indice]) {
+            paso.modo().notificarProcesamiento(paso.encargado(), excusa);
+        }
+        IManejadorExcusas terminal = terminales[indice];
+        long inicio = System.nanoTime();
+        terminal.procesarExcusa(excusa);
+        recorrido.terminal().registrarProcesamiento(System.nanoTime() - inicio, recorrido.aceptada());
+        return terminal;
+    }
+
+    public IManejadorExcusas obtenerTerminal(CategoriaMotivo categoria) {
+        return terminales == null ? null : terminales[categoria.ordinal()];
+    }
+
+    public boolean estaCompilada() {
+        return terminales != null;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    private record PasoProductivo(ModoProductivo modo, IManejadorExcusas encargado) {
+    }
+
+    private record Recorrido(IMedidorEncargado[] visitados, IMedidorEncargado[] delegaciones,
+                             IMedidorEncargado terminal, boolean aceptada) {
+    }
+}
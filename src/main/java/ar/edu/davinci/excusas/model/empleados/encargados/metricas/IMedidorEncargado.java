@@ -0,0 +1,22 @@
+package ar.edu.davinci.excusas.model.empleados.encargados.metricas;
+
+public interface IMedidorEncargado {
+
+    IMedidorEncargado NULO = new IMedidorEncargado() {
+        @Override
+        public void registrarPaso() {
+        }
+
+        @Override
+        public void registrarDelegacion() {
+        }
+
+        @Override
+        public void registrarProcesamiento(long nanos, boolean aceptada) {
+        }
+    };
+
+    void registrarPaso();
+    void registrarDelegacion();
+    void registrarProcesamiento(long nanos, boolean aceptada);
+}
@@ -0,0 +1,10 @@
+package ar.edu.davinci.excusas.model.empleados.encargados.metricas;
+
+import ar.edu.davinci.excusas.model.empleados.interfaces.IManejadorExcusas;
+
+public interface IMetricasEncargados {
+
+    IMetricasEncargados NULAS = encargado -> IMedidorEncargado.NULO;
+
+    IMedidorEncargado medidorPara(IManejadorExcusas encargado);
+}
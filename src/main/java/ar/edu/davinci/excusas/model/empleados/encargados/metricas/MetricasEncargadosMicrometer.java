@@ -0,0 +1,69 @@
+package ar.edu.davinci.excusas.model.empleados.encargados.metricas;
+
+import ar.edu.davinci.excusas.model.empleados.interfaces.IManejadorExcusas;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+// Los medidores se crean una vez por encargado al armar la cadena; el camino caliente solo incrementa
+@Component
+public class MetricasEncargadosMicrometer implements IMetricasEncargados {
+
+    private final MeterRegistry registry;
+    private final boolean habilitadas;
+
+    @Autowired
+    public MetricasEncargadosMicrometer(MeterRegistry registry,
+                                        @Value("${app.metricas.cadena.habilitadas:true}") boolean habilitadas) {
+        this.registry = registry;
+        this.habilitadas = habilitadas;
+    }
+
+    @Override
+    public IMedidorEncargado medidorPara(IManejadorExcusas encargado) {
+        if (!habilitadas) {
+            return IMedidorEncargado.NULO;
+        }
+
+        Tags tags = Tags.of(
+                "encargado", encargado.getEmailOrigen(),
+                "tipo", encargado.getClass().getSimpleName()
+        );
+        return new MedidorMicrometer(
+                registry.counter("excusas.encargado.pasos", tags),
+                registry.counter("excusas.encargado.delegaciones", tags),
+                registry.counter("excusas.encargado.resultado", tags.and("resultado", "aceptada")),
+                registry.counter("excusas.encargado.resultado", tags.and("resultado", "rechazada")),
+                Timer.builder("excusas.encargado.procesamiento")
+                        .tags(tags)
+                        .publishPercentileHistogram()
+                        .register(registry)
+        );
+    }
+
+    private record MedidorMicrometer(Counter pasos, Counter delegaciones, Counter aceptadas,
+                                     Counter rechazadas, Timer procesamiento) implements IMedidorEncargado {
+
+        @Override
+        public void registrarPaso() {
+            pasos.increment();
+        }
+
+        @Override
+        public void registrarDelegacion() {
+            delegaciones.increment();
+        }
+
+        @Override
+        public void registrarProcesamiento(long nanos, boolean aceptada) {
+            procesamiento.record(nanos, TimeUnit.NANOSECONDS);
+            (aceptada ? aceptadas : rechazadas).increment();
+        }
+    }
+}
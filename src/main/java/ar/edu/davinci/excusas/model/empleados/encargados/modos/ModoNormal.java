@@ -7,7 +7,7 @@ import ar.edu.davinci.excusas.model.empleados.encargados.modos.interfaces.IModoM
 public class ModoNormal implements IModoManejo {
 
     @Override
-    public void manejar(IManejadorExcusas encargado, Excusa excusa) {
-        encargado.ejecutarProcesamiento(excusa);
+    public IManejadorExcusas manejar(IManejadorExcusas encargado, Excusa excusa) {
+        return encargado.ejecutarProcesamiento(excusa);
     }
 }
@@ -1,22 +1,28 @@
 package ar.edu.davinci.excusas.model.empleados.encargados.modos;
 
-import ar.edu.davinci.excusas.model.email.EmailSenderConcreto;
+import ar.edu.davinci.excusas.model.email.interfaces.INotificadorProductivo;
 import ar.edu.davinci.excusas.model.empleados.interfaces.IManejadorExcusas;
 import ar.edu.davinci.excusas.model.excusas.Excusa;
 import ar.edu.davinci.excusas.model.empleados.encargados.modos.interfaces.IModoManejo;
 
 public class ModoProductivo implements IModoManejo {
 
+    private final INotificadorProductivo notificador;
+
+    public ModoProductivo(INotificadorProductivo notificador) {
+        this.notificador = notificador;
+    }
+
     @Override
-    public void manejar(IManejadorExcusas encargado, Excusa excusa) {
-        String emailOrigen = encargado.getEmailOrigen();
+    public IManejadorExcusas manejar(IManejadorExcusas encargado, Excusa excusa) {
+        this.notificarProcesamiento(encargado, excusa);
+        return encargado.ejecutarProcesamiento(excusa);
+    }
 
-        new EmailSenderConcreto().enviarEmail(
-                "cto@excusas.com",
-                emailOrigen,
-                "Procesamiento productivo",
-                "Procesando excusa de manera productiva para: " + excusa.getEmpleado().getNombre()
+    public void notificarProcesamiento(IManejadorExcusas encargado, Excusa excusa) {
+        notificador.notificarProcesamiento(
+                encargado.getEmailOrigen(),
+                excusa.getEmpleado().getNombre()
         );
-        encargado.ejecutarProcesamiento(excusa);
     }
 }
@@ -7,7 +7,8 @@ import ar.edu.davinci.excusas.model.empleados.encargados.modos.interfaces.IModoM
 public class ModoVago implements IModoManejo {
 
     @Override
-    public void manejar(IManejadorExcusas encargado, Excusa excusa) {
-        encargado.getSiguiente().manejarExcusa(excusa);
+    public IManejadorExcusas manejar(IManejadorExcusas encargado, Excusa excusa) {
+        encargado.getMedidor().registrarDelegacion();
+        return encargado.getSiguiente().manejarExcusa(excusa);
     }
 }
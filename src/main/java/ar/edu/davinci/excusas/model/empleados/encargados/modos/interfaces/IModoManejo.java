@@ -4,5 +4,5 @@ import ar.edu.davinci.excusas.model.empleados.interfaces.IManejadorExcusas;
 import ar.edu.davinci.excusas.model.excusas.Excusa;
 
 public interface IModoManejo {
-    void manejar(IManejadorExcusas encargado, Excusa excusa);
+    IManejadorExcusas manejar(IManejadorExcusas encargado, Excusa excusa);
 }
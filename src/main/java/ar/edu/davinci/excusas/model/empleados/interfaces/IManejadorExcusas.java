@@ -1,6 +1,7 @@
 package ar.edu.davinci.excusas.model.empleados.interfaces;
 
 import ar.edu.davinci.excusas.model.excusas.Excusa;
+import ar.edu.davinci.excusas.model.empleados.encargados.metricas.IMedidorEncargado;
 import ar.edu.davinci.excusas.model.empleados.encargados.modos.interfaces.IModoManejo;
 
 public interface IManejadorExcusas {
@@ -8,12 +9,15 @@ public interface IManejadorExcusas {
     IManejadorExcusas getSiguiente();
     void setModo(IModoManejo modo);
     IModoManejo getModo();
-    void manejarExcusa(Excusa excusa);
+    IManejadorExcusas manejarExcusa(Excusa excusa);
     void procesarExcusa(Excusa excusa);
-    void ejecutarProcesamiento(Excusa excusa);
+    IManejadorExcusas ejecutarProcesamiento(Excusa excusa);
     boolean puedeManejarTrivial();
     boolean puedeManejarModerado();
     boolean puedeManejarComplejo();
     boolean puedeManejarInverosimil();
     String getEmailOrigen();
+    void setOyenteConfiguracion(Runnable oyente);
+    void setMedidor(IMedidorEncargado medidor);
+    IMedidorEncargado getMedidor();
 }
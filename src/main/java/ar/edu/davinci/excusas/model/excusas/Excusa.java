@@ -7,14 +7,34 @@ import ar.edu.davinci.excusas.model.empleados.interfaces.IManejadorExcusas;
 
 public class Excusa implements IExcusa {
 
+    private final Long id;
     private final Empleado empleado;
     private final MotivoExcusa motivo;
     private final String descripcion;
+    private final Long versionEncargados;
 
     public Excusa(Empleado empleado, MotivoExcusa motivo, String descripcion) {
+        this(null, empleado, motivo, descripcion);
+    }
+
+    public Excusa(Long id, Empleado empleado, MotivoExcusa motivo, String descripcion) {
+        this(id, empleado, motivo, descripcion, null);
+    }
+
+    public Excusa(Long id, Empleado empleado, MotivoExcusa motivo, String descripcion, Long versionEncargados) {
+        this.id = id;
         this.empleado = empleado;
         this.motivo = motivo;
         this.descripcion = descripcion;
+        this.versionEncargados = versionEncargados;
+    }
+
+    public Long getId() {
+        return this.id;
+    }
+
+    public Long getVersionEncargados() {
+        return this.versionEncargados;
     }
 
     @Override
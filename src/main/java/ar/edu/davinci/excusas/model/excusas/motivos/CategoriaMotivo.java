@@ -0,0 +1,65 @@
+package ar.edu.davinci.excusas.model.excusas.motivos;
+
+import ar.edu.davinci.excusas.model.empleados.interfaces.IManejadorExcusas;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public enum CategoriaMotivo {
+    TRIVIAL,
+    MODERADO,
+    COMPLEJO,
+    INVEROSIMIL;
+
+    private static final CategoriaMotivo[] CATEGORIAS = values();
+
+    // Un bit por categoría: un conjunto de capacidades entra en un int
+    private final int mascara = 1 << ordinal();
+
+    public int getMascara() {
+        return mascara;
+    }
+
+    public boolean estaEn(int mascaraCapacidades) {
+        return (mascaraCapacidades & mascara) != 0;
+    }
+
+    public boolean esAceptablePor(IManejadorExcusas encargado) {
+        return switch (this) {
+            case TRIVIAL -> encargado.puedeManejarTrivial();
+            case MODERADO -> encargado.puedeManejarModerado();
+            case COMPLEJO -> encargado.puedeManejarComplejo();
+            case INVEROSIMIL -> encargado.puedeManejarInverosimil();
+        };
+    }
+
+    // Lanza IllegalArgumentException si algún nombre no es una categoría
+    public static int mascaraDe(Collection<String> nombres) {
+        int mascara = 0;
+        for (String nombre : nombres) {
+            mascara |= valueOf(nombre.toUpperCase()).mascara;
+        }
+        return mascara;
+    }
+
+    public static int mascaraDe(IManejadorExcusas encargado) {
+        int mascara = 0;
+        for (CategoriaMotivo categoria : CATEGORIAS) {
+            if (categoria.esAceptablePor(encargado)) {
+                mascara |= categoria.mascara;
+            }
+        }
+        return mascara;
+    }
+
+    public static List<String> nombresDe(int mascara) {
+        List<String> nombres = new ArrayList<>(CATEGORIAS.length);
+        for (CategoriaMotivo categoria : CATEGORIAS) {
+            if (categoria.estaEn(mascara)) {
+                nombres.add(categoria.name());
+            }
+        }
+        return List.copyOf(nombres);
+    }
+}
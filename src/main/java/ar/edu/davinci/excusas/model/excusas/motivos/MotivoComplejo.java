@@ -8,4 +8,9 @@ public class MotivoComplejo extends MotivoExcusa {
     public boolean esAceptablePor(IManejadorExcusas encargado) {
         return encargado.puedeManejarComplejo();
     }
+
+    @Override
+    public CategoriaMotivo getCategoria() {
+        return CategoriaMotivo.COMPLEJO;
+    }
 }
@@ -8,6 +8,8 @@ public abstract class MotivoExcusa {
 
     public abstract boolean esAceptablePor(IManejadorExcusas encargado);
 
+    public abstract CategoriaMotivo getCategoria();
+
     public void procesarConSupervisor(SupervisorArea supervisor, Excusa excusa) {
         supervisor.procesarMotivoModeradoGenerico(excusa);
     }
@@ -8,4 +8,9 @@ public class MotivoInverosimil extends MotivoExcusa {
     public boolean esAceptablePor(IManejadorExcusas encargado) {
         return encargado.puedeManejarInverosimil();
     }
+
+    @Override
+    public CategoriaMotivo getCategoria() {
+        return CategoriaMotivo.INVEROSIMIL;
+    }
 }
@@ -8,4 +8,9 @@ public abstract class MotivoModerado extends MotivoExcusa {
     public final boolean esAceptablePor(IManejadorExcusas encargado) {
         return encargado.puedeManejarModerado();
     }
+
+    @Override
+    public final CategoriaMotivo getCategoria() {
+        return CategoriaMotivo.MODERADO;
+    }
 }
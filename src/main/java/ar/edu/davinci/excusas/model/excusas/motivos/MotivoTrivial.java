@@ -8,4 +8,9 @@ public class MotivoTrivial extends MotivoExcusa {
     public boolean esAceptablePor(IManejadorExcusas encargado) {
         return encargado.puedeManejarTrivial();
     }
+
+    @Override
+    public CategoriaMotivo getCategoria() {
+        return CategoriaMotivo.TRIVIAL;
+    }
 }
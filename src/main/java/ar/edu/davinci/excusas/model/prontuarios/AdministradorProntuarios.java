@@ -3,17 +3,20 @@ package ar.edu.davinci.excusas.model.prontuarios;
 import ar.edu.davinci.excusas.model.excusas.Excusa;
 import ar.edu.davinci.excusas.model.empleados.interfaces.IEncargado;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 
 public class AdministradorProntuarios extends ObservableBase {
 
     private static final AdministradorProntuarios INSTANCIA = new AdministradorProntuarios();
     private final List<Prontuario> prontuarios;
+    private final AtomicLong ultimoId = new AtomicLong();
 
     private AdministradorProntuarios() {
         super();
-        this.prontuarios = new ArrayList<>();
+        this.prontuarios = Collections.synchronizedList(new ArrayList<>());
     }
 
     public static AdministradorProntuarios getInstance() {
@@ -34,6 +37,7 @@ public class AdministradorProntuarios extends ObservableBase {
 
     private Prontuario crearProntuario(Excusa excusa) {
         return new Prontuario(
+                ultimoId.incrementAndGet(),
                 excusa.getEmpleado(),
                 excusa,
                 excusa.getEmpleado().getLegajo()
@@ -5,13 +5,20 @@ import ar.edu.davinci.excusas.dto.mapper.ExcusaMapper;
 import ar.edu.davinci.excusas.entity.EmpleadoEntity;
 import ar.edu.davinci.excusas.entity.ExcusaEntity;
 import ar.edu.davinci.excusas.entity.ProntuarioEntity;
+import ar.edu.davinci.excusas.model.email.RegistroDifusionesProntuarios;
 import ar.edu.davinci.excusas.model.empleados.interfaces.IEncargado;
 import ar.edu.davinci.excusas.model.excusas.Excusa;
 import ar.edu.davinci.excusas.repository.EmpleadoRepository;
 import ar.edu.davinci.excusas.repository.ExcusaRepository;
 import ar.edu.davinci.excusas.repository.ProntuarioRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Component
 public class AdministradorProntuariosJPA extends ObservableBase {
@@ -31,6 +38,43 @@ public class AdministradorProntuariosJPA extends ObservableBase {
     @Autowired
     private ExcusaMapper excusaMapper;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private RegistroDifusionesProntuarios difusionesProntuarios;
+
+    @Value("${app.prontuarios.observadores-debiles:false}")
+    private boolean observadoresDebiles;
+
+    @Value("${app.prontuarios.notificacion.asincronica:false}")
+    private boolean asincronica;
+
+    @Value("${app.prontuarios.notificacion.hilos:2}")
+    private int hilos;
+
+    @Value("${app.prontuarios.notificacion.capacidad-cola:1000}")
+    private int capacidadCola;
+
+    @Value("${app.prontuarios.notificacion.politica-desborde:BLOQUEAR}")
+    private PoliticaDesborde politicaDesborde;
+
+    @PostConstruct
+    void configurarDespacho() {
+        this.setReferenciasDebiles(observadoresDebiles);
+        this.setDifusiones(difusionesProntuarios);
+        if (asincronica) {
+            this.setDespacho(new DespachoAsincronico(hilos, capacidadCola, politicaDesborde, meterRegistry));
+        }
+    }
+
+    @PreDestroy
+    void detenerDespacho() throws InterruptedException {
+        if (this.getDespacho() instanceof DespachoAsincronico despachoAsincronico) {
+            despachoAsincronico.cerrar();
+        }
+    }
+
     public void notificarExcusaProcesada(Excusa excusa, IEncargado encargadoProcesador) {
         if (this.debeCrearProntuario(excusa, encargadoProcesador)) {
             this.crearYGuardarProntuario(excusa);
@@ -47,13 +91,7 @@ public class AdministradorProntuariosJPA extends ObservableBase {
         EmpleadoEntity empleadoEntity = empleadoRepository.findByLegajo(excusa.getLegajoEmpleado())
                 .orElseThrow(() -> new RuntimeException("Empleado no encontrado"));
 
-        // Para simplificar, buscaremos la excusa por descripción y empleado
-        // En un caso real, deberíamos tener un ID de excusa
-        ExcusaEntity excusaEntity = excusaRepository.findByEmpleadoLegajo(excusa.getLegajoEmpleado())
-                .stream()
-                .filter(e -> e.getDescripcion().equals(excusa.getDescripcion()))
-                .findFirst()
-                .orElseThrow(() -> new RuntimeException("Excusa no encontrada"));
+        ExcusaEntity excusaEntity = buscarExcusaEntity(excusa);
 
         ProntuarioEntity prontuarioEntity = new ProntuarioEntity(
                 empleadoEntity,
@@ -61,17 +99,41 @@ public class AdministradorProntuariosJPA extends ObservableBase {
                 excusa.getEmpleado().getLegajo()
         );
 
-        prontuarioRepository.save(prontuarioEntity);
+        prontuarioEntity = prontuarioRepository.save(prontuarioEntity);
         
         System.out.println("Prontuario creado para empleado: " + excusa.getNombreEmpleado());
         
         // Crear el modelo para notificar a los observadores
         Prontuario prontuario = new Prontuario(
+                prontuarioEntity.getId(),
                 excusa.getEmpleado(),
                 excusa,
                 excusa.getEmpleado().getLegajo()
         );
         
-        this.notificarObservadores(prontuario);
+        // En modo asincrónico los observadores se enteran recién cuando el prontuario quedó confirmado
+        if (asincronica && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    notificarObservadores(prontuario);
+                }
+            });
+        } else {
+            this.notificarObservadores(prontuario);
+        }
+    }
+
+    private ExcusaEntity buscarExcusaEntity(Excusa excusa) {
+        if (excusa.getId() != null) {
+            return excusaRepository.getReferenceById(excusa.getId());
+        }
+
+        // Sin id (excusas creadas fuera de la base), buscamos por descripción y empleado
+        return excusaRepository.findByEmpleadoLegajo(excusa.getLegajoEmpleado())
+                .stream()
+                .filter(e -> e.getDescripcion().equals(excusa.getDescripcion()))
+                .findFirst()
+                .orElseThrow(() -> new RuntimeException("Excusa no encontrada"));
     }
 }
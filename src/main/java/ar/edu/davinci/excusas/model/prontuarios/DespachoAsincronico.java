@@ -0,0 +1,177 @@
+package ar.edu.davinci.excusas.model.prontuarios;
+
+import ar.edu.davinci.excusas.model.prontuarios.interfaces.IDespachoNotificaciones;
+import ar.edu.davinci.excusas.model.prontuarios.interfaces.IMonitorNotificaciones;
+import ar.edu.davinci.excusas.model.prontuarios.interfaces.IObserver;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Cada observador tiene su propia cola acotada que se vacía de a una notificación por vez en un pool
+// compartido: un observador lento solo se atrasa a sí mismo y cada uno recibe los prontuarios en orden.
+// La cola se descarta al vaciarse, así el despacho no retiene a observadores sin notificaciones pendientes
+public class DespachoAsincronico implements IDespachoNotificaciones {
+
+    // Notificaciones que procesa una cola antes de ceder el hilo a las demás
+    private static final int LOTE = 32;
+
+    private final int capacidad;
+    private final PoliticaDesborde politica;
+    private final ExecutorService executor;
+    private final Map<IObserver, ColaObservador> colas = new ConcurrentHashMap<>();
+    private final AtomicInteger profundidad = new AtomicInteger();
+    private final Timer demora;
+    private final Counter descartadas;
+
+    public DespachoAsincronico(int hilos, int capacidad, PoliticaDesborde politica, MeterRegistry registry) {
+        this.capacidad = capacidad;
+        this.politica = politica;
+
+        AtomicInteger numeroHilo = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(hilos, tarea -> {
+            Thread hilo = new Thread(tarea, "notificacion-observadores-" + numeroHilo.incrementAndGet());
+            hilo.setDaemon(true);
+            return hilo;
+        });
+
+        registry.gauge("excusas.observadores.cola.profundidad", profundidad);
+        this.demora = Timer.builder("excusas.observadores.demora")
+                .description("Tiempo entre que se crea el prontuario y el observador empieza a procesarlo")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.descartadas = registry.counter("excusas.observadores.desborde", "politica", "descartada");
+    }
+
+    @Override
+    public void despachar(IObserver observador, Prontuario prontuario, IMonitorNotificaciones monitor) {
+        Pendiente pendiente = new Pendiente(prontuario, monitor, System.nanoTime());
+        // Si la cola se cerró justo al vaciarse se crea otra; la cerrada ya entregó todo lo suyo
+        while (!colas.computeIfAbsent(observador, ColaObservador::new).encolar(pendiente)) {
+            Thread.onSpinWait();
+        }
+    }
+
+    public int getProfundidad() {
+        return profundidad.get();
+    }
+
+    public int getProfundidad(IObserver observador) {
+        ColaObservador cola = colas.get(observador);
+        return cola == null ? 0 : cola.tamanio();
+    }
+
+    public void cerrar() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private record Pendiente(Prontuario prontuario, IMonitorNotificaciones monitor, long encolado) {
+    }
+
+    private final class ColaObservador implements Runnable {
+        private final IObserver observador;
+        private final ArrayDeque<Pendiente> pendientes = new ArrayDeque<>();
+        private boolean programada;
+        private boolean cerrada;
+
+        ColaObservador(IObserver observador) {
+            this.observador = observador;
+        }
+
+        boolean encolar(Pendiente pendiente) {
+            synchronized (this) {
+                if (cerrada) {
+                    return false;
+                }
+                while (pendientes.size() >= capacidad) {
+                    if (politica == PoliticaDesborde.DESCARTAR_ANTIGUA) {
+                        pendientes.poll();
+                        profundidad.decrementAndGet();
+                        descartadas.increment();
+                    } else if (!esperarLugar()) {
+                        return false;
+                    }
+                }
+                pendientes.add(pendiente);
+                profundidad.incrementAndGet();
+
+                if (programada) {
+                    return true;
+                }
+                programada = true;
+            }
+            executor.execute(this);
+            return true;
+        }
+
+        // Mientras se espera, el observador puede vaciar y cerrar la cola: entonces hay que encolar en una nueva
+        private boolean esperarLugar() {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrumpido esperando lugar en la cola del observador", e);
+            }
+            return !cerrada;
+        }
+
+        // Acá no hay a quién propagarle el error: si el monitor tampoco lo registra queda solo en el log
+        private void registrarFallo(Pendiente pendiente, RuntimeException error) {
+            try {
+                pendiente.monitor().fallida(observador, pendiente.prontuario(), error);
+            } catch (RuntimeException e) {
+                System.err.println("Error notificando al observador: " + error.getMessage());
+            }
+        }
+
+        synchronized int tamanio() {
+            return pendientes.size();
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                for (int i = 0; i < LOTE; i++) {
+                    Pendiente pendiente;
+                    synchronized (this) {
+                        pendiente = pendientes.poll();
+                        if (pendiente == null) {
+                            programada = false;
+                            cerrada = true;
+                            colas.remove(observador, this);
+                            return;
+                        }
+                        profundidad.decrementAndGet();
+                        notifyAll();
+                    }
+
+                    demora.record(System.nanoTime() - pendiente.encolado(), TimeUnit.NANOSECONDS);
+                    try {
+                        observador.actualizar(pendiente.prontuario());
+                    } catch (RuntimeException e) {
+                        registrarFallo(pendiente, e);
+                        continue;
+                    }
+                    pendiente.monitor().entregada(observador);
+                }
+
+                // Quedan pendientes: vuelve al final de la cola del pool, salvo que se esté cerrando
+                try {
+                    executor.execute(this);
+                    return;
+                } catch (RejectedExecutionException e) {
+                    // Se terminan de entregar en este hilo
+                }
+            }
+        }
+    }
+}
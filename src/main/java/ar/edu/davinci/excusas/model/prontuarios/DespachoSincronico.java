@@ -0,0 +1,20 @@
+package ar.edu.davinci.excusas.model.prontuarios;
+
+import ar.edu.davinci.excusas.model.prontuarios.interfaces.IDespachoNotificaciones;
+import ar.edu.davinci.excusas.model.prontuarios.interfaces.IMonitorNotificaciones;
+import ar.edu.davinci.excusas.model.prontuarios.interfaces.IObserver;
+
+// Notifica en el hilo que creó el prontuario: un observador lento demora la escritura
+public class DespachoSincronico implements IDespachoNotificaciones {
+
+    @Override
+    public void despachar(IObserver observador, Prontuario prontuario, IMonitorNotificaciones monitor) {
+        try {
+            observador.actualizar(prontuario);
+        } catch (RuntimeException e) {
+            monitor.fallida(observador, prontuario, e);
+            return;
+        }
+        monitor.entregada(observador);
+    }
+}
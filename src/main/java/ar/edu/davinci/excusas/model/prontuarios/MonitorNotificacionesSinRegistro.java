@@ -0,0 +1,17 @@
+package ar.edu.davinci.excusas.model.prontuarios;
+
+import ar.edu.davinci.excusas.model.prontuarios.interfaces.IMonitorNotificaciones;
+import ar.edu.davinci.excusas.model.prontuarios.interfaces.IObserver;
+
+// Sin almacén de notificaciones fallidas el error del observador le llega a quien creó el prontuario
+public class MonitorNotificacionesSinRegistro implements IMonitorNotificaciones {
+
+    @Override
+    public void entregada(IObserver observador) {
+    }
+
+    @Override
+    public void fallida(IObserver observador, Prontuario prontuario, RuntimeException error) {
+        throw error;
+    }
+}
@@ -1,34 +1,70 @@
 package ar.edu.davinci.excusas.model.prontuarios;
 
+import ar.edu.davinci.excusas.model.email.RegistroDifusionesProntuarios;
+import ar.edu.davinci.excusas.model.email.interfaces.IRegistroDifusiones;
+import ar.edu.davinci.excusas.model.prontuarios.interfaces.IDespachoNotificaciones;
+import ar.edu.davinci.excusas.model.prontuarios.interfaces.IMonitorNotificaciones;
 import ar.edu.davinci.excusas.model.prontuarios.interfaces.IObservable;
 import ar.edu.davinci.excusas.model.prontuarios.interfaces.IObserver;
 
-import java.util.ArrayList;
-import java.util.List;
-
 public abstract class ObservableBase implements IObservable {
 
-    private final List<IObserver> observadores;
+    private final RegistroObservadores observadores;
+    private volatile IDespachoNotificaciones despacho = new DespachoSincronico();
+    private volatile IMonitorNotificaciones monitor = new MonitorNotificacionesSinRegistro();
+    // Los ids de prontuario solo son únicos dentro de cada administrador: cada uno recuerda sus propias difusiones
+    private volatile IRegistroDifusiones difusiones = new RegistroDifusionesProntuarios(10_000);
 
     protected ObservableBase() {
-        this.observadores = new ArrayList<>();
+        // Se registran pocas veces y se notifica seguido, desde varios hilos
+        this.observadores = new RegistroObservadores();
     }
 
     @Override
     public final void agregarObservador(IObserver observador) {
-        this.observadores.add(observador);
+        this.observadores.agregar(observador);
     }
 
     @Override
     public final void eliminarObservador(IObserver observador) {
-        this.observadores.remove(observador);
+        this.observadores.eliminar(observador);
     }
 
     @Override
     public final void notificarObservadores(Prontuario prontuario) {
-        List<IObserver> observadoresCopia = new ArrayList<>(this.observadores);
-        for (IObserver observador : observadoresCopia) {
-            observador.actualizar(prontuario);
-        }
+        this.observadores.notificar(this.despacho, this.monitor, prontuario);
+    }
+
+    // Devuelve a cuántos observadores registrados con ese identificador se les volvió a notificar
+    public final int renotificarObservador(String identificadorObservador, Prontuario prontuario) {
+        return this.observadores.notificar(identificadorObservador, prontuario);
+    }
+
+    public final void setMonitor(IMonitorNotificaciones monitor) {
+        this.monitor = monitor;
+    }
+
+    public final IRegistroDifusiones getDifusiones() {
+        return this.difusiones;
+    }
+
+    protected final void setDifusiones(IRegistroDifusiones difusiones) {
+        this.difusiones = difusiones;
+    }
+
+    protected final void setReferenciasDebiles(boolean debiles) {
+        this.observadores.setReferenciasDebiles(debiles);
+    }
+
+    protected final void setDespacho(IDespachoNotificaciones despacho) {
+        this.despacho = despacho;
+    }
+
+    protected final IDespachoNotificaciones getDespacho() {
+        return this.despacho;
+    }
+
+    public final int cantidadObservadores() {
+        return this.observadores.cantidad();
     }
 }
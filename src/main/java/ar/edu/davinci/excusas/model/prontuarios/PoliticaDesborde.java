@@ -0,0 +1,9 @@
+package ar.edu.davinci.excusas.model.prontuarios;
+
+// Qué hacer cuando la cola de un observador está llena
+public enum PoliticaDesborde {
+    // El que notifica espera a que el observador libere lugar
+    BLOQUEAR,
+    // Se descarta la notificación pendiente más antigua
+    DESCARTAR_ANTIGUA
+}
@@ -7,16 +7,26 @@ import ar.edu.davinci.excusas.model.excusas.Excusa;
 
 public class Prontuario implements IProntuario {
 
+    private final Long id;
     private final Empleado empleado;
     private final Excusa excusa;
     private final int legajo;
 
     public Prontuario(Empleado empleado, Excusa excusa, int legajo) {
+        this(null, empleado, excusa, legajo);
+    }
+
+    public Prontuario(Long id, Empleado empleado, Excusa excusa, int legajo) {
+        this.id = id;
         this.empleado = empleado;
         this.excusa = excusa;
         this.legajo = legajo;
     }
 
+    public Long getId() {
+        return this.id;
+    }
+
     @Override
     public Empleado getEmpleado() {
         return this.empleado;
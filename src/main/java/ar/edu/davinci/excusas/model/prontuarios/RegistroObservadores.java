@@ -0,0 +1,130 @@
+package ar.edu.davinci.excusas.model.prontuarios;
+
+import ar.edu.davinci.excusas.model.prontuarios.interfaces.IDespachoNotificaciones;
+import ar.edu.davinci.excusas.model.prontuarios.interfaces.IMonitorNotificaciones;
+import ar.edu.davinci.excusas.model.prontuarios.interfaces.IObserver;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+
+// Arreglo inmutable publicado en un campo volatile: registrar y eliminar copian el arreglo bajo un lock,
+// notificar recorre el último publicado sin copiar ni bloquear. Con referencias débiles un observador que
+// nadie más referencia (un CEO de una cadena descartada) puede ser recolectado; su entrada se purga en la
+// siguiente escritura o al detectarla durante una notificación
+final class RegistroObservadores {
+
+    private static final Entrada[] VACIO = new Entrada[0];
+
+    private volatile Entrada[] entradas = VACIO;
+    private boolean referenciasDebiles;
+
+    synchronized void agregar(IObserver observador) {
+        Entrada[] actuales = vivas();
+        Entrada[] nuevas = Arrays.copyOf(actuales, actuales.length + 1);
+        nuevas[actuales.length] = new Entrada(observador, referenciasDebiles);
+        entradas = nuevas;
+    }
+
+    // Elimina una sola aparición, igual que List.remove
+    synchronized void eliminar(IObserver observador) {
+        Entrada[] actuales = vivas();
+        for (int i = 0; i < actuales.length; i++) {
+            if (actuales[i].obtener() == observador) {
+                Entrada[] nuevas = new Entrada[actuales.length - 1];
+                System.arraycopy(actuales, 0, nuevas, 0, i);
+                System.arraycopy(actuales, i + 1, nuevas, i, actuales.length - i - 1);
+                entradas = nuevas;
+                return;
+            }
+        }
+        entradas = actuales;
+    }
+
+    synchronized void setReferenciasDebiles(boolean debiles) {
+        this.referenciasDebiles = debiles;
+        Entrada[] actuales = vivas();
+        Entrada[] nuevas = new Entrada[actuales.length];
+        for (int i = 0; i < actuales.length; i++) {
+            nuevas[i] = new Entrada(actuales[i].obtener(), debiles);
+        }
+        entradas = nuevas;
+    }
+
+    void notificar(IDespachoNotificaciones despacho, IMonitorNotificaciones monitor, Prontuario prontuario) {
+        boolean hayRecolectados = false;
+        for (Entrada entrada : entradas) {
+            IObserver observador = entrada.obtener();
+            if (observador == null) {
+                hayRecolectados = true;
+            } else {
+                despacho.despachar(observador, prontuario, monitor);
+            }
+        }
+        if (hayRecolectados) {
+            purgar();
+        }
+    }
+
+    // En el hilo que llama y sin capturar errores: lo usa el reenvío de notificaciones fallidas
+    int notificar(String identificadorObservador, Prontuario prontuario) {
+        int notificados = 0;
+        for (Entrada entrada : entradas) {
+            IObserver observador = entrada.obtener();
+            if (observador != null && observador.getIdentificadorObservador().equals(identificadorObservador)) {
+                observador.actualizar(prontuario);
+                notificados++;
+            }
+        }
+        return notificados;
+    }
+
+    int cantidad() {
+        int vivos = 0;
+        for (Entrada entrada : entradas) {
+            if (entrada.obtener() != null) {
+                vivos++;
+            }
+        }
+        return vivos;
+    }
+
+    private synchronized void purgar() {
+        entradas = vivas();
+    }
+
+    // Solo desde métodos synchronized
+    private Entrada[] vivas() {
+        Entrada[] actuales = entradas;
+        int vivos = 0;
+        for (Entrada entrada : actuales) {
+            if (entrada.obtener() != null) {
+                vivos++;
+            }
+        }
+        if (vivos == actuales.length) {
+            return actuales;
+        }
+        Entrada[] resultado = new Entrada[vivos];
+        int i = 0;
+        for (Entrada entrada : actuales) {
+            if (entrada.obtener() != null) {
+                resultado[i++] = entrada;
+            }
+        }
+        return resultado;
+    }
+
+    private static final class Entrada {
+        private final IObserver fuerte;
+        private final WeakReference<IObserver> debil;
+
+        Entrada(IObserver observador, boolean referenciaDebil) {
+            this.fuerte = referenciaDebil ? null : observador;
+            this.debil = referenciaDebil ? new WeakReference<>(observador) : null;
+        }
+
+        IObserver obtener() {
+            return fuerte != null ? fuerte : debil.get();
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package ar.edu.davinci.excusas.model.prontuarios.interfaces;
+
+import ar.edu.davinci.excusas.model.prontuarios.Prontuario;
+
+public interface IDespachoNotificaciones {
+    void despachar(IObserver observador, Prontuario prontuario, IMonitorNotificaciones monitor);
+}
@@ -0,0 +1,9 @@
+package ar.edu.davinci.excusas.model.prontuarios.interfaces;
+
+import ar.edu.davinci.excusas.model.prontuarios.Prontuario;
+
+public interface IMonitorNotificaciones {
+    void entregada(IObserver observador);
+
+    void fallida(IObserver observador, Prontuario prontuario, RuntimeException error);
+}
@@ -4,4 +4,9 @@ import ar.edu.davinci.excusas.model.prontuarios.Prontuario;
 
 public interface IObserver {
     void actualizar(Prontuario prontuario);
+
+    // Con qué se lo vuelve a encontrar entre los observadores registrados al reenviar una notificación fallida
+    default String getIdentificadorObservador() {
+        return getClass().getName();
+    }
 }
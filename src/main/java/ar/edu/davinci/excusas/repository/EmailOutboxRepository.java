@@ -0,0 +1,28 @@
+package ar.edu.davinci.excusas.repository;
+
+import ar.edu.davinci.excusas.entity.EmailOutboxEntity;
+import ar.edu.davinci.excusas.entity.EmailOutboxEntity.EstadoEmail;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutboxEntity, Long> {
+
+    @Query("SELECT e FROM EmailOutboxEntity e WHERE e.estado = :estado AND e.proximoIntento <= :ahora ORDER BY e.id")
+    List<EmailOutboxEntity> findListosParaEnviar(@Param("estado") EstadoEmail estado,
+                                                 @Param("ahora") LocalDateTime ahora,
+                                                 Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE EmailOutboxEntity e SET e.estado = 'ENVIADO', e.fechaEnvio = :fechaEnvio, e.intentos = e.intentos + 1 WHERE e.id IN :ids")
+    int marcarEnviados(@Param("ids") List<Long> ids, @Param("fechaEnvio") LocalDateTime fechaEnvio);
+
+    long countByEstado(EstadoEmail estado);
+}
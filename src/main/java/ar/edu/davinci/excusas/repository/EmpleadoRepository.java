@@ -1,6 +1,7 @@
 package ar.edu.davinci.excusas.repository;
 
 import ar.edu.davinci.excusas.entity.EmpleadoEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -22,4 +23,9 @@ public interface EmpleadoRepository extends JpaRepository<EmpleadoEntity, Long>
     
     @Query("SELECT e FROM EmpleadoEntity e WHERE LOWER(e.nombre) LIKE LOWER(CONCAT('%', :nombre, '%'))")
     List<EmpleadoEntity> findByNombreContainingIgnoreCase(@Param("nombre") String nombre);
+
+    List<EmpleadoEntity> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    @Query("SELECT e FROM EmpleadoEntity e WHERE LOWER(e.nombre) LIKE LOWER(CONCAT('%', :nombre, '%')) AND e.id > :desdeId ORDER BY e.id")
+    List<EmpleadoEntity> findByNombreDesde(@Param("nombre") String nombre, @Param("desdeId") Long desdeId, Pageable pageable);
 }
@@ -1,31 +1,109 @@
 package ar.edu.davinci.excusas.repository;
 
+import ar.edu.davinci.excusas.dto.FilaExportacionExcusa;
 import ar.edu.davinci.excusas.entity.ExcusaEntity;
+import ar.edu.davinci.excusas.entity.ExcusaEntity.TipoMotivo;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 import java.time.LocalDateTime;
 
 @Repository
 public interface ExcusaRepository extends JpaRepository<ExcusaEntity, Long> {
+
+    // Filas que el driver trae por viaje al recorrer las exportaciones
+    String TAMANIO_FETCH_EXPORTACION = "1000";
+
+    // Los listados se mapean a Excusa, que lee el empleado de cada fila: se trae en el mismo select
+    @Query("SELECT e FROM ExcusaEntity e JOIN FETCH e.empleado")
+    List<ExcusaEntity> findAllConEmpleado();
+
+    // Con un solo join al empleado la base arranca por el legajo y entra a excusas por idx_excusas_empleado_fecha;
+    // el método derivado con @EntityGraph sumaba un segundo join y recorría la tabla entera
+    @Query("SELECT e FROM ExcusaEntity e JOIN FETCH e.empleado em WHERE em.legajo = :legajo")
+    List<ExcusaEntity> findByEmpleadoLegajo(@Param("legajo") Integer legajo);
+
+    @Query("SELECT e FROM ExcusaEntity e JOIN FETCH e.empleado WHERE e.id = :id")
+    Optional<ExcusaEntity> findByIdConEmpleado(@Param("id") Long id);
+
+    @Query("SELECT e.id FROM ExcusaEntity e ORDER BY e.id")
+    List<Long> findIdsOrdenados(Pageable pageable);
+
+    @Query("SELECT e.id FROM ExcusaEntity e WHERE e.tipoMotivo = :tipoMotivo ORDER BY e.id")
+    List<Long> findIdsByTipoMotivo(@Param("tipoMotivo") TipoMotivo tipoMotivo);
     
-    List<ExcusaEntity> findByEmpleadoLegajo(Integer legajo);
-    
-    @Query("SELECT e FROM ExcusaEntity e WHERE UPPER(e.tipoMotivo) LIKE UPPER(CONCAT('%', :tipoMotivo, '%'))")
-    List<ExcusaEntity> findByTipoMotivoContainingIgnoreCase(@Param("tipoMotivo") String tipoMotivo);
+    // Igualdad contra el código guardado: usa idx_excusas_tipo_motivo, un LIKE '%x%' recorría la tabla entera
+    @Query("SELECT e FROM ExcusaEntity e JOIN FETCH e.empleado WHERE e.tipoMotivo = :tipoMotivo ORDER BY e.id")
+    List<ExcusaEntity> findByTipoMotivo(@Param("tipoMotivo") TipoMotivo tipoMotivo);
     
     long countByEmpleadoLegajo(Integer legajo);
 
+    @EntityGraph(attributePaths = "empleado")
     List<ExcusaEntity> findByProcesada(Boolean procesada);
 
-    List<ExcusaEntity> findByEmpleadoLegajoAndFechaCreacionBetween(Integer legajo, LocalDateTime fechaDesde, LocalDateTime fechaHasta);
+    @Query("SELECT e FROM ExcusaEntity e JOIN FETCH e.empleado WHERE e.procesada = false AND e.id > :ultimoId ORDER BY e.id")
+    List<ExcusaEntity> findPendientesDesde(@Param("ultimoId") Long ultimoId, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE ExcusaEntity e SET e.procesada = true, e.versionEncargados = :versionEncargados WHERE e.id IN :ids")
+    int marcarProcesadas(@Param("ids") List<Long> ids, @Param("versionEncargados") Long versionEncargados);
+
+    @Query("SELECT e FROM ExcusaEntity e JOIN FETCH e.empleado em WHERE em.legajo = :legajo AND e.fechaCreacion BETWEEN :fechaDesde AND :fechaHasta")
+    List<ExcusaEntity> findByEmpleadoLegajoAndFechaCreacionBetween(@Param("legajo") Integer legajo,
+                                                                   @Param("fechaDesde") LocalDateTime fechaDesde,
+                                                                   @Param("fechaHasta") LocalDateTime fechaHasta);
+
+    @Query("SELECT e FROM ExcusaEntity e JOIN FETCH e.empleado em WHERE em.legajo = :legajo AND e.fechaCreacion >= :fechaDesde")
+    List<ExcusaEntity> findByEmpleadoLegajoAndFechaCreacionGreaterThanEqual(@Param("legajo") Integer legajo,
+                                                                            @Param("fechaDesde") LocalDateTime fechaDesde);
+
+    @Query("SELECT e FROM ExcusaEntity e JOIN FETCH e.empleado em WHERE em.legajo = :legajo AND e.fechaCreacion <= :fechaHasta")
+    List<ExcusaEntity> findByEmpleadoLegajoAndFechaCreacionLessThanEqual(@Param("legajo") Integer legajo,
+                                                                         @Param("fechaHasta") LocalDateTime fechaHasta);
+
+    // Retención: sin ORDER BY la base deja de leer idx_excusas_fecha apenas junta el lote
+    @Query("SELECT e.id FROM ExcusaEntity e WHERE e.fechaCreacion <= :fechaLimite")
+    List<Long> findIdsCreadasHasta(@Param("fechaLimite") LocalDateTime fechaLimite, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM ExcusaEntity e WHERE e.id IN :ids")
+    int eliminarPorIds(@Param("ids") List<Long> ids);
+
+    // Páginas por cursor (id > desdeId) para los listados
+    @EntityGraph(attributePaths = "empleado")
+    List<ExcusaEntity> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    @Query("SELECT e FROM ExcusaEntity e JOIN FETCH e.empleado em WHERE em.legajo = :legajo AND e.id > :id ORDER BY e.id")
+    List<ExcusaEntity> findByEmpleadoLegajoAndIdGreaterThanOrderByIdAsc(@Param("legajo") Integer legajo, @Param("id") Long id,
+                                                                        Pageable pageable);
+
+    @EntityGraph(attributePaths = "empleado")
+    List<ExcusaEntity> findByProcesadaAndIdGreaterThanOrderByIdAsc(Boolean procesada, Long id, Pageable pageable);
 
-    List<ExcusaEntity> findByEmpleadoLegajoAndFechaCreacionGreaterThanEqual(Integer legajo, LocalDateTime fechaDesde);
+    @Query("SELECT e FROM ExcusaEntity e JOIN FETCH e.empleado WHERE e.tipoMotivo = :tipoMotivo AND e.id > :desdeId ORDER BY e.id")
+    List<ExcusaEntity> findByTipoMotivoDesde(@Param("tipoMotivo") TipoMotivo tipoMotivo, @Param("desdeId") Long desdeId,
+                                             Pageable pageable);
 
-    List<ExcusaEntity> findByEmpleadoLegajoAndFechaCreacionLessThanEqual(Integer legajo, LocalDateTime fechaHasta);
+    @Query("SELECT e FROM ExcusaEntity e JOIN FETCH e.empleado em WHERE em.legajo = :legajo AND e.fechaCreacion BETWEEN :fechaDesde AND :fechaHasta AND e.id > :desdeId ORDER BY e.id")
+    List<ExcusaEntity> findByLegajoYFechasDesde(@Param("legajo") Integer legajo,
+                                                @Param("fechaDesde") LocalDateTime fechaDesde,
+                                                @Param("fechaHasta") LocalDateTime fechaHasta,
+                                                @Param("desdeId") Long desdeId,
+                                                Pageable pageable);
 
-    List<ExcusaEntity> findByFechaCreacionLessThanEqual(LocalDateTime fechaLimite);
+    // Se recorre dentro de una transacción y sin entidades: la memoria no crece con la tabla
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = TAMANIO_FETCH_EXPORTACION))
+    @Query("SELECT new ar.edu.davinci.excusas.dto.FilaExportacionExcusa(e.id, em.legajo, em.nombre, em.email, e.tipoMotivo, e.descripcion, e.fechaCreacion, e.procesada, e.versionEncargados) FROM ExcusaEntity e JOIN e.empleado em ORDER BY e.id")
+    Stream<FilaExportacionExcusa> streamExportacion();
 }
@@ -0,0 +1,24 @@
+package ar.edu.davinci.excusas.repository;
+
+import ar.edu.davinci.excusas.entity.NotificacionFallidaEntity;
+import ar.edu.davinci.excusas.entity.NotificacionFallidaEntity.EstadoNotificacion;
+import ar.edu.davinci.excusas.entity.NotificacionFallidaEntity.TipoNotificacion;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface NotificacionFallidaRepository extends JpaRepository<NotificacionFallidaEntity, Long> {
+
+    List<NotificacionFallidaEntity> findByEstadoAndIdGreaterThanOrderByIdAsc(EstadoNotificacion estado, Long id,
+                                                                            Pageable pageable);
+
+    List<NotificacionFallidaEntity> findByEstadoAndTipoOrderByIdAsc(EstadoNotificacion estado, TipoNotificacion tipo,
+                                                                    Pageable pageable);
+
+    List<NotificacionFallidaEntity> findByEstadoOrderByIdAsc(EstadoNotificacion estado, Pageable pageable);
+
+    long countByEstado(EstadoNotificacion estado);
+}
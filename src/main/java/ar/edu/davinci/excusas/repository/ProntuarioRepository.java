@@ -1,13 +1,42 @@
 package ar.edu.davinci.excusas.repository;
 
+import ar.edu.davinci.excusas.dto.FilaExportacionProntuario;
 import ar.edu.davinci.excusas.entity.ProntuarioEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface ProntuarioRepository extends JpaRepository<ProntuarioEntity, Long> {
-    
+
+    // ProntuarioMapper lee el empleado, la excusa y el empleado de la excusa de cada fila
+    @Query("SELECT p FROM ProntuarioEntity p JOIN FETCH p.empleado JOIN FETCH p.excusa ex JOIN FETCH ex.empleado")
+    List<ProntuarioEntity> findAllConEmpleadoYExcusa();
+
+    @EntityGraph(attributePaths = {"empleado", "excusa", "excusa.empleado"})
     List<ProntuarioEntity> findByLegajo(Integer legajo);
+
+    @EntityGraph(attributePaths = {"empleado", "excusa", "excusa.empleado"})
+    List<ProntuarioEntity> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"empleado", "excusa", "excusa.empleado"})
+    List<ProntuarioEntity> findByLegajoAndIdGreaterThanOrderByIdAsc(Integer legajo, Long id, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ExcusaRepository.TAMANIO_FETCH_EXPORTACION))
+    @Query("SELECT new ar.edu.davinci.excusas.dto.FilaExportacionProntuario(p.id, p.legajo, em.nombre, em.email, ex.id, ex.tipoMotivo, ex.descripcion, p.fechaCreacion) FROM ProntuarioEntity p JOIN p.empleado em JOIN p.excusa ex ORDER BY p.id")
+    Stream<FilaExportacionProntuario> streamExportacion();
+
+    @Modifying
+    @Query("DELETE FROM ProntuarioEntity p WHERE p.excusa.id IN :excusaIds")
+    int eliminarPorExcusas(@Param("excusaIds") List<Long> excusaIds);
 }
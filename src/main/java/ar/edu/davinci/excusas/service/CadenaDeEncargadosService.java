@@ -0,0 +1,65 @@
+package ar.edu.davinci.excusas.service;
+
+import ar.edu.davinci.excusas.model.email.ServiciosEmail;
+import ar.edu.davinci.excusas.model.empleados.encargados.CadenaDeEncargados;
+import ar.edu.davinci.excusas.model.empleados.encargados.metricas.IMetricasEncargados;
+import ar.edu.davinci.excusas.model.empleados.interfaces.IManejadorExcusas;
+import ar.edu.davinci.excusas.model.excusas.Excusa;
+import ar.edu.davinci.excusas.model.prontuarios.AdministradorProntuariosJPA;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+@Service
+public class CadenaDeEncargadosService {
+
+    @Autowired
+    private EncargadoService encargadoService;
+
+    @Autowired
+    private AdministradorProntuariosJPA administradorProntuarios;
+
+    @Autowired
+    private IMetricasEncargados metricasEncargados;
+
+    @Autowired
+    private ServiciosEmail serviciosEmail;
+
+    private volatile CadenaDeEncargados cadena;
+
+    public IManejadorExcusas procesarExcusa(Excusa excusa) {
+        return obtenerCadena().procesarExcusa(excusa);
+    }
+
+    public CadenaDeEncargados obtenerCadena() {
+        CadenaDeEncargados actual = cadena;
+        if (actual != null && actual.getVersion() == encargadoService.getVersion()) {
+            return actual;
+        }
+        return reconstruirCadena();
+    }
+
+    // Solo se reconstruye cuando cambia la configuración de encargados (topología o modos);
+    // se arma a partir de una única instantánea del registro y lleva su versión
+    private synchronized CadenaDeEncargados reconstruirCadena() {
+        CadenaDeEncargados anterior = cadena;
+        EncargadoService.InstantaneaEncargados instantanea = encargadoService.obtenerInstantanea();
+        if (anterior != null && anterior.getVersion() == instantanea.getVersion()) {
+            return anterior;
+        }
+
+        CadenaDeEncargados nueva = new CadenaDeEncargados(
+                instantanea.getConfiguracionCadena(),
+                instantanea.getModosCadena(),
+                administradorProntuarios,
+                instantanea.getVersion(),
+                metricasEncargados,
+                serviciosEmail
+        );
+        cadena = nueva;
+
+        if (anterior != null) {
+            anterior.desconectar();
+        }
+        return nueva;
+    }
+}
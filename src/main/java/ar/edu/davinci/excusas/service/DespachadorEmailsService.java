@@ -0,0 +1,165 @@
+package ar.edu.davinci.excusas.service;
+
+import ar.edu.davinci.excusas.entity.EmailOutboxEntity;
+import ar.edu.davinci.excusas.entity.EmailOutboxEntity.EstadoEmail;
+import ar.edu.davinci.excusas.model.email.interfaces.IEmailSender;
+import ar.edu.davinci.excusas.repository.EmailOutboxRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Vacía la tabla email_outbox en lotes desde un único hilo de fondo; los envíos fallidos se reintentan
+// con espera exponencial hasta agotar los intentos y ahí pasan a las notificaciones fallidas
+@Service
+public class DespachadorEmailsService {
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("transporteEmail")
+    private IEmailSender transporte;
+
+    @Autowired
+    private NotificacionesFallidasService notificacionesFallidas;
+
+    @Value("${app.email.outbox.habilitado:true}")
+    private boolean habilitado;
+
+    @Value("${app.email.outbox.intervalo-ms:1000}")
+    private long intervaloMs;
+
+    @Value("${app.email.outbox.tamanio-lote:50}")
+    private int tamanioLote;
+
+    @Value("${app.email.outbox.max-intentos:5}")
+    private int maxIntentos;
+
+    @Value("${app.email.outbox.backoff-inicial-ms:1000}")
+    private long backoffInicialMs;
+
+    @Value("${app.email.outbox.backoff-maximo-ms:300000}")
+    private long backoffMaximoMs;
+
+    private ScheduledExecutorService executor;
+    private TransactionTemplate transaccion;
+
+    @PostConstruct
+    void iniciar() {
+        transaccion = new TransactionTemplate(transactionManager);
+        // Con intervalo 0 no hay hilo de fondo y el outbox se vacía solo llamando a despacharPendientes
+        if (!habilitado || intervaloMs <= 0) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(tarea -> {
+            Thread hilo = new Thread(tarea, "despachador-emails");
+            hilo.setDaemon(true);
+            return hilo;
+        });
+        executor.scheduleWithFixedDelay(this::despacharEnSegundoPlano, intervaloMs, intervaloMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void detener() throws InterruptedException {
+        if (executor != null) {
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private void despacharEnSegundoPlano() {
+        try {
+            // Se siguen tomando lotes mientras vengan completos
+            int despachados;
+            do {
+                despachados = despacharPendientes();
+            } while (despachados == tamanioLote);
+        } catch (RuntimeException e) {
+            System.err.println("Error despachando emails: " + e.getMessage());
+        }
+    }
+
+    // Devuelve cuántos emails del lote se intentaron enviar
+    public synchronized int despacharPendientes() {
+        List<EmailOutboxEntity> lote = transaccion.execute(status -> emailOutboxRepository.findListosParaEnviar(
+                EstadoEmail.PENDIENTE, LocalDateTime.now(), PageRequest.of(0, tamanioLote)));
+        if (lote == null || lote.isEmpty()) {
+            return 0;
+        }
+
+        // El envío ocurre fuera de la transacción para no retener conexiones mientras responde el servidor de correo
+        List<Long> enviados = new ArrayList<>(lote.size());
+        List<EmailOutboxEntity> fallidos = new ArrayList<>();
+        Map<EmailOutboxEntity, RuntimeException> agotados = new LinkedHashMap<>();
+        for (EmailOutboxEntity email : lote) {
+            try {
+                transporte.enviarEmail(email.getDestino(), email.getOrigen(), email.getAsunto(), email.getCuerpo());
+                enviados.add(email.getId());
+            } catch (RuntimeException e) {
+                if (registrarFallo(email, e)) {
+                    agotados.put(email, e);
+                }
+                fallidos.add(email);
+            }
+        }
+
+        transaccion.executeWithoutResult(status -> {
+            if (!enviados.isEmpty()) {
+                emailOutboxRepository.marcarEnviados(enviados, LocalDateTime.now());
+            }
+            emailOutboxRepository.saveAll(fallidos);
+            agotados.forEach((email, error) -> notificacionesFallidas.emailFallido(email.getDestino(),
+                    email.getOrigen(), email.getAsunto(), email.getCuerpo(), email.getIntentos(), error));
+        });
+        notificacionesFallidas.emailEntregado(enviados.size());
+        return lote.size();
+    }
+
+    // Devuelve true si el email agotó los intentos
+    private boolean registrarFallo(EmailOutboxEntity email, RuntimeException error) {
+        int intentos = email.getIntentos() + 1;
+        email.setIntentos(intentos);
+        email.setUltimoError(recortar(error.getMessage()));
+        if (intentos >= maxIntentos) {
+            email.setEstado(EstadoEmail.FALLIDO);
+            return true;
+        }
+        notificacionesFallidas.emailReintentado();
+        email.setProximoIntento(LocalDateTime.now().plusNanos(calcularEspera(intentos) * 1_000_000L));
+        return false;
+    }
+
+    long calcularEspera(int intentos) {
+        long espera = backoffInicialMs << Math.min(intentos - 1, 30);
+        return Math.min(espera, backoffMaximoMs);
+    }
+
+    private String recortar(String mensaje) {
+        if (mensaje == null) {
+            return null;
+        }
+        return mensaje.length() > 500 ? mensaje.substring(0, 500) : mensaje;
+    }
+
+    public long contarPorEstado(EstadoEmail estado) {
+        return emailOutboxRepository.countByEstado(estado);
+    }
+}
@@ -1,5 +1,6 @@
 package ar.edu.davinci.excusas.service;
 
+import ar.edu.davinci.excusas.dto.Pagina;
 import ar.edu.davinci.excusas.dto.mapper.EmpleadoMapper;
 import ar.edu.davinci.excusas.entity.EmpleadoEntity;
 import ar.edu.davinci.excusas.exception.DuplicateEntityException;
@@ -23,6 +24,9 @@ public class EmpleadoService {
     @Autowired
     private EmpleadoMapper empleadoMapper;
 
+    @Autowired
+    private Paginador paginador;
+
     private int contadorLegajo = 1000;
 
     public Empleado crearEmpleado(String nombre, String email) {
@@ -53,6 +57,14 @@ public class EmpleadoService {
                 .toList();
     }
 
+    @Transactional(readOnly = true)
+    public Pagina<Empleado> obtenerTodosLosEmpleados(Long desdeId, Integer limite) {
+        int tamanio = paginador.limite(limite);
+        List<EmpleadoEntity> filas = empleadoRepository.findByIdGreaterThanOrderByIdAsc(
+                paginador.desde(desdeId), paginador.consulta(tamanio));
+        return paginador.armar(filas, tamanio, EmpleadoEntity::getId, empleadoMapper::toModel);
+    }
+
     @Transactional(readOnly = true)
     public Empleado obtenerEmpleadoPorLegajo(int legajo) {
         validarLegajo(legajo);
@@ -87,6 +99,19 @@ public class EmpleadoService {
                 .toList();
     }
 
+    @Transactional(readOnly = true)
+    public Pagina<Empleado> buscarPorNombre(String nombre, Long desdeId, Integer limite) {
+        validarNombreBusqueda(nombre);
+
+        int tamanio = paginador.limite(limite);
+        List<EmpleadoEntity> filas = empleadoRepository.findByNombreDesde(
+                nombre.trim(), paginador.desde(desdeId), paginador.consulta(tamanio));
+        if (filas.isEmpty() && desdeId == null) {
+            throw new EmpleadoNotFoundException("No se encontraron empleados con el nombre: " + nombre);
+        }
+        return paginador.armar(filas, tamanio, EmpleadoEntity::getId, empleadoMapper::toModel);
+    }
+
     private void validarDatosEmpleado(String nombre, String email) {
         if (nombre == null || nombre.trim().isEmpty()) {
             throw new InvalidDataException("El nombre es obligatorio");
@@ -2,14 +2,20 @@ package ar.edu.davinci.excusas.service;
 
 import ar.edu.davinci.excusas.exception.EncargadoNotFoundException;
 import ar.edu.davinci.excusas.exception.InvalidDataException;
+import ar.edu.davinci.excusas.model.email.ServiciosEmail;
 import ar.edu.davinci.excusas.model.empleados.encargados.*;
 import ar.edu.davinci.excusas.model.empleados.encargados.modos.*;
+import ar.edu.davinci.excusas.model.empleados.encargados.modos.interfaces.IModoManejo;
 import ar.edu.davinci.excusas.model.empleados.interfaces.IManejadorExcusas;
+import ar.edu.davinci.excusas.model.excusas.motivos.CategoriaMotivo;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import ar.edu.davinci.excusas.exception.DuplicateEntityException;
@@ -17,7 +23,14 @@ import ar.edu.davinci.excusas.exception.DuplicateEntityException;
 @Service
 public class EncargadoService {
 
-    private final Map<String, IManejadorExcusas> encargados = new HashMap<>();
+    @Autowired
+    private ServiciosEmail serviciosEmail;
+
+    // Los lectores (consultas y la cadena de procesamiento) toman la instantánea publicada sin bloquear;
+    // las escrituras se serializan y publican una instantánea nueva con la versión siguiente
+    private volatile InstantaneaEncargados instantanea;
+    private final Object escritura = new Object();
+
     private final List<String> tiposEncargadosValidos = Arrays.asList(
             "recepcionista", "supervisor", "gerente", "ceo"
     );
@@ -33,11 +46,10 @@ public class EncargadoService {
     }
 
     public List<EncargadoInfo> obtenerTodosLosEncargados() {
-        List<EncargadoInfo> info = new ArrayList<>();
-        for (Map.Entry<String, IManejadorExcusas> entry : encargados.entrySet()) {
-            IManejadorExcusas encargado = entry.getValue();
-            EncargadoInfo encargadoInfo = crearEncargadoInfo(entry.getKey(), encargado);
-            info.add(encargadoInfo);
+        InstantaneaEncargados actual = instantanea;
+        List<EncargadoInfo> info = new ArrayList<>(actual.getEncargados().size());
+        for (EncargadoRegistrado registrado : actual.getEncargados().values()) {
+            info.add(crearEncargadoInfo(registrado.tipo(), registrado));
         }
         return info;
     }
@@ -45,53 +57,66 @@ public class EncargadoService {
     public EncargadoInfo obtenerEncargado(String tipo) {
         validarTipoEncargado(tipo);
 
-        IManejadorExcusas encargado = encargados.get(tipo.toLowerCase());
-        if (encargado == null) {
+        EncargadoRegistrado registrado = instantanea.getEncargados().get(tipo.toLowerCase());
+        if (registrado == null) {
             throw new EncargadoNotFoundException("Encargado no encontrado: " + tipo);
         }
 
-        return crearEncargadoInfo(tipo, encargado);
+        return crearEncargadoInfo(tipo, registrado);
     }
 
     public EncargadoInfo crearEncargadoDinamico(String tipo, String nombre, String email, List<String> capacidades) {
         validarDatosNuevoEncargado(tipo, nombre, email, capacidades);
 
-        if (encargados.containsKey(tipo.toLowerCase())) {
-            throw new DuplicateEntityException("Ya existe un encargado del tipo: " + tipo);
-        }
+        synchronized (escritura) {
+            InstantaneaEncargados actual = instantanea;
+            if (actual.getEncargados().containsKey(tipo.toLowerCase())) {
+                throw new DuplicateEntityException("Ya existe un encargado del tipo: " + tipo);
+            }
 
-        // Crear encargado dinámico basado en capacidades
-        IManejadorExcusas nuevoEncargado = crearEncargadoPorCapacidades(nombre, email, capacidades);
-        encargados.put(tipo.toLowerCase(), nuevoEncargado);
+            // Crear encargado dinámico basado en capacidades
+            IManejadorExcusas nuevoEncargado = crearEncargadoPorCapacidades(
+                    nombre, email, capacidades, actual.getEncargados().size());
+            Map<String, EncargadoRegistrado> encargados = new LinkedHashMap<>(actual.getEncargados());
+            EncargadoRegistrado registrado = registrar(tipo.toLowerCase(), nuevoEncargado, new ModoNormal());
+            encargados.put(registrado.tipo(), registrado);
+            instantanea = new InstantaneaEncargados(actual.getVersion() + 1, encargados);
 
-        return crearEncargadoInfo(tipo, nuevoEncargado);
+            return crearEncargadoInfo(tipo, registrado);
+        }
     }
 
     public void cambiarModo(String tipo, String modo) {
         validarTipoEncargadoExistente(tipo);
         validarModo(modo);
 
-        IManejadorExcusas encargado = encargados.get(tipo.toLowerCase());
-        if (encargado == null) {
-            throw new EncargadoNotFoundException("Encargado no encontrado: " + tipo);
+        synchronized (escritura) {
+            InstantaneaEncargados actual = instantanea;
+            EncargadoRegistrado registrado = actual.getEncargados().get(tipo.toLowerCase());
+
+            // El encargado registrado no se modifica: el modo vive en la instantánea
+            Map<String, EncargadoRegistrado> encargados = new LinkedHashMap<>(actual.getEncargados());
+            encargados.put(registrado.tipo(), registrado.conModo(crearModo(modo.toUpperCase())));
+            instantanea = new InstantaneaEncargados(actual.getVersion() + 1, encargados);
         }
+    }
 
-        asignarModo(encargado, modo.toUpperCase());
+    public long getVersion() {
+        return instantanea.getVersion();
+    }
+
+    public InstantaneaEncargados obtenerInstantanea() {
+        return instantanea;
     }
 
     public List<EncargadoInfo> obtenerEncargadosPorCapacidad(String capacidad) {
         validarCapacidad(capacidad);
 
-        List<EncargadoInfo> resultado = new ArrayList<>();
-
-        for (Map.Entry<String, IManejadorExcusas> entry : encargados.entrySet()) {
-            IManejadorExcusas encargado = entry.getValue();
-            List<String> capacidades = obtenerCapacidades(encargado);
-
-            if (capacidades.contains(capacidad.toUpperCase())) {
-                EncargadoInfo info = crearEncargadoInfo(entry.getKey(), encargado);
-                resultado.add(info);
-            }
+        InstantaneaEncargados actual = instantanea;
+        List<String> tipos = actual.getTiposPorCapacidad(CategoriaMotivo.valueOf(capacidad.toUpperCase()));
+        List<EncargadoInfo> resultado = new ArrayList<>(tipos.size());
+        for (String tipo : tipos) {
+            resultado.add(crearEncargadoInfo(tipo, actual.getEncargados().get(tipo)));
         }
 
         if (resultado.isEmpty()) {
@@ -102,46 +127,46 @@ public class EncargadoService {
     }
 
     private void inicializarEncargados() {
-        encargados.put("recepcionista", new Recepcionista("Laura Recep", "laura@excusas.com", 2001));
-        encargados.put("supervisor", new SupervisorArea("Pedro Super", "pedro@excusas.com", 2002));
-        encargados.put("gerente", new GerenteRecursosHumanos("Sofia Gerente", "sofia@excusas.com", 2003));
-        encargados.put("ceo", new CEO("Roberto CEO", "roberto@excusas.com", 2004));
+        Map<String, EncargadoRegistrado> encargados = new LinkedHashMap<>();
+        for (EncargadoRegistrado registrado : List.of(
+                registrar("recepcionista", new Recepcionista("Laura Recep", "laura@excusas.com", 2001), new ModoNormal()),
+                registrar("supervisor", new SupervisorArea("Pedro Super", "pedro@excusas.com", 2002), new ModoNormal()),
+                registrar("gerente", new GerenteRecursosHumanos("Sofia Gerente", "sofia@excusas.com", 2003), new ModoNormal()),
+                registrar("ceo", new CEO("Roberto CEO", "roberto@excusas.com", 2004), new ModoNormal()))) {
+            encargados.put(registrado.tipo(), registrado);
+        }
+        instantanea = new InstantaneaEncargados(0, encargados);
+    }
+
+    // Las capacidades no dependen del modo: se calculan una sola vez al registrar el encargado
+    private EncargadoRegistrado registrar(String tipo, IManejadorExcusas encargado, IModoManejo modo) {
+        int mascara = CategoriaMotivo.mascaraDe(encargado);
+        return new EncargadoRegistrado(tipo, encargado, modo, mascara, CategoriaMotivo.nombresDe(mascara));
     }
 
-    private IManejadorExcusas crearEncargadoPorCapacidades(String nombre, String email, List<String> capacidades) {
+    private IManejadorExcusas crearEncargadoPorCapacidades(String nombre, String email, List<String> capacidades,
+                                                           int cantidadEncargados) {
         // Crear un encargado genérico que puede manejar las capacidades especificadas
-        return new EncargadoDinamico(nombre, email, 3000 + encargados.size(), capacidades);
+        return new EncargadoDinamico(nombre, email, 3000 + cantidadEncargados, CategoriaMotivo.mascaraDe(capacidades));
     }
 
-    private EncargadoInfo crearEncargadoInfo(String tipo, IManejadorExcusas encargado) {
+    private EncargadoInfo crearEncargadoInfo(String tipo, EncargadoRegistrado registrado) {
         EncargadoInfo info = new EncargadoInfo();
         info.setTipo(tipo);
-        info.setEmailOrigen(encargado.getEmailOrigen());
-        info.setModoActual(encargado.getModo().getClass().getSimpleName());
-        info.setCapacidades(obtenerCapacidades(encargado));
+        info.setEmailOrigen(registrado.encargado().getEmailOrigen());
+        info.setModoActual(registrado.modo().getClass().getSimpleName());
+        info.setCapacidades(registrado.capacidades());
         return info;
     }
 
-    private List<String> obtenerCapacidades(IManejadorExcusas encargado) {
-        List<String> capacidades = new ArrayList<>();
-        if (encargado.puedeManejarTrivial()) capacidades.add("TRIVIAL");
-        if (encargado.puedeManejarModerado()) capacidades.add("MODERADO");
-        if (encargado.puedeManejarComplejo()) capacidades.add("COMPLEJO");
-        if (encargado.puedeManejarInverosimil()) capacidades.add("INVEROSIMIL");
-        return capacidades;
-    }
-
-    private void asignarModo(IManejadorExcusas encargado, String modo) {
+    private IModoManejo crearModo(String modo) {
         switch (modo) {
             case "NORMAL":
-                encargado.setModo(new ModoNormal());
-                break;
+                return new ModoNormal();
             case "PRODUCTIVO":
-                encargado.setModo(new ModoProductivo());
-                break;
+                return new ModoProductivo(serviciosEmail.getNotificadorProductivo());
             case "VAGO":
-                encargado.setModo(new ModoVago());
-                break;
+                return new ModoVago();
             default:
                 throw new InvalidDataException("Modo no válido: " + modo);
         }
@@ -154,7 +179,7 @@ public class EncargadoService {
     }
 
     private void validarTipoEncargadoExistente(String tipo) {
-        if (!encargados.containsKey(tipo.toLowerCase())) {
+        if (!instantanea.getEncargados().containsKey(tipo.toLowerCase())) {
             throw new EncargadoNotFoundException("Encargado no encontrado: " + tipo);
         }
     }
@@ -207,4 +232,57 @@ public class EncargadoService {
         public List<String> getCapacidades() { return capacidades; }
         public void setCapacidades(List<String> capacidades) { this.capacidades = capacidades; }
     }
+
+    public record EncargadoRegistrado(String tipo, IManejadorExcusas encargado, IModoManejo modo,
+                                      int mascaraCapacidades, List<String> capacidades) {
+
+        EncargadoRegistrado conModo(IModoManejo nuevoModo) {
+            return new EncargadoRegistrado(tipo, encargado, nuevoModo, mascaraCapacidades, capacidades);
+        }
+    }
+
+    // Inmutable: cada cambio de configuración publica una instancia nueva
+    public static class InstantaneaEncargados {
+        private final long version;
+        private final Map<String, EncargadoRegistrado> encargados;
+        private final Map<CategoriaMotivo, List<String>> tiposPorCapacidad;
+
+        InstantaneaEncargados(long version, Map<String, EncargadoRegistrado> encargados) {
+            this.version = version;
+            this.encargados = Collections.unmodifiableMap(new LinkedHashMap<>(encargados));
+
+            Map<CategoriaMotivo, List<String>> indice = new EnumMap<>(CategoriaMotivo.class);
+            for (CategoriaMotivo categoria : CategoriaMotivo.values()) {
+                List<String> tipos = new ArrayList<>();
+                for (EncargadoRegistrado registrado : this.encargados.values()) {
+                    if (categoria.estaEn(registrado.mascaraCapacidades())) {
+                        tipos.add(registrado.tipo());
+                    }
+                }
+                indice.put(categoria, List.copyOf(tipos));
+            }
+            this.tiposPorCapacidad = Collections.unmodifiableMap(indice);
+        }
+
+        public long getVersion() { return version; }
+        public Map<String, EncargadoRegistrado> getEncargados() { return encargados; }
+        public List<String> getTiposPorCapacidad(CategoriaMotivo categoria) { return tiposPorCapacidad.get(categoria); }
+
+        // Encargados y modos en el orden de los eslabones de la cadena
+        public List<IManejadorExcusas> getConfiguracionCadena() {
+            List<IManejadorExcusas> configuracion = new ArrayList<>(encargados.size());
+            for (EncargadoRegistrado registrado : encargados.values()) {
+                configuracion.add(registrado.encargado());
+            }
+            return configuracion;
+        }
+
+        public List<IModoManejo> getModosCadena() {
+            List<IModoManejo> modos = new ArrayList<>(encargados.size());
+            for (EncargadoRegistrado registrado : encargados.values()) {
+                modos.add(registrado.modo());
+            }
+            return modos;
+        }
+    }
 }
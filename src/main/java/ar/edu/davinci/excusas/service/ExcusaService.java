@@ -1,25 +1,45 @@
 package ar.edu.davinci.excusas.service;
 
 import ar.edu.davinci.excusas.dto.mapper.EmpleadoMapper;
+import ar.edu.davinci.excusas.dto.Pagina;
 import ar.edu.davinci.excusas.dto.mapper.ExcusaMapper;
 import ar.edu.davinci.excusas.entity.EmpleadoEntity;
 import ar.edu.davinci.excusas.entity.ExcusaEntity;
+import ar.edu.davinci.excusas.entity.ExcusaEntity.TipoMotivo;
 import ar.edu.davinci.excusas.exception.BusinessRuleException;
 import ar.edu.davinci.excusas.exception.ExcusaNotFoundException;
 import ar.edu.davinci.excusas.exception.InvalidDataException;
 import ar.edu.davinci.excusas.model.empleados.Empleado;
 import ar.edu.davinci.excusas.model.empleados.encargados.CadenaDeEncargados;
+import ar.edu.davinci.excusas.model.empleados.encargados.EncargadoPorDefecto;
+import ar.edu.davinci.excusas.model.empleados.interfaces.IManejadorExcusas;
 import ar.edu.davinci.excusas.model.excusas.Excusa;
 import ar.edu.davinci.excusas.model.excusas.motivos.*;
-import ar.edu.davinci.excusas.model.prontuarios.AdministradorProntuariosJPA;
 import ar.edu.davinci.excusas.repository.EmpleadoRepository;
 import ar.edu.davinci.excusas.repository.ExcusaRepository;
+import ar.edu.davinci.excusas.repository.ProntuarioRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
@@ -36,6 +56,9 @@ public class ExcusaService {
     @Autowired
     private EmpleadoRepository empleadoRepository;
 
+    @Autowired
+    private ProntuarioRepository prontuarioRepository;
+
     @Autowired
     private ExcusaMapper excusaMapper;
 
@@ -43,7 +66,24 @@ public class ExcusaService {
     private EmpleadoMapper empleadoMapper;
 
     @Autowired
-    private AdministradorProntuariosJPA administradorProntuarios;
+    private Paginador paginador;
+
+    @Autowired
+    private CadenaDeEncargadosService cadenaDeEncargadosService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.procesamiento.tamanio-lote:500}")
+    private int tamanioLotePorDefecto;
+
+    @Value("${app.retencion.tamanio-lote:1000}")
+    private int tamanioLoteRetencion;
+
+    private static final int TAMANIO_LOTE_MAXIMO = 5000;
+    private static final int PARALELISMO_MAXIMO = 64;
+    private static final LocalDateTime FECHA_MINIMA = LocalDateTime.of(1900, 1, 1, 0, 0);
+    private static final LocalDateTime FECHA_MAXIMA = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
 
     private final List<String> tiposMotivosValidos = Arrays.asList(
             "TRIVIAL", "PROBLEMA_ELECTRICO", "PROBLEMA_FAMILIAR", "COMPLEJO", "INVEROSIMIL"
@@ -64,38 +104,204 @@ public class ExcusaService {
         return excusaMapper.toModel(savedEntity);
     }
 
-    public void procesarExcusa(int index) {
-        List<ExcusaEntity> excusasEntities = excusaRepository.findAll();
-
-        if (index < 0) {
-            throw new InvalidDataException("El índice no puede ser negativo");
-        }
-        if (index >= excusasEntities.size()) {
-            throw new ExcusaNotFoundException("Excusa no encontrada en el índice: " + index);
-        }
+    public Excusa procesarExcusa(int index) {
+        return procesarExcusaPorId(obtenerIdExcusaPorIndice(index));
+    }
 
-        ExcusaEntity excusaEntity = excusasEntities.get(index);
+    public Excusa procesarExcusaPorId(Long id) {
+        ExcusaEntity excusaEntity = excusaRepository.findByIdConEmpleado(id)
+                .orElseThrow(() -> new ExcusaNotFoundException("Excusa no encontrada con id: " + id));
         Excusa excusa = excusaMapper.toModel(excusaEntity);
 
         try {
-            // Create chain with JPA administrator for proper prontuario persistence
-            CadenaDeEncargados cadenaConJPA = new CadenaDeEncargados(administradorProntuarios);
-            cadenaConJPA.procesarExcusa(excusa);
+            CadenaDeEncargados cadena = cadenaDeEncargadosService.obtenerCadena();
+            cadena.procesarExcusa(excusa);
 
             excusaEntity.setProcesada(true);
+            excusaEntity.setVersionEncargados(cadena.getVersion());
             excusaRepository.save(excusaEntity);
         } catch (Exception e) {
             throw new RuntimeException("Error en el procesamiento de la excusa: " + e.getMessage(), e);
         }
+
+        return excusaMapper.toModel(excusaEntity);
+    }
+
+    // Cada lote se procesa y confirma en su propia transacción; el recorrido es por id (keyset)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResultadoProcesamientoMasivo procesarExcusasPendientes(Integer tamanioLote) {
+        int tamanio = resolverTamanioLote(tamanioLote);
+        TransactionTemplate lectura = new TransactionTemplate(transactionManager);
+        lectura.setReadOnly(true);
+        ResultadoProcesamientoMasivo resultado = new ResultadoProcesamientoMasivo();
+
+        long ultimoId = 0L;
+        while (true) {
+            long desde = ultimoId;
+            List<Excusa> lote = lectura.execute(status -> excusaRepository
+                    .findPendientesDesde(desde, PageRequest.of(0, tamanio)).stream()
+                    .map(excusaMapper::toModel)
+                    .toList());
+            if (lote == null || lote.isEmpty()) {
+                break;
+            }
+
+            // Todo el lote se procesa contra la misma versión de la configuración de encargados
+            CadenaDeEncargados cadena = cadenaDeEncargadosService.obtenerCadena();
+            resultado.registrarVersion(cadena.getVersion());
+            resultado.acumular(procesarAislandoErrores(cadena, lote));
+
+            ultimoId = lote.get(lote.size() - 1).getId();
+            resultado.registrarLote(ultimoId);
+        }
+
+        return resultado;
+    }
+
+    // Las excusas se procesan y marcan en una sola transacción; la que falla queda pendiente y las demás se
+    // marcan igual. Solo si el error invalidó la transacción (Hibernate la marca para rollback ante cualquier
+    // error de persistencia y el dialecto JPA de Spring no ofrece savepoints) se deshace el lote y se vuelven
+    // a procesar las excusas anteriores a la fallida, sin ella; las posteriores todavía no habían pasado por la cadena
+    private ResultadoProcesamientoMasivo procesarAislandoErrores(CadenaDeEncargados cadena, List<Excusa> excusas) {
+        TransactionTemplate transaccion = new TransactionTemplate(transactionManager);
+        try {
+            return transaccion.execute(status -> procesarYMarcar(cadena, excusas, status));
+        } catch (TransaccionInvalidada e) {
+            ResultadoProcesamientoMasivo resultado = new ResultadoProcesamientoMasivo();
+            List<Excusa> resto = new ArrayList<>(excusas);
+            resto.remove(e.fallida);
+            if (!resto.isEmpty()) {
+                resultado.acumular(procesarAislandoErrores(cadena, resto));
+            }
+            resultado.registrarError(e.fallida.getId());
+            return resultado;
+        }
+    }
+
+    private ResultadoProcesamientoMasivo procesarYMarcar(CadenaDeEncargados cadena, List<Excusa> excusas,
+                                                         TransactionStatus status) {
+        ResultadoProcesamientoMasivo resultado = new ResultadoProcesamientoMasivo();
+        List<Long> procesadas = new ArrayList<>(excusas.size());
+        for (Excusa excusa : excusas) {
+            try {
+                resultado.registrar(cadena.procesarExcusa(excusa));
+                procesadas.add(excusa.getId());
+            } catch (RuntimeException e) {
+                if (status.isRollbackOnly()) {
+                    throw new TransaccionInvalidada(excusa, e);
+                }
+                resultado.registrarError(excusa.getId());
+            }
+        }
+        if (!procesadas.isEmpty()) {
+            excusaRepository.marcarProcesadas(procesadas, cadena.getVersion());
+        }
+        return resultado;
+    }
+
+    private static class TransaccionInvalidada extends RuntimeException {
+        private final Excusa fallida;
+
+        TransaccionInvalidada(Excusa fallida, RuntimeException causa) {
+            super("Error procesando excusa " + fallida.getId(), causa);
+            this.fallida = fallida;
+        }
+    }
+
+    // Las excusas de un mismo legajo se procesan en orden de id, en un solo hilo y una sola transacción;
+    // legajos distintos se procesan en paralelo. Los lotes se recorren uno tras otro.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResultadoProcesamientoMasivo procesarExcusasPendientesEnParalelo(Integer tamanioLote, int paralelismo) {
+        if (paralelismo < 1 || paralelismo > PARALELISMO_MAXIMO) {
+            throw new InvalidDataException("El paralelismo debe estar entre 1 y " + PARALELISMO_MAXIMO);
+        }
+        int tamanio = resolverTamanioLote(tamanioLote);
+        TransactionTemplate lectura = new TransactionTemplate(transactionManager);
+        lectura.setReadOnly(true);
+        ResultadoProcesamientoMasivo resultado = new ResultadoProcesamientoMasivo();
+        ForkJoinPool pool = new ForkJoinPool(paralelismo);
+
+        try {
+            long ultimoId = 0L;
+            while (true) {
+                long desde = ultimoId;
+                List<Excusa> lote = lectura.execute(status -> excusaRepository
+                        .findPendientesDesde(desde, PageRequest.of(0, tamanio)).stream()
+                        .map(excusaMapper::toModel)
+                        .toList());
+                if (lote == null || lote.isEmpty()) {
+                    break;
+                }
+
+                Map<Integer, List<Excusa>> porLegajo = lote.stream()
+                        .collect(Collectors.groupingBy(Excusa::getLegajoEmpleado, LinkedHashMap::new, Collectors.toList()));
+                CadenaDeEncargados cadena = cadenaDeEncargadosService.obtenerCadena();
+                resultado.registrarVersion(cadena.getVersion());
+                List<Callable<ResultadoProcesamientoMasivo>> tareas = new ArrayList<>();
+                for (List<Excusa> excusasDelLegajo : porLegajo.values()) {
+                    tareas.add(() -> procesarAislandoErrores(cadena, excusasDelLegajo));
+                }
+                for (Future<ResultadoProcesamientoMasivo> parcial : pool.invokeAll(tareas)) {
+                    resultado.acumular(parcial.get());
+                }
+
+                ultimoId = lote.get(lote.size() - 1).getId();
+                resultado.registrarLote(ultimoId);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Procesamiento en paralelo interrumpido", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Error en el procesamiento en paralelo: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+
+        return resultado;
+    }
+
+    private int resolverTamanioLote(Integer tamanioLote) {
+        if (tamanioLote == null) {
+            return tamanioLotePorDefecto;
+        }
+        if (tamanioLote < 1 || tamanioLote > TAMANIO_LOTE_MAXIMO) {
+            throw new InvalidDataException("El tamaño de lote debe estar entre 1 y " + TAMANIO_LOTE_MAXIMO);
+        }
+        return tamanioLote;
+    }
+
+    // Compatibilidad con el acceso por índice: resuelve solo el id, sin cargar las excusas
+    @Transactional(readOnly = true)
+    public Long obtenerIdExcusaPorIndice(int index) {
+        if (index < 0) {
+            throw new InvalidDataException("El índice no puede ser negativo");
+        }
+
+        return excusaRepository.findIdsOrdenados(PageRequest.of(index, 1)).stream()
+                .findFirst()
+                .orElseThrow(() -> new ExcusaNotFoundException("Excusa no encontrada en el índice: " + index));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> obtenerIdsExcusasPorTipoMotivo(String tipoMotivo) {
+        return excusaRepository.findIdsByTipoMotivo(validarTipoMotivo(tipoMotivo));
     }
 
     @Transactional(readOnly = true)
     public List<Excusa> obtenerTodasLasExcusas() {
-        return excusaRepository.findAll().stream()
+        return excusaRepository.findAllConEmpleado().stream()
                 .map(excusaMapper::toModel)
                 .toList();
     }
 
+    @Transactional(readOnly = true)
+    public Pagina<Excusa> obtenerTodasLasExcusas(Long desdeId, Integer limite) {
+        int tamanio = paginador.limite(limite);
+        List<ExcusaEntity> filas = excusaRepository.findByIdGreaterThanOrderByIdAsc(
+                paginador.desde(desdeId), paginador.consulta(tamanio));
+        return paginador.armar(filas, tamanio, ExcusaEntity::getId, excusaMapper::toModel);
+    }
+
     @Transactional(readOnly = true)
     public List<Excusa> obtenerExcusasPorEmpleado(int legajo) {
         validarLegajo(legajo);
@@ -115,10 +321,22 @@ public class ExcusaService {
     }
 
     @Transactional(readOnly = true)
-    public List<Excusa> obtenerExcusasPorTipoMotivo(String tipoMotivo) {
-        validarTipoMotivo(tipoMotivo);
+    public Pagina<Excusa> obtenerExcusasPorEmpleado(int legajo, Long desdeId, Integer limite) {
+        validarLegajo(legajo);
+        empleadoService.obtenerEmpleadoPorLegajo(legajo);
+
+        int tamanio = paginador.limite(limite);
+        List<ExcusaEntity> filas = excusaRepository.findByEmpleadoLegajoAndIdGreaterThanOrderByIdAsc(
+                legajo, paginador.desde(desdeId), paginador.consulta(tamanio));
+        if (filas.isEmpty() && desdeId == null) {
+            throw new ExcusaNotFoundException("No se encontraron excusas para el empleado con legajo: " + legajo);
+        }
+        return paginador.armar(filas, tamanio, ExcusaEntity::getId, excusaMapper::toModel);
+    }
 
-        List<ExcusaEntity> entities = excusaRepository.findByTipoMotivoContainingIgnoreCase(tipoMotivo);
+    @Transactional(readOnly = true)
+    public List<Excusa> obtenerExcusasPorTipoMotivo(String tipoMotivo) {
+        List<ExcusaEntity> entities = excusaRepository.findByTipoMotivo(validarTipoMotivo(tipoMotivo));
 
         if (entities.isEmpty()) {
             throw new ExcusaNotFoundException("No se encontraron excusas con el tipo de motivo: " + tipoMotivo);
@@ -129,6 +347,19 @@ public class ExcusaService {
                 .toList();
     }
 
+    @Transactional(readOnly = true)
+    public Pagina<Excusa> obtenerExcusasPorTipoMotivo(String tipoMotivo, Long desdeId, Integer limite) {
+        TipoMotivo tipo = validarTipoMotivo(tipoMotivo);
+
+        int tamanio = paginador.limite(limite);
+        List<ExcusaEntity> filas = excusaRepository.findByTipoMotivoDesde(
+                tipo, paginador.desde(desdeId), paginador.consulta(tamanio));
+        if (filas.isEmpty() && desdeId == null) {
+            throw new ExcusaNotFoundException("No se encontraron excusas con el tipo de motivo: " + tipoMotivo);
+        }
+        return paginador.armar(filas, tamanio, ExcusaEntity::getId, excusaMapper::toModel);
+    }
+
     @Transactional(readOnly = true)
     public List<Excusa> obtenerExcusasRechazadas() {
         List<ExcusaEntity> entities = excusaRepository.findByProcesada(false);
@@ -142,6 +373,17 @@ public class ExcusaService {
                 .toList();
     }
 
+    @Transactional(readOnly = true)
+    public Pagina<Excusa> obtenerExcusasRechazadas(Long desdeId, Integer limite) {
+        int tamanio = paginador.limite(limite);
+        List<ExcusaEntity> filas = excusaRepository.findByProcesadaAndIdGreaterThanOrderByIdAsc(
+                false, paginador.desde(desdeId), paginador.consulta(tamanio));
+        if (filas.isEmpty() && desdeId == null) {
+            throw new ExcusaNotFoundException("No se encontraron excusas rechazadas");
+        }
+        return paginador.armar(filas, tamanio, ExcusaEntity::getId, excusaMapper::toModel);
+    }
+
     @Transactional(readOnly = true)
     public List<Excusa> buscarExcusasPorLegajoYFechas(int legajo, LocalDate fechaDesde, LocalDate fechaHasta) {
         validarLegajo(legajo);
@@ -177,6 +419,30 @@ public class ExcusaService {
                 .toList();
     }
 
+    @Transactional(readOnly = true)
+    public Pagina<Excusa> buscarExcusasPorLegajoYFechas(int legajo, LocalDate fechaDesde, LocalDate fechaHasta,
+                                                        Long desdeId, Integer limite) {
+        validarLegajo(legajo);
+        empleadoService.obtenerEmpleadoPorLegajo(legajo);
+        if (fechaDesde != null && fechaHasta != null && fechaDesde.isAfter(fechaHasta)) {
+            throw new InvalidDataException("La fecha desde no puede ser posterior a la fecha hasta");
+        }
+
+        // Un extremo sin fecha queda abierto
+        LocalDateTime fechaDesdeTime = fechaDesde != null ? fechaDesde.atStartOfDay() : FECHA_MINIMA;
+        LocalDateTime fechaHastaTime = fechaHasta != null ? fechaHasta.atTime(23, 59, 59) : FECHA_MAXIMA;
+        int tamanio = paginador.limite(limite);
+        List<ExcusaEntity> filas = excusaRepository.findByLegajoYFechasDesde(
+                legajo, fechaDesdeTime, fechaHastaTime, paginador.desde(desdeId), paginador.consulta(tamanio));
+        if (filas.isEmpty() && desdeId == null) {
+            throw new ExcusaNotFoundException("No se encontraron excusas para los criterios especificados");
+        }
+        return paginador.armar(filas, tamanio, ExcusaEntity::getId, excusaMapper::toModel);
+    }
+
+    // Se borra de a lotes, cada uno en su propia transacción: los bloqueos y el deshacer de la base quedan
+    // acotados al lote y en memoria solo están sus ids. Los prontuarios de esas excusas caen en el mismo lote
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public int eliminarExcusasAnterioresA(LocalDate fechaLimite) {
         if (fechaLimite == null) {
             throw new InvalidDataException("La fecha límite es obligatoria");
@@ -187,18 +453,33 @@ public class ExcusaService {
         }
 
         LocalDateTime fechaLimiteTime = fechaLimite.atTime(23, 59, 59);
-        List<ExcusaEntity> excusasAEliminar = excusaRepository.findByFechaCreacionLessThanEqual(fechaLimiteTime);
+        TransactionTemplate transaccion = new TransactionTemplate(transactionManager);
+        int cantidadEliminada = 0;
+        while (true) {
+            Integer eliminadas = transaccion.execute(status -> eliminarLoteAnteriorA(fechaLimiteTime));
+            if (eliminadas == null) {
+                break;
+            }
+            cantidadEliminada += eliminadas;
+        }
 
-        if (excusasAEliminar.isEmpty()) {
+        if (cantidadEliminada == 0) {
             throw new BusinessRuleException("No se encontraron excusas anteriores a la fecha especificada");
         }
 
-        int cantidadEliminada = excusasAEliminar.size();
-        excusaRepository.deleteAll(excusasAEliminar);
-
         return cantidadEliminada;
     }
 
+    // Devuelve las filas de excusas que borró la base, o null si ya no quedan por borrar
+    private Integer eliminarLoteAnteriorA(LocalDateTime fechaLimite) {
+        List<Long> ids = excusaRepository.findIdsCreadasHasta(fechaLimite, PageRequest.of(0, tamanioLoteRetencion));
+        if (ids.isEmpty()) {
+            return null;
+        }
+        prontuarioRepository.eliminarPorExcusas(ids);
+        return excusaRepository.eliminarPorIds(ids);
+    }
+
     private void validarDatosExcusa(int legajoEmpleado, String tipoMotivo, String descripcion) {
         validarLegajo(legajoEmpleado);
         validarTipoMotivo(tipoMotivo);
@@ -211,13 +492,14 @@ public class ExcusaService {
         }
     }
 
-    private void validarTipoMotivo(String tipoMotivo) {
+    private TipoMotivo validarTipoMotivo(String tipoMotivo) {
         if (tipoMotivo == null || tipoMotivo.trim().isEmpty()) {
             throw new InvalidDataException("El tipo de motivo es obligatorio");
         }
         if (!tiposMotivosValidos.contains(tipoMotivo.toUpperCase())) {
             throw new InvalidDataException("Tipo de motivo no válido. Tipos válidos: " + tiposMotivosValidos);
         }
+        return TipoMotivo.desdeNombre(tipoMotivo);
     }
 
     private void validarDescripcion(String descripcion) {
@@ -236,4 +518,62 @@ public class ExcusaService {
             throw new BusinessRuleException("El empleado ya tiene el máximo de 5 excusas registradas");
         }
     }
+
+    public static class ResultadoProcesamientoMasivo {
+        private int lotes;
+        private int procesadas;
+        private int aceptadas;
+        private int rechazadas;
+        private int conError;
+        private final List<Long> idsConError = new ArrayList<>();
+        private final Map<String, Integer> porEncargado = new LinkedHashMap<>();
+        private final Set<Long> versionesEncargados = new TreeSet<>();
+        private Long ultimoId;
+
+        void registrar(IManejadorExcusas encargado) {
+            procesadas++;
+            if (encargado instanceof EncargadoPorDefecto) {
+                rechazadas++;
+            } else {
+                aceptadas++;
+            }
+            porEncargado.merge(encargado.getClass().getSimpleName(), 1, Integer::sum);
+        }
+
+        void registrarError(Long idExcusa) {
+            conError++;
+            idsConError.add(idExcusa);
+        }
+
+        void registrarVersion(long versionEncargados) {
+            versionesEncargados.add(versionEncargados);
+        }
+
+        void registrarLote(Long ultimoId) {
+            lotes++;
+            this.ultimoId = ultimoId;
+        }
+
+        void acumular(ResultadoProcesamientoMasivo lote) {
+            lotes += lote.lotes;
+            procesadas += lote.procesadas;
+            aceptadas += lote.aceptadas;
+            rechazadas += lote.rechazadas;
+            conError += lote.conError;
+            idsConError.addAll(lote.idsConError);
+            lote.porEncargado.forEach((encargado, cantidad) -> porEncargado.merge(encargado, cantidad, Integer::sum));
+            versionesEncargados.addAll(lote.versionesEncargados);
+            ultimoId = lote.ultimoId;
+        }
+
+        public int getLotes() { return lotes; }
+        public int getProcesadas() { return procesadas; }
+        public int getAceptadas() { return aceptadas; }
+        public int getRechazadas() { return rechazadas; }
+        public int getConError() { return conError; }
+        public List<Long> getIdsConError() { return idsConError; }
+        public Map<String, Integer> getPorEncargado() { return porEncargado; }
+        public Set<Long> getVersionesEncargados() { return versionesEncargados; }
+        public Long getUltimoId() { return ultimoId; }
+    }
 }
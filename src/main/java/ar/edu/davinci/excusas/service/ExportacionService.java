@@ -0,0 +1,89 @@
+package ar.edu.davinci.excusas.service;
+
+import ar.edu.davinci.excusas.repository.ExcusaRepository;
+import ar.edu.davinci.excusas.repository.ProntuarioRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+// Exportación completa en NDJSON (un objeto JSON por línea): las filas se leen de a TAMANIO_FETCH_EXPORTACION
+// con un cursor de la base y se escriben a medida que llegan, así la memoria no depende del tamaño de la tabla
+@Service
+public class ExportacionService {
+
+    private static final int TAMANIO_BUFFER_GZIP = 64 * 1024;
+
+    @Autowired
+    private ExcusaRepository excusaRepository;
+
+    @Autowired
+    private ProntuarioRepository prontuarioRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private TransactionTemplate transaccionLectura;
+
+    @PostConstruct
+    void iniciar() {
+        transaccionLectura = new TransactionTemplate(transactionManager);
+        transaccionLectura.setReadOnly(true);
+    }
+
+    // Devuelve la cantidad de líneas escritas
+    public long exportarExcusas(OutputStream salida, boolean comprimir) throws IOException {
+        return exportar(salida, comprimir, excusaRepository::streamExportacion);
+    }
+
+    public long exportarProntuarios(OutputStream salida, boolean comprimir) throws IOException {
+        return exportar(salida, comprimir, prontuarioRepository::streamExportacion);
+    }
+
+    private <T> long exportar(OutputStream salida, boolean comprimir, Supplier<Stream<T>> consulta) throws IOException {
+        GZIPOutputStream gzip = comprimir ? new GZIPOutputStream(salida, TAMANIO_BUFFER_GZIP) : null;
+        JsonGenerator generador = objectMapper.getFactory().createGenerator(gzip != null ? gzip : salida);
+        // Quien cierra la salida es quien la abrió (la respuesta HTTP)
+        generador.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        Long lineas;
+        try {
+            // El cursor necesita la transacción abierta mientras se recorre
+            lineas = transaccionLectura.execute(status -> {
+                long escritas = 0;
+                try (Stream<T> filas = consulta.get()) {
+                    for (T fila : (Iterable<T>) filas::iterator) {
+                        generador.writeObject(fila);
+                        generador.writeRaw('\n');
+                        escritas++;
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return escritas;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        generador.flush();
+        if (gzip != null) {
+            gzip.finish();
+        }
+        salida.flush();
+        return lineas == null ? 0 : lineas;
+    }
+}
@@ -0,0 +1,235 @@
+package ar.edu.davinci.excusas.service;
+
+import ar.edu.davinci.excusas.dto.mapper.ProntuarioMapper;
+import ar.edu.davinci.excusas.entity.NotificacionFallidaEntity;
+import ar.edu.davinci.excusas.entity.NotificacionFallidaEntity.EstadoNotificacion;
+import ar.edu.davinci.excusas.entity.NotificacionFallidaEntity.TipoNotificacion;
+import ar.edu.davinci.excusas.exception.BusinessRuleException;
+import ar.edu.davinci.excusas.exception.NotificacionNotFoundException;
+import ar.edu.davinci.excusas.model.email.interfaces.IEmailSender;
+import ar.edu.davinci.excusas.model.prontuarios.AdministradorProntuariosJPA;
+import ar.edu.davinci.excusas.model.prontuarios.MonitorNotificacionesSinRegistro;
+import ar.edu.davinci.excusas.model.prontuarios.Prontuario;
+import ar.edu.davinci.excusas.model.prontuarios.interfaces.IMonitorNotificaciones;
+import ar.edu.davinci.excusas.model.prontuarios.interfaces.IObserver;
+import ar.edu.davinci.excusas.repository.NotificacionFallidaRepository;
+import ar.edu.davinci.excusas.repository.ProntuarioRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Almacén de notificaciones que no se pudieron entregar (emails que agotaron los intentos o que fallaron
+// sin outbox, y observadores de prontuarios que lanzaron una excepción): el error queda registrado en vez de
+// hacer fallar el procesamiento de la excusa, y se reenvía a pedido desde la administración
+@Service
+public class NotificacionesFallidasService implements IMonitorNotificaciones {
+
+    @Autowired
+    private NotificacionFallidaRepository notificacionFallidaRepository;
+
+    @Autowired
+    private ProntuarioRepository prontuarioRepository;
+
+    @Autowired
+    private ProntuarioMapper prontuarioMapper;
+
+    @Autowired
+    private AdministradorProntuariosJPA administradorProntuarios;
+
+    @Autowired
+    @Qualifier("transporteEmail")
+    private IEmailSender transporte;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.notificaciones.reenvio.tamanio-lote:100}")
+    private int tamanioLote;
+
+    private TransactionTemplate transaccion;
+    private TransactionTemplate transaccionPropia;
+    private Counter emailsEntregados;
+    private Counter emailsFallidos;
+    private Counter emailsReintentados;
+    private Counter observadoresEntregados;
+    private Counter observadoresFallidos;
+    private Counter observadoresReintentados;
+
+    @PostConstruct
+    void instalar() {
+        transaccion = new TransactionTemplate(transactionManager);
+        transaccionPropia = new TransactionTemplate(transactionManager);
+        transaccionPropia.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        emailsEntregados = contador("email", "entregada");
+        emailsFallidos = contador("email", "fallida");
+        emailsReintentados = contador("email", "reintentada");
+        observadoresEntregados = contador("observador", "entregada");
+        observadoresFallidos = contador("observador", "fallida");
+        observadoresReintentados = contador("observador", "reintentada");
+        administradorProntuarios.setMonitor(this);
+    }
+
+    @PreDestroy
+    void desinstalar() {
+        administradorProntuarios.setMonitor(new MonitorNotificacionesSinRegistro());
+    }
+
+    private Counter contador(String tipo, String resultado) {
+        return Counter.builder("excusas.notificaciones")
+                .description("Notificaciones de emails y observadores de prontuarios según su resultado")
+                .tag("tipo", tipo)
+                .tag("resultado", resultado)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void entregada(IObserver observador) {
+        observadoresEntregados.increment();
+    }
+
+    @Override
+    public void fallida(IObserver observador, Prontuario prontuario, RuntimeException error) {
+        observadoresFallidos.increment();
+        System.err.println("Error notificando al observador " + observador.getIdentificadorObservador() + ": "
+                + error.getMessage());
+        NotificacionFallidaEntity notificacion = new NotificacionFallidaEntity(TipoNotificacion.OBSERVADOR,
+                observador.getIdentificadorObservador(), recortar(error), 1);
+        notificacion.setProntuarioId(prontuario.getId());
+        guardar(notificacion);
+    }
+
+    public void emailEntregado(int cantidad) {
+        emailsEntregados.increment(cantidad);
+    }
+
+    public void emailReintentado() {
+        emailsReintentados.increment();
+    }
+
+    public void emailFallido(String destino, String origen, String asunto, String cuerpo, int intentos,
+                             RuntimeException error) {
+        emailsFallidos.increment();
+        System.err.println("Error enviando email a " + destino + ": " + error.getMessage());
+        NotificacionFallidaEntity notificacion = new NotificacionFallidaEntity(TipoNotificacion.EMAIL, destino,
+                recortar(error), intentos);
+        notificacion.setOrigen(origen);
+        notificacion.setAsunto(asunto);
+        notificacion.setCuerpo(cuerpo);
+        guardar(notificacion);
+    }
+
+    // En una transacción propia: la del procesamiento puede estar marcada para revertirse (el error que se registra
+    // suele ser justamente el motivo) y se llevaría el registro con ella. Si el prontuario se revierte después,
+    // el reenvío lo informa como inexistente. Si ni siquiera se puede registrar, el error queda en el log:
+    // nunca se propaga al procesamiento
+    private void guardar(NotificacionFallidaEntity notificacion) {
+        try {
+            transaccionPropia.executeWithoutResult(status -> notificacionFallidaRepository.save(notificacion));
+        } catch (RuntimeException e) {
+            System.err.println("No se pudo registrar la notificación fallida: " + e.getMessage());
+        }
+    }
+
+    public List<NotificacionFallidaEntity> obtenerPendientes(TipoNotificacion tipo, int limite) {
+        PageRequest pagina = PageRequest.of(0, limite);
+        if (tipo == null) {
+            return notificacionFallidaRepository.findByEstadoOrderByIdAsc(EstadoNotificacion.PENDIENTE, pagina);
+        }
+        return notificacionFallidaRepository.findByEstadoAndTipoOrderByIdAsc(EstadoNotificacion.PENDIENTE, tipo, pagina);
+    }
+
+    public long contarPendientes() {
+        return notificacionFallidaRepository.countByEstado(EstadoNotificacion.PENDIENTE);
+    }
+
+    // Sincronizado: dos reenvíos simultáneos de la misma notificación la entregarían dos veces
+    public synchronized NotificacionFallidaEntity reenviar(Long id) {
+        NotificacionFallidaEntity notificacion = notificacionFallidaRepository.findById(id)
+                .orElseThrow(() -> new NotificacionNotFoundException("Notificación fallida no encontrada con id: " + id));
+        if (notificacion.getEstado() == EstadoNotificacion.REENVIADA) {
+            throw new BusinessRuleException("La notificación " + id + " ya fue reenviada");
+        }
+        return reintentar(notificacion);
+    }
+
+    public synchronized ResultadoReenvio reenviarPendientes() {
+        int reenviadas = 0;
+        int fallidas = 0;
+        // Por id creciente: las que vuelven a fallar siguen pendientes y no se reintentan en la misma pasada
+        long ultimoId = 0;
+        List<NotificacionFallidaEntity> lote;
+        do {
+            lote = notificacionFallidaRepository.findByEstadoAndIdGreaterThanOrderByIdAsc(
+                    EstadoNotificacion.PENDIENTE, ultimoId, PageRequest.of(0, tamanioLote));
+            for (NotificacionFallidaEntity notificacion : lote) {
+                ultimoId = notificacion.getId();
+                if (reintentar(notificacion).getEstado() == EstadoNotificacion.REENVIADA) {
+                    reenviadas++;
+                } else {
+                    fallidas++;
+                }
+            }
+        } while (lote.size() == tamanioLote);
+        return new ResultadoReenvio(reenviadas, fallidas);
+    }
+
+    private NotificacionFallidaEntity reintentar(NotificacionFallidaEntity notificacion) {
+        LocalDateTime ahora = LocalDateTime.now();
+        notificacion.setIntentos(notificacion.getIntentos() + 1);
+        notificacion.setFechaUltimoIntento(ahora);
+        try {
+            if (notificacion.getTipo() == TipoNotificacion.EMAIL) {
+                emailsReintentados.increment();
+                transporte.enviarEmail(notificacion.getDestino(), notificacion.getOrigen(),
+                        notificacion.getAsunto(), notificacion.getCuerpo());
+                emailsEntregados.increment();
+            } else {
+                observadoresReintentados.increment();
+                renotificarObservador(notificacion);
+                observadoresEntregados.increment();
+            }
+            notificacion.setEstado(EstadoNotificacion.REENVIADA);
+            notificacion.setFechaReenvio(ahora);
+        } catch (RuntimeException e) {
+            notificacion.setMotivo(recortar(e));
+        }
+        return notificacionFallidaRepository.save(notificacion);
+    }
+
+    // En una transacción: el observador (un CEO) puede encolar emails en el outbox
+    private void renotificarObservador(NotificacionFallidaEntity notificacion) {
+        transaccion.executeWithoutResult(status -> {
+            Prontuario prontuario = prontuarioRepository.findById(notificacion.getProntuarioId())
+                    .map(prontuarioMapper::toModel)
+                    .orElseThrow(() -> new IllegalStateException(
+                            "El prontuario " + notificacion.getProntuarioId() + " ya no existe"));
+            int notificados = administradorProntuarios.renotificarObservador(notificacion.getDestino(), prontuario);
+            if (notificados == 0) {
+                throw new IllegalStateException("No hay observadores registrados como " + notificacion.getDestino());
+            }
+        });
+    }
+
+    private String recortar(RuntimeException error) {
+        String mensaje = error.getMessage() != null ? error.getMessage() : error.getClass().getName();
+        return mensaje.length() > 500 ? mensaje.substring(0, 500) : mensaje;
+    }
+
+    public record ResultadoReenvio(int reenviadas, int fallidas) {
+    }
+}
@@ -0,0 +1,59 @@
+package ar.edu.davinci.excusas.service;
+
+import ar.edu.davinci.excusas.dto.Pagina;
+import ar.edu.davinci.excusas.exception.InvalidDataException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+// Paginación por cursor sobre el id: cada página es "id > desdeId ORDER BY id LIMIT n", que recorre el índice
+// de la clave primaria desde el cursor sin contar ni saltear filas, así cuesta lo mismo en cualquier punto de la tabla
+@Component
+public class Paginador {
+
+    @Value("${app.paginacion.tamanio-defecto:100}")
+    private int tamanioDefecto;
+
+    @Value("${app.paginacion.tamanio-maximo:1000}")
+    private int tamanioMaximo;
+
+    public long desde(Long desdeId) {
+        if (desdeId == null) {
+            return 0L;
+        }
+        if (desdeId < 0) {
+            throw new InvalidDataException("El id desde el que listar no puede ser negativo");
+        }
+        return desdeId;
+    }
+
+    public int limite(Integer limite) {
+        if (limite == null) {
+            return tamanioDefecto;
+        }
+        if (limite <= 0 || limite > tamanioMaximo) {
+            throw new InvalidDataException("El límite debe estar entre 1 y " + tamanioMaximo);
+        }
+        return limite;
+    }
+
+    // Una fila de más alcanza para saber si hay página siguiente sin hacer un count
+    public Pageable consulta(int limite) {
+        return PageRequest.of(0, limite + 1);
+    }
+
+    public <E, T> Pagina<T> armar(List<E> filas, int limite, Function<E, Long> id, Function<E, T> mapper) {
+        int cantidad = Math.min(filas.size(), limite);
+        List<T> elementos = new ArrayList<>(cantidad);
+        for (int i = 0; i < cantidad; i++) {
+            elementos.add(mapper.apply(filas.get(i)));
+        }
+        Long siguienteId = filas.size() > limite ? id.apply(filas.get(limite - 1)) : null;
+        return new Pagina<>(elementos, siguienteId);
+    }
+}
@@ -0,0 +1,180 @@
+package ar.edu.davinci.excusas.service;
+
+import ar.edu.davinci.excusas.exception.ColaProcesamientoLlenaException;
+import ar.edu.davinci.excusas.exception.ExcusaNotFoundException;
+import ar.edu.davinci.excusas.exception.ProcesamientoNotFoundException;
+import ar.edu.davinci.excusas.model.excusas.Excusa;
+import ar.edu.davinci.excusas.repository.ExcusaRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service
+public class ProcesamientoAsincronoService {
+
+    @Autowired
+    private ExcusaService excusaService;
+
+    @Autowired
+    private ExcusaRepository excusaRepository;
+
+    @Value("${app.procesamiento.async.workers:4}")
+    private int workers;
+
+    @Value("${app.procesamiento.async.capacidad-cola:1000}")
+    private int capacidadCola;
+
+    @Value("${app.procesamiento.async.tickets-retenidos:10000}")
+    private int ticketsRetenidos;
+
+    private ThreadPoolExecutor executor;
+    private Map<String, EstadoProcesamiento> procesamientos;
+
+    @PostConstruct
+    void iniciar() {
+        AtomicInteger contadorHilos = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+                workers, workers,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacidadCola),
+                tarea -> {
+                    Thread hilo = new Thread(tarea, "procesador-excusas-" + contadorHilos.incrementAndGet());
+                    hilo.setDaemon(true);
+                    return hilo;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        // Se conservan solo los últimos tickets para acotar la memoria usada por el seguimiento. Se descartan
+        // los terminados más viejos: los pendientes y en proceso quedan siempre, y como mucho hay
+        // capacidad-cola + workers de esos
+        procesamientos = Collections.synchronizedMap(new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, EstadoProcesamiento> eldest) {
+                Iterator<EstadoProcesamiento> estados = values().iterator();
+                while (size() > ticketsRetenidos && estados.hasNext()) {
+                    if (estados.next().terminado()) {
+                        estados.remove();
+                    }
+                }
+                return false;
+            }
+        });
+    }
+
+    @PreDestroy
+    void detener() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    public EstadoProcesamiento encolarExcusa(Long id) {
+        if (!excusaRepository.existsById(id)) {
+            throw new ExcusaNotFoundException("Excusa no encontrada con id: " + id);
+        }
+
+        EstadoProcesamiento estado = new EstadoProcesamiento(UUID.randomUUID().toString(), id);
+        procesamientos.put(estado.getTicket(), estado);
+
+        try {
+            executor.execute(() -> procesar(estado));
+        } catch (RejectedExecutionException e) {
+            procesamientos.remove(estado.getTicket());
+            throw new ColaProcesamientoLlenaException(
+                    "La cola de procesamiento está llena (capacidad: " + capacidadCola + "), reintente más tarde");
+        }
+
+        return estado;
+    }
+
+    public EstadoProcesamiento obtenerEstado(String ticket) {
+        EstadoProcesamiento estado = procesamientos.get(ticket);
+        if (estado == null) {
+            throw new ProcesamientoNotFoundException("No se encontró el procesamiento con ticket: " + ticket);
+        }
+        return estado;
+    }
+
+    public int getCantidadEnCola() {
+        return executor.getQueue().size();
+    }
+
+    private void procesar(EstadoProcesamiento estado) {
+        estado.iniciar();
+        try {
+            Excusa excusa = excusaService.procesarExcusaPorId(estado.getExcusaId());
+            estado.completar(excusa);
+        } catch (RuntimeException e) {
+            estado.fallar(e.getMessage());
+        }
+    }
+
+    public enum Estado {
+        PENDIENTE, EN_PROCESO, COMPLETADO, ERROR
+    }
+
+    public static class EstadoProcesamiento {
+        private final String ticket;
+        private final Long excusaId;
+        private final LocalDateTime fechaEncolado;
+        private volatile Estado estado;
+        private volatile String empleado;
+        private volatile String tipoMotivo;
+        private volatile Long versionEncargados;
+        private volatile String error;
+        private volatile LocalDateTime fechaFinalizacion;
+
+        EstadoProcesamiento(String ticket, Long excusaId) {
+            this.ticket = ticket;
+            this.excusaId = excusaId;
+            this.fechaEncolado = LocalDateTime.now();
+            this.estado = Estado.PENDIENTE;
+        }
+
+        void iniciar() {
+            this.estado = Estado.EN_PROCESO;
+        }
+
+        void completar(Excusa excusa) {
+            this.empleado = excusa.getNombreEmpleado();
+            this.tipoMotivo = excusa.getMotivo().getClass().getSimpleName();
+            this.versionEncargados = excusa.getVersionEncargados();
+            this.fechaFinalizacion = LocalDateTime.now();
+            this.estado = Estado.COMPLETADO;
+        }
+
+        void fallar(String error) {
+            this.error = error;
+            this.fechaFinalizacion = LocalDateTime.now();
+            this.estado = Estado.ERROR;
+        }
+
+        boolean terminado() {
+            return estado == Estado.COMPLETADO || estado == Estado.ERROR;
+        }
+
+        public String getTicket() { return ticket; }
+        public Long getExcusaId() { return excusaId; }
+        public LocalDateTime getFechaEncolado() { return fechaEncolado; }
+        public Estado getEstado() { return estado; }
+        public String getEmpleado() { return empleado; }
+        public String getTipoMotivo() { return tipoMotivo; }
+        public Long getVersionEncargados() { return versionEncargados; }
+        public String getError() { return error; }
+        public LocalDateTime getFechaFinalizacion() { return fechaFinalizacion; }
+    }
+}
@@ -1,5 +1,6 @@
 package ar.edu.davinci.excusas.service;
 
+import ar.edu.davinci.excusas.dto.Pagina;
 import ar.edu.davinci.excusas.dto.mapper.ProntuarioMapper;
 import ar.edu.davinci.excusas.entity.ProntuarioEntity;
 import ar.edu.davinci.excusas.exception.InvalidDataException;
@@ -22,9 +23,12 @@ public class ProntuarioService {
     @Autowired
     private ProntuarioMapper prontuarioMapper;
 
+    @Autowired
+    private Paginador paginador;
+
     @Transactional(readOnly = true)
     public List<Prontuario> obtenerTodosLosProntuarios() {
-        return prontuarioRepository.findAll().stream()
+        return prontuarioRepository.findAllConEmpleadoYExcusa().stream()
                 .map(prontuarioMapper::toModel)
                 .toList();
     }
@@ -44,6 +48,27 @@ public class ProntuarioService {
                 .toList();
     }
 
+    @Transactional(readOnly = true)
+    public Pagina<Prontuario> obtenerTodosLosProntuarios(Long desdeId, Integer limite) {
+        int tamanio = paginador.limite(limite);
+        List<ProntuarioEntity> filas = prontuarioRepository.findByIdGreaterThanOrderByIdAsc(
+                paginador.desde(desdeId), paginador.consulta(tamanio));
+        return paginador.armar(filas, tamanio, ProntuarioEntity::getId, prontuarioMapper::toModel);
+    }
+
+    @Transactional(readOnly = true)
+    public Pagina<Prontuario> obtenerProntuariosPorEmpleado(int legajo, Long desdeId, Integer limite) {
+        validarLegajo(legajo);
+
+        int tamanio = paginador.limite(limite);
+        List<ProntuarioEntity> filas = prontuarioRepository.findByLegajoAndIdGreaterThanOrderByIdAsc(
+                legajo, paginador.desde(desdeId), paginador.consulta(tamanio));
+        if (filas.isEmpty() && desdeId == null) {
+            throw new BusinessRuleException("No se encontraron prontuarios para el empleado con legajo: " + legajo);
+        }
+        return paginador.armar(filas, tamanio, ProntuarioEntity::getId, prontuarioMapper::toModel);
+    }
+
     @Transactional(readOnly = true)
     public int contarProntuarios() {
         return (int) prontuarioRepository.count();
@@ -0,0 +1,252 @@
+package ar.edu.davinci.excusas.service;
+
+import ar.edu.davinci.excusas.dto.mapper.ProntuarioMapper;
+import ar.edu.davinci.excusas.entity.ProntuarioEntity;
+import ar.edu.davinci.excusas.model.prontuarios.AdministradorProntuariosJPA;
+import ar.edu.davinci.excusas.model.prontuarios.Prontuario;
+import ar.edu.davinci.excusas.model.prontuarios.interfaces.IObserver;
+import ar.edu.davinci.excusas.repository.ProntuarioRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+// Publica por SSE los prontuarios nuevos. La tabla es la fuente: cada suscripción envía en orden de id lo
+// posterior al último id que ya mandó, y las notificaciones de AdministradorProntuariosJPA solo la despiertan.
+// Así un cliente que se reconecta con el último id recibido sigue sin huecos ni duplicados, y un prontuario
+// que se confirma después de otro con id mayor no se pierde. Cada suscripción se vacía por separado en un
+// pool compartido con a lo sumo max-avisos-pendientes avisos sin atender: si se pasa, el cliente no da
+// abasto y se le cierra el stream para que se reconecte desde su último id
+@Service
+public class StreamProntuariosService implements IObserver {
+
+    @Autowired
+    private AdministradorProntuariosJPA administradorProntuarios;
+
+    @Autowired
+    private ProntuarioRepository prontuarioRepository;
+
+    @Autowired
+    private ProntuarioMapper prontuarioMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.prontuarios.stream.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${app.prontuarios.stream.tamanio-lote:500}")
+    private int tamanioLote;
+
+    @Value("${app.prontuarios.stream.hilos:4}")
+    private int hilos;
+
+    @Value("${app.prontuarios.stream.max-avisos-pendientes:1000}")
+    private int maxAvisosPendientes;
+
+    @Value("${app.prontuarios.stream.espera-huecos-ms:10000}")
+    private long esperaHuecosMs;
+
+    private final List<Suscripcion> suscripciones = new CopyOnWriteArrayList<>();
+    private ScheduledExecutorService executor;
+    private TransactionTemplate lectura;
+
+    @PostConstruct
+    void iniciar() {
+        lectura = new TransactionTemplate(transactionManager);
+        lectura.setReadOnly(true);
+        lectura.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        // Los envíos salen de hilos propios: el que escribe el prontuario nunca espera a un cliente
+        AtomicInteger numeroHilo = new AtomicInteger();
+        executor = Executors.newScheduledThreadPool(hilos, tarea -> {
+            Thread hilo = new Thread(tarea, "stream-prontuarios-" + numeroHilo.incrementAndGet());
+            hilo.setDaemon(true);
+            return hilo;
+        });
+        administradorProntuarios.agregarObservador(this);
+    }
+
+    @PreDestroy
+    void detener() throws InterruptedException {
+        administradorProntuarios.eliminarObservador(this);
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+        for (Suscripcion suscripcion : suscripciones) {
+            suscripcion.emitter.complete();
+        }
+    }
+
+    public SseEmitter suscribir(Long desdeId, Function<Prontuario, ?> conversor) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Suscripcion suscripcion = new Suscripcion(emitter, conversor, desdeId == null ? 0L : desdeId);
+        emitter.onCompletion(() -> suscripciones.remove(suscripcion));
+        emitter.onTimeout(() -> suscripciones.remove(suscripcion));
+        emitter.onError(error -> suscripciones.remove(suscripcion));
+
+        // Se registra antes de leer la tabla: lo que se confirme durante el reenvío la vuelve a despertar
+        suscripciones.add(suscripcion);
+        suscripcion.avisar();
+        return emitter;
+    }
+
+    public int getCantidadSuscripciones() {
+        return suscripciones.size();
+    }
+
+    @Override
+    public void actualizar(Prontuario prontuario) {
+        if (suscripciones.isEmpty()) {
+            return;
+        }
+        // Si el prontuario se está creando en una transacción, la tabla lo muestra recién cuando quedó confirmado
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    avisarATodas();
+                }
+            });
+        } else {
+            avisarATodas();
+        }
+    }
+
+    private void avisarATodas() {
+        for (Suscripcion suscripcion : suscripciones) {
+            suscripcion.avisar();
+        }
+    }
+
+    private record Fila(Prontuario prontuario, LocalDateTime fechaCreacion) {
+    }
+
+    private List<Fila> leerDesde(long desde) {
+        return lectura.execute(status -> {
+            List<Fila> filas = new ArrayList<>();
+            for (ProntuarioEntity entity : prontuarioRepository.findByIdGreaterThanOrderByIdAsc(
+                    desde, PageRequest.of(0, tamanioLote))) {
+                filas.add(new Fila(prontuarioMapper.toModel(entity), entity.getFechaCreacion()));
+            }
+            return filas;
+        });
+    }
+
+    private final class Suscripcion implements Runnable {
+        private final SseEmitter emitter;
+        private final Function<Prontuario, ?> conversor;
+        // Avisos recibidos y todavía no atendidos; el que pasa de 0 a 1 programa el vaciado
+        private final AtomicInteger avisos = new AtomicInteger();
+        // La marca quien avisa; el emitter lo cierra el vaciado, así quien avisa nunca espera un envío lento
+        private volatile boolean atrasada;
+        // Solo los modifica el vaciado, que nunca corre en dos hilos a la vez
+        private long ultimoIdEnviado;
+        private boolean cerrada;
+
+        Suscripcion(SseEmitter emitter, Function<Prontuario, ?> conversor, long desdeId) {
+            this.emitter = emitter;
+            this.conversor = conversor;
+            this.ultimoIdEnviado = desdeId;
+        }
+
+        void avisar() {
+            int pendientes = avisos.incrementAndGet();
+            if (pendientes > maxAvisosPendientes) {
+                atrasada = true;
+                suscripciones.remove(this);
+            } else if (pendientes == 1) {
+                programar(0);
+            }
+        }
+
+        private void programar(long demoraMs) {
+            try {
+                executor.schedule(this, demoraMs, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                // El servicio se está deteniendo y cierra los streams
+            }
+        }
+
+        @Override
+        public void run() {
+            if (cerrada) {
+                return;
+            }
+            try {
+                int atendidos;
+                do {
+                    atendidos = avisos.get();
+                    if (!enviarDesdeTabla()) {
+                        // Hay un hueco reciente: se reintenta más tarde sin soltar el vaciado. Mientras tanto
+                        // los avisos no cuentan como atraso del cliente
+                        avisos.set(1);
+                        programar(Math.min(esperaHuecosMs, 500));
+                        return;
+                    }
+                } while (!atrasada && avisos.addAndGet(-atendidos) > 0);
+            } catch (IOException | RuntimeException e) {
+                cerrar(e);
+                return;
+            }
+            if (atrasada) {
+                // El cliente no da abasto: el stream termina normalmente y se reconecta con Last-Event-ID
+                cerrar(null);
+            }
+        }
+
+        // Envía todo lo confirmado después de ultimoIdEnviado. Un id que falta puede ser de una transacción
+        // todavía abierta: se lo espera mientras el siguiente sea reciente, y si en esperaHuecosMs no aparece
+        // (se revirtió o se borró) se lo saltea. Devuelve false si quedó esperando un hueco
+        private boolean enviarDesdeTabla() throws IOException {
+            List<Fila> lote;
+            do {
+                lote = leerDesde(ultimoIdEnviado);
+                for (Fila fila : lote) {
+                    if (atrasada) {
+                        return true;
+                    }
+                    long id = fila.prontuario().getId();
+                    if (id > ultimoIdEnviado + 1
+                            && fila.fechaCreacion().isAfter(LocalDateTime.now().minusNanos(esperaHuecosMs * 1_000_000))) {
+                        return false;
+                    }
+                    emitter.send(SseEmitter.event()
+                            .id(String.valueOf(id))
+                            .name("prontuario")
+                            .data(conversor.apply(fila.prontuario())));
+                    ultimoIdEnviado = id;
+                }
+            } while (lote.size() == tamanioLote);
+            return true;
+        }
+
+        private void cerrar(Exception error) {
+            cerrada = true;
+            suscripciones.remove(this);
+            if (error == null) {
+                emitter.complete();
+            } else {
+                emitter.completeWithError(error);
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package ar.edu.davinci.excusas.benchmark;
+
+import ar.edu.davinci.excusas.model.email.EmailSenderNulo;
+import ar.edu.davinci.excusas.model.email.ServiciosEmail;
+import ar.edu.davinci.excusas.model.empleados.Empleado;
+import ar.edu.davinci.excusas.model.empleados.encargados.*;
+import ar.edu.davinci.excusas.model.empleados.encargados.metricas.IMetricasEncargados;
+import ar.edu.davinci.excusas.model.empleados.encargados.modos.ModoNormal;
+import ar.edu.davinci.excusas.model.empleados.encargados.modos.ModoProductivo;
+import ar.edu.davinci.excusas.model.empleados.encargados.modos.ModoVago;
+import ar.edu.davinci.excusas.model.empleados.encargados.modos.interfaces.IModoManejo;
+import ar.edu.davinci.excusas.model.empleados.interfaces.IManejadorExcusas;
+import ar.edu.davinci.excusas.model.excusas.Excusa;
+import ar.edu.davinci.excusas.model.excusas.motivos.*;
+import ar.edu.davinci.excusas.model.prontuarios.AdministradorProntuarios;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// CadenaDeEncargados.procesarExcusa para cada tipo de motivo con todos los encargados en el mismo modo
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CadenaDeEncargadosBenchmark {
+
+    @Param({"TRIVIAL", "PROBLEMA_ELECTRICO", "PROBLEMA_FAMILIAR", "COMPLEJO", "INVEROSIMIL"})
+    private String motivo;
+
+    @Param({"NORMAL", "PRODUCTIVO", "VAGO"})
+    private String modo;
+
+    private CadenaDeEncargados cadena;
+    private Excusa excusa;
+    private PrintStream salidaOriginal;
+
+    @Setup
+    public void preparar() {
+        salidaOriginal = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        ServiciosEmail serviciosEmail = ServiciosEmail.porDefecto(new EmailSenderNulo());
+
+        List<IManejadorExcusas> configuracion = List.of(
+                new Recepcionista("Laura Recep", "laura@excusas.com", 2001),
+                new SupervisorArea("Pedro Super", "pedro@excusas.com", 2002),
+                new GerenteRecursosHumanos("Sofia Gerente", "sofia@excusas.com", 2003),
+                new CEO("Roberto CEO", "roberto@excusas.com", 2004)
+        );
+        for (IManejadorExcusas encargado : configuracion) {
+            encargado.setModo(crearModo(serviciosEmail));
+        }
+        cadena = new CadenaDeEncargados(configuracion, configuracion.stream().map(IManejadorExcusas::getModo).toList(),
+                null, 0, IMetricasEncargados.NULAS, serviciosEmail);
+
+        Empleado empleado = new Empleado("Benchmark", "benchmark@test.com", 1001);
+        excusa = new Excusa(empleado, crearMotivo(), "Excusa de benchmark");
+    }
+
+    // Sin JPA el CEO registra los prontuarios en el singleton; se vacía para no medir su crecimiento
+    @TearDown(Level.Iteration)
+    public void limpiarProntuarios() {
+        AdministradorProntuarios.getInstance().limpiarProntuarios();
+    }
+
+    @TearDown
+    public void restaurar() {
+        System.setOut(salidaOriginal);
+    }
+
+    @Benchmark
+    public IManejadorExcusas procesarExcusa() {
+        return cadena.procesarExcusa(excusa);
+    }
+
+    private IModoManejo crearModo(ServiciosEmail serviciosEmail) {
+        return switch (modo) {
+            case "PRODUCTIVO" -> new ModoProductivo(serviciosEmail.getNotificadorProductivo());
+            case "VAGO" -> new ModoVago();
+            default -> new ModoNormal();
+        };
+    }
+
+    private MotivoExcusa crearMotivo() {
+        return switch (motivo) {
+            case "PROBLEMA_ELECTRICO" -> new MotivoProblemaElectrico();
+            case "PROBLEMA_FAMILIAR" -> new MotivoProblemaFamiliar();
+            case "COMPLEJO" -> new MotivoComplejo();
+            case "INVEROSIMIL" -> new MotivoInverosimil();
+            default -> new MotivoTrivial();
+        };
+    }
+}
@@ -0,0 +1,87 @@
+package ar.edu.davinci.excusas.benchmark;
+
+import ar.edu.davinci.excusas.model.empleados.Empleado;
+import ar.edu.davinci.excusas.model.empleados.encargados.CadenaDeEncargados;
+import ar.edu.davinci.excusas.model.excusas.Excusa;
+import ar.edu.davinci.excusas.model.excusas.motivos.*;
+import ar.edu.davinci.excusas.model.prontuarios.AdministradorProntuarios;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+// Throughput de la cadena particionando por legajo, de 1 a N hilos.
+// Uso: mvn test-compile exec:java -Dexec.classpathScope=test
+//        -Dexec.mainClass=ar.edu.davinci.excusas.benchmark.CadenaParalelaBenchmark -Dexec.args="200000 8"
+public class CadenaParalelaBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int cantidadExcusas = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        int hilosMaximos = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+
+        Map<Integer, List<Excusa>> porLegajo = generarExcusas(cantidadExcusas).stream()
+                .collect(Collectors.groupingBy(Excusa::getLegajoEmpleado, LinkedHashMap::new, Collectors.toList()));
+        CadenaDeEncargados cadena = new CadenaDeEncargados();
+
+        PrintStream salida = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            ejecutar(cadena, porLegajo, 1);
+            for (int hilos = 1; hilos <= hilosMaximos; hilos *= 2) {
+                long nanos = ejecutar(cadena, porLegajo, hilos);
+                salida.printf("hilos=%d excusas/s=%.0f%n", hilos, cantidadExcusas / (nanos / 1_000_000_000.0));
+            }
+        } finally {
+            System.setOut(salida);
+        }
+    }
+
+    private static long ejecutar(CadenaDeEncargados cadena, Map<Integer, List<Excusa>> porLegajo, int hilos) throws Exception {
+        List<Callable<Void>> tareas = new ArrayList<>();
+        for (List<Excusa> excusas : porLegajo.values()) {
+            tareas.add(() -> {
+                excusas.forEach(cadena::procesarExcusa);
+                return null;
+            });
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(hilos);
+        try {
+            long inicio = System.nanoTime();
+            pool.invokeAll(tareas).forEach(f -> {
+                try {
+                    f.get();
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            return System.nanoTime() - inicio;
+        } finally {
+            pool.shutdown();
+            AdministradorProntuarios.getInstance().limpiarProntuarios();
+        }
+    }
+
+    private static List<Excusa> generarExcusas(int cantidad) {
+        MotivoExcusa[] motivos = {
+                new MotivoTrivial(), new MotivoProblemaElectrico(), new MotivoProblemaFamiliar(),
+                new MotivoComplejo(), new MotivoInverosimil()
+        };
+        List<Empleado> empleados = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            empleados.add(new Empleado("Empleado " + i, "empleado" + i + "@test.com", 1001 + i));
+        }
+
+        List<Excusa> excusas = new ArrayList<>(cantidad);
+        for (int i = 0; i < cantidad; i++) {
+            excusas.add(new Excusa((long) i, empleados.get(i % empleados.size()), motivos[i % motivos.length], "Excusa " + i));
+        }
+        return excusas;
+    }
+}
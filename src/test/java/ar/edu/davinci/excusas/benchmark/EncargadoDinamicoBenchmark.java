@@ -0,0 +1,57 @@
+package ar.edu.davinci.excusas.benchmark;
+
+import ar.edu.davinci.excusas.model.empleados.Empleado;
+import ar.edu.davinci.excusas.model.empleados.encargados.EncargadoDinamico;
+import ar.edu.davinci.excusas.model.excusas.Excusa;
+import ar.edu.davinci.excusas.model.excusas.motivos.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Chequeo de capacidades de un EncargadoDinamico para cada categoría de motivo
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EncargadoDinamicoBenchmark {
+
+    @Param({"1", "4"})
+    private int cantidadCapacidades;
+
+    private EncargadoDinamico encargado;
+    private Excusa[] excusas;
+
+    @Setup
+    public void preparar() {
+        List<String> capacidades = List.of("INVEROSIMIL", "COMPLEJO", "MODERADO", "TRIVIAL")
+                .subList(0, cantidadCapacidades);
+        encargado = new EncargadoDinamico("Dinamico Bench", "dinamico@excusas.com", 3001, capacidades);
+
+        Empleado empleado = new Empleado("Benchmark", "benchmark@test.com", 1001);
+        excusas = new Excusa[] {
+                new Excusa(empleado, new MotivoTrivial(), "Excusa trivial"),
+                new Excusa(empleado, new MotivoProblemaFamiliar(), "Excusa moderada"),
+                new Excusa(empleado, new MotivoComplejo(), "Excusa compleja"),
+                new Excusa(empleado, new MotivoInverosimil(), "Excusa inverosímil")
+        };
+    }
+
+    @Benchmark
+    public void puedeManejar(Blackhole blackhole) {
+        blackhole.consume(encargado.puedeManejarTrivial());
+        blackhole.consume(encargado.puedeManejarModerado());
+        blackhole.consume(encargado.puedeManejarComplejo());
+        blackhole.consume(encargado.puedeManejarInverosimil());
+    }
+
+    @Benchmark
+    public void puedeSerManejadaPor(Blackhole blackhole) {
+        for (Excusa excusa : excusas) {
+            blackhole.consume(excusa.puedeSerManejadaPor(encargado));
+        }
+    }
+}
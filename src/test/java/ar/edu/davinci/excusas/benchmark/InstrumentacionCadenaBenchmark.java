@@ -0,0 +1,80 @@
+package ar.edu.davinci.excusas.benchmark;
+
+import ar.edu.davinci.excusas.model.email.EmailSenderNulo;
+import ar.edu.davinci.excusas.model.email.ServiciosEmail;
+import ar.edu.davinci.excusas.model.empleados.Empleado;
+import ar.edu.davinci.excusas.model.empleados.encargados.*;
+import ar.edu.davinci.excusas.model.empleados.encargados.metricas.IMetricasEncargados;
+import ar.edu.davinci.excusas.model.empleados.encargados.metricas.MetricasEncargadosMicrometer;
+import ar.edu.davinci.excusas.model.empleados.encargados.modos.ModoVago;
+import ar.edu.davinci.excusas.model.empleados.interfaces.IManejadorExcusas;
+import ar.edu.davinci.excusas.model.excusas.Excusa;
+import ar.edu.davinci.excusas.model.excusas.motivos.MotivoComplejo;
+import ar.edu.davinci.excusas.model.excusas.motivos.MotivoInverosimil;
+import ar.edu.davinci.excusas.model.excusas.motivos.MotivoTrivial;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Costo de las métricas por encargado: misma cadena con medidores Micrometer y con medidores nulos
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InstrumentacionCadenaBenchmark {
+
+    @Param({"false", "true"})
+    private boolean instrumentada;
+
+    @Param({"TRIVIAL", "COMPLEJO", "INVEROSIMIL"})
+    private String motivo;
+
+    private CadenaDeEncargados cadena;
+    private Excusa excusa;
+    private PrintStream salidaOriginal;
+
+    @Setup
+    public void preparar() {
+        salidaOriginal = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        ServiciosEmail serviciosEmail = ServiciosEmail.porDefecto(new EmailSenderNulo());
+
+        // El supervisor en modo vago agrega una delegación al recorrido de las excusas no triviales
+        SupervisorArea supervisor = new SupervisorArea("Pedro Super", "pedro@excusas.com", 2002);
+        supervisor.setModo(new ModoVago());
+        List<IManejadorExcusas> configuracion = List.of(
+                new Recepcionista("Laura Recep", "laura@excusas.com", 2001),
+                supervisor,
+                new GerenteRecursosHumanos("Sofia Gerente", "sofia@excusas.com", 2003),
+                new CEO("Roberto CEO", "roberto@excusas.com", 2004)
+        );
+        IMetricasEncargados metricas = instrumentada
+                ? new MetricasEncargadosMicrometer(new SimpleMeterRegistry(), true)
+                : IMetricasEncargados.NULAS;
+        cadena = new CadenaDeEncargados(configuracion, configuracion.stream().map(IManejadorExcusas::getModo).toList(),
+                null, 0, metricas, serviciosEmail);
+
+        Empleado empleado = new Empleado("Benchmark", "benchmark@test.com", 1001);
+        excusa = switch (motivo) {
+            case "TRIVIAL" -> new Excusa(empleado, new MotivoTrivial(), "Excusa trivial");
+            case "COMPLEJO" -> new Excusa(empleado, new MotivoComplejo(), "Excusa compleja");
+            default -> new Excusa(empleado, new MotivoInverosimil(), "Excusa inverosímil");
+        };
+    }
+
+    @TearDown
+    public void restaurar() {
+        System.setOut(salidaOriginal);
+    }
+
+    @Benchmark
+    public IManejadorExcusas procesarExcusa() {
+        return cadena.procesarExcusa(excusa);
+    }
+}
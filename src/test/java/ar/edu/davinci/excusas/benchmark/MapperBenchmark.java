@@ -0,0 +1,53 @@
+package ar.edu.davinci.excusas.benchmark;
+
+import ar.edu.davinci.excusas.dto.mapper.ExcusaMapper;
+import ar.edu.davinci.excusas.dto.mapper.ProntuarioMapper;
+import ar.edu.davinci.excusas.entity.EmpleadoEntity;
+import ar.edu.davinci.excusas.entity.ExcusaEntity;
+import ar.edu.davinci.excusas.entity.ProntuarioEntity;
+import ar.edu.davinci.excusas.model.excusas.Excusa;
+import ar.edu.davinci.excusas.model.prontuarios.Prontuario;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+// Conversión de entidades a modelo con los mappers, sin base de datos
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    @Param({"TRIVIAL", "PROBLEMA_ELECTRICO", "INVEROSIMIL"})
+    private String tipoMotivo;
+
+    private ExcusaMapper excusaMapper;
+    private ProntuarioMapper prontuarioMapper;
+    private ExcusaEntity excusaEntity;
+    private ProntuarioEntity prontuarioEntity;
+
+    @Setup
+    public void preparar() {
+        excusaMapper = new ExcusaMapper();
+        prontuarioMapper = new ProntuarioMapper();
+        ReflectionTestUtils.setField(prontuarioMapper, "excusaMapper", excusaMapper);
+
+        EmpleadoEntity empleado = new EmpleadoEntity("Benchmark", "benchmark@test.com", 1001);
+        excusaEntity = new ExcusaEntity(empleado, "Excusa de benchmark", tipoMotivo);
+        excusaEntity.setId(1L);
+        prontuarioEntity = new ProntuarioEntity(empleado, excusaEntity, 1001);
+    }
+
+    @Benchmark
+    public Excusa excusaToModel() {
+        return excusaMapper.toModel(excusaEntity);
+    }
+
+    @Benchmark
+    public Prontuario prontuarioToModel() {
+        return prontuarioMapper.toModel(prontuarioEntity);
+    }
+}
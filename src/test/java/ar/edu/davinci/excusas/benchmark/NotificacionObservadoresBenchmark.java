@@ -0,0 +1,47 @@
+package ar.edu.davinci.excusas.benchmark;
+
+import ar.edu.davinci.excusas.model.empleados.Empleado;
+import ar.edu.davinci.excusas.model.prontuarios.ObservableBase;
+import ar.edu.davinci.excusas.model.prontuarios.Prontuario;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+// Notificación sincrónica a cuatro observadores; gc.alloc.rate.norm muestra lo que se asigna por notificación
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NotificacionObservadoresBenchmark {
+
+    @Param({"false", "true"})
+    private boolean referenciasDebiles;
+
+    private ObservableBase observable;
+    private Prontuario prontuario;
+    private Blackhole blackhole;
+
+    @Setup
+    public void preparar(Blackhole blackhole) {
+        this.blackhole = blackhole;
+        observable = new ObservableBenchmark(referenciasDebiles);
+        for (int i = 0; i < 4; i++) {
+            observable.agregarObservador(this.blackhole::consume);
+        }
+        prontuario = new Prontuario(1L, new Empleado("Benchmark", "benchmark@test.com", 1001), null, 1001);
+    }
+
+    @Benchmark
+    public void notificar() {
+        observable.notificarObservadores(prontuario);
+    }
+
+    private static class ObservableBenchmark extends ObservableBase {
+        ObservableBenchmark(boolean referenciasDebiles) {
+            setReferenciasDebiles(referenciasDebiles);
+        }
+    }
+}
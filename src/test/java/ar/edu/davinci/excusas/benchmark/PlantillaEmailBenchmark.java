@@ -0,0 +1,52 @@
+package ar.edu.davinci.excusas.benchmark;
+
+import ar.edu.davinci.excusas.model.email.PlantillaEmail;
+import ar.edu.davinci.excusas.model.email.RegistroPlantillasEmail;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+// Asunto y cuerpo de un email armados por concatenación frente a las plantillas compiladas;
+// la asignación por email se lee en gc.alloc.rate.norm (perfilador gc del perfil benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PlantillaEmailBenchmark {
+
+    private PlantillaEmail nuevoProntuario;
+    private PlantillaEmail rechazo;
+    private String empleado;
+    private int legajo;
+
+    @Setup
+    public void preparar() {
+        RegistroPlantillasEmail plantillas = new RegistroPlantillasEmail();
+        nuevoProntuario = plantillas.obtener(RegistroPlantillasEmail.CEO_NUEVO_PRONTUARIO);
+        rechazo = plantillas.obtener(RegistroPlantillasEmail.POR_DEFECTO_RECHAZO);
+        empleado = "Empleado Benchmark";
+        legajo = 1001;
+    }
+
+    @Benchmark
+    public void nuevoProntuarioConcatenado(Blackhole blackhole) {
+        blackhole.consume("Nuevo Prontuario Creado");
+        blackhole.consume("Se ha creado un nuevo prontuario para el empleado: " +
+                empleado + " (Legajo: " + legajo + ")");
+    }
+
+    @Benchmark
+    public void nuevoProntuarioConPlantilla(Blackhole blackhole) {
+        blackhole.consume(nuevoProntuario.renderizarAsunto(empleado, legajo));
+        blackhole.consume(nuevoProntuario.renderizarCuerpo(empleado, legajo));
+    }
+
+    @Benchmark
+    public void rechazoConPlantilla(Blackhole blackhole) {
+        blackhole.consume(rechazo.renderizarAsunto(empleado));
+        blackhole.consume(rechazo.renderizarCuerpo(empleado));
+    }
+}
@@ -0,0 +1,63 @@
+package ar.edu.davinci.excusas.benchmark;
+
+import ar.edu.davinci.excusas.model.email.EmailSenderNulo;
+import ar.edu.davinci.excusas.model.email.ServiciosEmail;
+import ar.edu.davinci.excusas.model.empleados.Empleado;
+import ar.edu.davinci.excusas.model.empleados.encargados.CadenaDeEncargados;
+import ar.edu.davinci.excusas.model.empleados.interfaces.IManejadorExcusas;
+import ar.edu.davinci.excusas.model.excusas.Excusa;
+import ar.edu.davinci.excusas.model.excusas.motivos.MotivoComplejo;
+import ar.edu.davinci.excusas.model.excusas.motivos.MotivoProblemaFamiliar;
+import ar.edu.davinci.excusas.model.excusas.motivos.MotivoTrivial;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+// Tabla de ruteo compilada contra el recorrido de la lista enlazada de encargados
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RuteoCadenaBenchmark {
+
+    @Param({"TRIVIAL", "MODERADO", "COMPLEJO"})
+    private String motivo;
+
+    private CadenaDeEncargados cadena;
+    private Excusa excusa;
+    private PrintStream salidaOriginal;
+
+    @Setup
+    public void preparar() {
+        salidaOriginal = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        ServiciosEmail serviciosEmail = ServiciosEmail.porDefecto(new EmailSenderNulo());
+
+        cadena = new CadenaDeEncargados(serviciosEmail);
+        Empleado empleado = new Empleado("Benchmark", "benchmark@test.com", 1001);
+        excusa = switch (motivo) {
+            case "TRIVIAL" -> new Excusa(empleado, new MotivoTrivial(), "Excusa trivial");
+            case "MODERADO" -> new Excusa(empleado, new MotivoProblemaFamiliar(), "Excusa moderada");
+            default -> new Excusa(empleado, new MotivoComplejo(), "Excusa compleja");
+        };
+    }
+
+    @TearDown
+    public void restaurar() {
+        System.setOut(salidaOriginal);
+    }
+
+    @Benchmark
+    public IManejadorExcusas tablaCompilada() {
+        return cadena.procesarExcusa(excusa);
+    }
+
+    @Benchmark
+    public IManejadorExcusas recorridoEnlazado() {
+        return cadena.procesarExcusaRecorriendo(excusa);
+    }
+}
@@ -15,6 +15,9 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.HttpMethod;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
@@ -226,6 +229,146 @@ public class ExcusaIntegrationTest {
         assertTrue(response.getBody().contains("Excusa no encontrada"));
     }
 
+    @Test
+    public void testProcesarExcusaPorId_Success() throws Exception {
+
+        int legajo = crearEmpleadoParaPruebas("Id Test", "id.test@excusas.com");
+
+        ExcusaController.ExcusaRequest request = new ExcusaController.ExcusaRequest();
+        request.setLegajoEmpleado(legajo);
+        request.setTipoMotivo("PROBLEMA_ELECTRICO");
+        request.setDescripcion("Se cortó la luz y el ascensor quedó detenido");
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        HttpEntity<ExcusaController.ExcusaRequest> entity = new HttpEntity<>(request, headers);
+
+        ResponseEntity<String> creada = restTemplate.postForEntity(getBaseUrl(), entity, String.class);
+        long id = objectMapper.readTree(creada.getBody()).get("id").asLong();
+
+        ResponseEntity<String> response = restTemplate.postForEntity(getBaseUrl() + "/" + id + "/procesar", null, String.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(response.getBody().contains("Excusa procesada correctamente"));
+        assertTrue(response.getBody().contains("Id Test"));
+        assertEquals(id, objectMapper.readTree(response.getBody()).get("id").asLong());
+    }
+
+    @Test
+    public void testMetricasDeEncargadosExpuestasEnActuator() throws Exception {
+
+        int legajo = crearEmpleadoParaPruebas("Metricas Test", "metricas.test@excusas.com");
+
+        ExcusaController.ExcusaRequest request = new ExcusaController.ExcusaRequest();
+        request.setLegajoEmpleado(legajo);
+        request.setTipoMotivo("TRIVIAL");
+        request.setDescripcion("Me quedé dormido");
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        HttpEntity<ExcusaController.ExcusaRequest> entity = new HttpEntity<>(request, headers);
+
+        ResponseEntity<String> creada = restTemplate.postForEntity(getBaseUrl(), entity, String.class);
+        long id = objectMapper.readTree(creada.getBody()).get("id").asLong();
+        restTemplate.postForEntity(getBaseUrl() + "/" + id + "/procesar", null, String.class);
+
+        ResponseEntity<String> response = restTemplate.getForEntity(
+                "http://localhost:" + port + "/actuator/metrics/excusas.encargado.pasos?tag=tipo:Recepcionista",
+                String.class
+        );
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(objectMapper.readTree(response.getBody()).get("measurements").get(0).get("value").asDouble() >= 1.0);
+    }
+
+    @Test
+    public void testProcesarExcusaPorId_NoExiste() throws Exception {
+
+        ResponseEntity<String> response = restTemplate.postForEntity(getBaseUrl() + "/999999/procesar", null, String.class);
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertTrue(response.getBody().contains("Excusa no encontrada"));
+    }
+
+    @Test
+    public void testProcesarExcusaAsincronica() throws Exception {
+
+        int legajo = crearEmpleadoParaPruebas("Async Test", "async.test@excusas.com");
+
+        ExcusaController.ExcusaRequest request = new ExcusaController.ExcusaRequest();
+        request.setLegajoEmpleado(legajo);
+        request.setTipoMotivo("TRIVIAL");
+        request.setDescripcion("Perdí el colectivo y tuve que esperar el siguiente");
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        HttpEntity<ExcusaController.ExcusaRequest> entity = new HttpEntity<>(request, headers);
+
+        ResponseEntity<String> creada = restTemplate.postForEntity(getBaseUrl(), entity, String.class);
+        long id = objectMapper.readTree(creada.getBody()).get("id").asLong();
+
+        ResponseEntity<String> encolada = restTemplate.postForEntity(
+                getBaseUrl() + "/" + id + "/procesar?async=true", null, String.class);
+
+        assertEquals(HttpStatus.ACCEPTED, encolada.getStatusCode());
+        String ticket = objectMapper.readTree(encolada.getBody()).get("ticket").asText();
+        assertTrue(encolada.getHeaders().getLocation().toString().endsWith("/excusas/procesamientos/" + ticket));
+
+        String estado = "PENDIENTE";
+        for (int intento = 0; intento < 100 && !estado.equals("COMPLETADO"); intento++) {
+            Thread.sleep(50);
+            ResponseEntity<String> consulta = restTemplate.getForEntity(
+                    getBaseUrl() + "/procesamientos/" + ticket, String.class);
+            assertEquals(HttpStatus.OK, consulta.getStatusCode());
+            estado = objectMapper.readTree(consulta.getBody()).get("estado").asText();
+        }
+
+        assertEquals("COMPLETADO", estado);
+    }
+
+    @Test
+    public void testObtenerEstadoProcesamiento_TicketInexistente() throws Exception {
+
+        ResponseEntity<String> response = restTemplate.getForEntity(
+                getBaseUrl() + "/procesamientos/ticket-inexistente", String.class);
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+
+    @Test
+    public void testProcesarExcusasPendientes() throws Exception {
+
+        int legajo = crearEmpleadoParaPruebas("Pendientes Test", "pendientes.test@excusas.com");
+
+        ExcusaController.ExcusaRequest request = new ExcusaController.ExcusaRequest();
+        request.setLegajoEmpleado(legajo);
+        request.setTipoMotivo("PROBLEMA_FAMILIAR");
+        request.setDescripcion("Tuve que cuidar a mi abuela durante la mañana");
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        HttpEntity<ExcusaController.ExcusaRequest> entity = new HttpEntity<>(request, headers);
+
+        restTemplate.postForEntity(getBaseUrl(), entity, String.class);
+
+        ResponseEntity<String> response = restTemplate.postForEntity(
+                getBaseUrl() + "/procesar/pendientes?tamanioLote=4", null, String.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        com.fasterxml.jackson.databind.JsonNode resultado = objectMapper.readTree(response.getBody());
+        assertTrue(resultado.get("procesadas").asInt() >= 1);
+        assertTrue(resultado.get("porEncargado").has("SupervisorArea"));
+    }
+
+    @Test
+    public void testProcesarExcusasPendientes_TamanioLoteInvalido() throws Exception {
+
+        ResponseEntity<String> response = restTemplate.postForEntity(
+                getBaseUrl() + "/procesar/pendientes?tamanioLote=0", null, String.class);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
     @Test
     public void testObtenerExcusasPorEmpleado_Success() throws Exception {
 
@@ -427,4 +570,74 @@ public class ExcusaIntegrationTest {
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertTrue(response.getBody().contains("Test Fechas"));
     }
+
+    @Test
+    public void testListarExcusasPorPaginas() throws Exception {
+        int legajo = crearEmpleadoParaPruebas("Test Paginas", "test.paginas@test.com");
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        for (int i = 1; i <= 5; i++) {
+            ExcusaController.ExcusaRequest request = new ExcusaController.ExcusaRequest();
+            request.setLegajoEmpleado(legajo);
+            request.setTipoMotivo("TRIVIAL");
+            request.setDescripcion("Excusa paginada número " + i);
+            restTemplate.postForEntity(getBaseUrl(), new HttpEntity<>(request, headers), String.class);
+        }
+
+        // Se recorre siguiendo el cursor de cada respuesta hasta que no venga más
+        List<Long> ids = new ArrayList<>();
+        int paginas = 0;
+        String url = getBaseUrl() + "/buscar/empleado/" + legajo + "?limite=2";
+        while (url != null) {
+            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            objectMapper.readTree(response.getBody()).forEach(excusa -> ids.add(excusa.get("id").asLong()));
+            paginas++;
+
+            String siguienteId = response.getHeaders().getFirst("X-Siguiente-Id");
+            url = siguienteId == null ? null
+                    : getBaseUrl() + "/buscar/empleado/" + legajo + "?limite=2&desdeId=" + siguienteId;
+        }
+
+        assertEquals(3, paginas);
+        assertEquals(5, ids.size());
+        assertEquals(ids.stream().sorted().distinct().toList(), ids);
+    }
+
+    @Test
+    public void testListarExcusasConLimiteFueraDeRango() {
+        ResponseEntity<String> response = restTemplate.getForEntity(getBaseUrl() + "?limite=100000", String.class);
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+
+        response = restTemplate.getForEntity(getBaseUrl() + "?limite=1", String.class);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getHeaders().getFirst("X-Siguiente-Id"));
+        assertTrue(response.getHeaders().getFirst(HttpHeaders.LINK).contains("desdeId="));
+    }
+
+    @Test
+    public void testExportarExcusasEnNdjson() throws Exception {
+        int legajo = crearEmpleadoParaPruebas("Test Exportar", "test.exportar@test.com");
+
+        ExcusaController.ExcusaRequest request = new ExcusaController.ExcusaRequest();
+        request.setLegajoEmpleado(legajo);
+        request.setTipoMotivo("COMPLEJO");
+        request.setDescripcion("Excusa para exportar");
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        restTemplate.postForEntity(getBaseUrl(), new HttpEntity<>(request, headers), String.class);
+
+        ResponseEntity<String> response = restTemplate.getForEntity(getBaseUrl() + "/exportar", String.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(response.getHeaders().getContentType().includes(MediaType.parseMediaType("application/x-ndjson")));
+        boolean encontrada = false;
+        for (String linea : response.getBody().split("\n")) {
+            com.fasterxml.jackson.databind.JsonNode excusa = objectMapper.readTree(linea);
+            encontrada |= excusa.get("legajo").asInt() == legajo
+                    && excusa.get("descripcion").asText().equals("Excusa para exportar");
+        }
+        assertTrue(encontrada);
+    }
 }
@@ -15,6 +15,14 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
@@ -83,6 +91,60 @@ public class ProntuarioIntegrationTest {
         return -1;
     }
 
+    private long crearProntuarioParaPruebas(String nombreEmpleado) throws Exception {
+        int legajo = crearEmpleadoParaPruebas(nombreEmpleado, nombreEmpleado.toLowerCase().replace(" ", "") + "@test.com");
+        crearExcusaInverosimil(legajo);
+        restTemplate.postForEntity(getExcusasUrl() + "/procesar/indice/" + encontrarIndiceExcusaPorEmpleado(nombreEmpleado),
+                null, String.class);
+
+        ResponseEntity<String> response = restTemplate.getForEntity(getBaseUrl() + "/buscar/empleado/" + legajo, String.class);
+        return objectMapper.readTree(response.getBody()).get(0).get("id").asLong();
+    }
+
+    // Líneas "id:" y "data:" de los eventos recibidos, hasta encontrar una que contenga el texto
+    private String esperarEvento(BlockingQueue<String> lineas, String texto) throws InterruptedException {
+        String idEvento = null;
+        String linea;
+        while ((linea = lineas.poll(10, TimeUnit.SECONDS)) != null) {
+            if (linea.startsWith("id:")) {
+                idEvento = linea.substring(3).trim();
+            } else if (linea.startsWith("data:") && linea.contains(texto)) {
+                return idEvento;
+            }
+        }
+        return null;
+    }
+
+    @Test
+    public void testStreamProntuarios_ReanudaDesdeIdYRecibeLosNuevos() throws Exception {
+        String previo = "Stream Previo " + System.currentTimeMillis();
+        long idPrevio = crearProntuarioParaPruebas(previo);
+
+        BlockingQueue<String> lineas = new LinkedBlockingQueue<>();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(getBaseUrl() + "/stream?desdeId=" + (idPrevio - 1)))
+                .header("Accept", MediaType.TEXT_EVENT_STREAM_VALUE)
+                .build();
+        HttpClient cliente = HttpClient.newHttpClient();
+        cliente.sendAsync(request, HttpResponse.BodyHandlers.ofLines())
+                .thenAccept(respuesta -> respuesta.body().forEach(lineas::add));
+
+        // Primero se reenvía desde la tabla lo posterior al id indicado
+        assertEquals(String.valueOf(idPrevio), esperarEvento(lineas, previo));
+
+        String nuevo = "Stream Nuevo " + System.currentTimeMillis();
+        long idNuevo = crearProntuarioParaPruebas(nuevo);
+
+        assertEquals(String.valueOf(idNuevo), esperarEvento(lineas, nuevo));
+        assertTrue(idNuevo > idPrevio);
+    }
+
+    @Test
+    public void testStreamProntuarios_DesdeIdNegativo() throws Exception {
+        ResponseEntity<String> response = restTemplate.getForEntity(getBaseUrl() + "/stream?desdeId=-1", String.class);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
     @Test
     public void testObtenerTodosLosProntuarios_Vacio() throws Exception {
         try {
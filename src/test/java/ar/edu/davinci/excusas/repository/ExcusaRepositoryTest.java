@@ -2,10 +2,12 @@ package ar.edu.davinci.excusas.repository;
 
 import ar.edu.davinci.excusas.entity.EmpleadoEntity;
 import ar.edu.davinci.excusas.entity.ExcusaEntity;
+import ar.edu.davinci.excusas.entity.ExcusaEntity.TipoMotivo;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.annotation.DirtiesContext;
 
 import java.util.List;
@@ -64,7 +66,7 @@ public class ExcusaRepositoryTest {
     }
 
     @Test
-    public void testFindByTipoMotivoContainingIgnoreCase() {
+    public void testFindByTipoMotivo() {
         
         EmpleadoEntity empleado = new EmpleadoEntity("Pedro Test", "pedro@test.com", 1003);
         empleado = entityManager.persistAndFlush(empleado);
@@ -78,12 +80,13 @@ public class ExcusaRepositoryTest {
         entityManager.persistAndFlush(excusa3);
 
         
-        List<ExcusaEntity> excusasProblema = excusaRepository.findByTipoMotivoContainingIgnoreCase("PROBLEMA");
+        List<ExcusaEntity> excusasElectricas = excusaRepository.findByTipoMotivo(TipoMotivo.PROBLEMA_ELECTRICO);
 
         
-        assertEquals(2, excusasProblema.size());
-        assertTrue(excusasProblema.stream().anyMatch(e -> e.getTipoMotivo().equals("PROBLEMA_ELECTRICO")));
-        assertTrue(excusasProblema.stream().anyMatch(e -> e.getTipoMotivo().equals("PROBLEMA_FAMILIAR")));
+        assertEquals(1, excusasElectricas.size());
+        assertEquals("PROBLEMA_ELECTRICO", excusasElectricas.get(0).getTipoMotivo());
+        assertEquals("Problema con la luz", excusasElectricas.get(0).getDescripcion());
+        assertEquals(List.of(excusa2.getId()), excusaRepository.findIdsByTipoMotivo(TipoMotivo.PROBLEMA_FAMILIAR));
     }
 
     @Test
@@ -146,4 +149,42 @@ public class ExcusaRepositoryTest {
         
         assertTrue(updatedExcusa.getProcesada());
     }
+
+    @Test
+    public void testFindByIdConEmpleado() {
+
+        EmpleadoEntity empleado = new EmpleadoEntity("Marta Test", "marta@test.com", 1008);
+        empleado = entityManager.persistAndFlush(empleado);
+
+        ExcusaEntity excusa = entityManager.persistAndFlush(new ExcusaEntity(empleado, "Excusa por id", "COMPLEJO"));
+        entityManager.clear();
+
+
+        ExcusaEntity encontrada = excusaRepository.findByIdConEmpleado(excusa.getId()).orElseThrow();
+
+
+        assertEquals("Excusa por id", encontrada.getDescripcion());
+        assertEquals("Marta Test", encontrada.getEmpleado().getNombre());
+        assertTrue(excusaRepository.findByIdConEmpleado(excusa.getId() + 100).isEmpty());
+    }
+
+    @Test
+    public void testFindIdsOrdenados() {
+
+        EmpleadoEntity empleado = new EmpleadoEntity("Raul Test", "raul@test.com", 1009);
+        empleado = entityManager.persistAndFlush(empleado);
+
+        ExcusaEntity excusa1 = entityManager.persistAndFlush(new ExcusaEntity(empleado, "Primera", "TRIVIAL"));
+        ExcusaEntity excusa2 = entityManager.persistAndFlush(new ExcusaEntity(empleado, "Segunda", "TRIVIAL"));
+
+
+        List<Long> primera = excusaRepository.findIdsOrdenados(PageRequest.of(0, 1));
+        List<Long> segunda = excusaRepository.findIdsOrdenados(PageRequest.of(1, 1));
+        List<Long> inexistente = excusaRepository.findIdsOrdenados(PageRequest.of(2, 1));
+
+
+        assertEquals(List.of(excusa1.getId()), primera);
+        assertEquals(List.of(excusa2.getId()), segunda);
+        assertTrue(inexistente.isEmpty());
+    }
 }
@@ -0,0 +1,153 @@
+package ar.edu.davinci.excusas.repository;
+
+import ar.edu.davinci.excusas.entity.EmpleadoEntity;
+import ar.edu.davinci.excusas.entity.ExcusaEntity;
+import ar.edu.davinci.excusas.entity.ExcusaEntity.TipoMotivo;
+import ar.edu.davinci.excusas.entity.ProntuarioEntity;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Se pide a H2 el plan (EXPLAIN) de la misma sentencia que generó Hibernate para cada consulta:
+// la tabla filtrada tiene que resolverse con el índice esperado y no recorriéndola entera
+@DataJpaTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class IndicesConsultasTest {
+
+    private static final List<String> SENTENCIAS = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ExcusaRepository excusaRepository;
+
+    @Autowired
+    private ProntuarioRepository prontuarioRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @TestConfiguration
+    static class RegistroSentencias {
+        @Bean
+        HibernatePropertiesCustomizer registrarSentencias() {
+            StatementInspector inspector = sql -> {
+                SENTENCIAS.add(sql);
+                return sql;
+            };
+            return propiedades -> propiedades.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+        }
+    }
+
+    @BeforeEach
+    public void sembrar() {
+        for (int i = 0; i < 20; i++) {
+            EmpleadoEntity empleado = entityManager.persist(
+                    new EmpleadoEntity("Indice " + i, "indice" + i + "@test.com", 2000 + i));
+            for (TipoMotivo tipo : TipoMotivo.values()) {
+                ExcusaEntity excusa = entityManager.persist(new ExcusaEntity(empleado, "Excusa " + tipo, tipo.name()));
+                entityManager.persist(new ProntuarioEntity(empleado, excusa, empleado.getLegajo()));
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        SENTENCIAS.clear();
+    }
+
+    @Test
+    public void testBusquedaPorMotivoUsaIndiceDeMotivo() throws Exception {
+        assertUsaIndice("IDX_EXCUSAS_TIPO_MOTIVO", "EXCUSAS",
+                () -> excusaRepository.findByTipoMotivo(TipoMotivo.COMPLEJO));
+        assertUsaIndice("IDX_EXCUSAS_TIPO_MOTIVO", "EXCUSAS",
+                () -> excusaRepository.findByTipoMotivoDesde(TipoMotivo.COMPLEJO, 0L, PageRequest.of(0, 10)));
+        assertUsaIndice("IDX_EXCUSAS_TIPO_MOTIVO", "EXCUSAS",
+                () -> excusaRepository.findIdsByTipoMotivo(TipoMotivo.INVEROSIMIL));
+    }
+
+    @Test
+    public void testPendientesUsanIndiceDeProcesada() throws Exception {
+        assertUsaIndice("IDX_EXCUSAS_PROCESADA", "EXCUSAS",
+                () -> excusaRepository.findPendientesDesde(0L, PageRequest.of(0, 10)));
+        assertUsaIndice("IDX_EXCUSAS_PROCESADA", "EXCUSAS",
+                () -> excusaRepository.findByProcesadaAndIdGreaterThanOrderByIdAsc(false, 0L, PageRequest.of(0, 10)));
+    }
+
+    @Test
+    public void testBusquedaPorEmpleadoYFechasUsaIndiceCompuesto() throws Exception {
+        LocalDateTime desde = LocalDateTime.now().minusDays(1);
+        LocalDateTime hasta = LocalDateTime.now().plusDays(1);
+
+        assertUsaIndice("IDX_EXCUSAS_EMPLEADO_FECHA", "EXCUSAS",
+                () -> excusaRepository.findByEmpleadoLegajoAndFechaCreacionBetween(2005, desde, hasta));
+        assertUsaIndice("IDX_EXCUSAS_EMPLEADO_FECHA", "EXCUSAS",
+                () -> excusaRepository.findByLegajoYFechasDesde(2005, desde, hasta, 0L, PageRequest.of(0, 10)));
+        assertUsaIndice("IDX_EXCUSAS_EMPLEADO_FECHA", "EXCUSAS",
+                () -> excusaRepository.findByEmpleadoLegajoAndFechaCreacionGreaterThanEqual(2005, desde));
+        assertUsaIndice("IDX_EXCUSAS_EMPLEADO_FECHA", "EXCUSAS",
+                () -> excusaRepository.findByEmpleadoLegajoAndFechaCreacionLessThanEqual(2005, hasta));
+
+        // Sin fechas alcanza con cualquier índice que empiece por empleado_id (H2 elige el de la clave foránea)
+        assertNoRecorre("EXCUSAS", () -> excusaRepository.findByEmpleadoLegajo(2005));
+        assertNoRecorre("EXCUSAS",
+                () -> excusaRepository.findByEmpleadoLegajoAndIdGreaterThanOrderByIdAsc(2005, 0L, PageRequest.of(0, 10)));
+    }
+
+    @Test
+    public void testRetencionUsaIndiceDeFecha() throws Exception {
+        assertUsaIndice("IDX_EXCUSAS_FECHA", "EXCUSAS",
+                () -> excusaRepository.findIdsCreadasHasta(LocalDateTime.now().minusYears(1), PageRequest.of(0, 10)));
+    }
+
+    @Test
+    public void testProntuariosPorLegajoUsanIndiceDeLegajo() throws Exception {
+        assertUsaIndice("IDX_PRONTUARIOS_LEGAJO", "PRONTUARIOS",
+                () -> prontuarioRepository.findByLegajo(2005));
+        assertUsaIndice("IDX_PRONTUARIOS_LEGAJO", "PRONTUARIOS",
+                () -> prontuarioRepository.findByLegajoAndIdGreaterThanOrderByIdAsc(2005, 0L, PageRequest.of(0, 10)));
+    }
+
+    private void assertUsaIndice(String indice, String tabla, Runnable consulta) throws Exception {
+        String plan = assertNoRecorre(tabla, consulta);
+        assertTrue(plan.contains("PUBLIC." + indice), "No usa " + indice + ":\n" + plan);
+    }
+
+    private String assertNoRecorre(String tabla, Runnable consulta) throws Exception {
+        SENTENCIAS.clear();
+        consulta.run();
+        assertEquals(1, SENTENCIAS.size(), "Sentencias: " + SENTENCIAS);
+
+        String plan = explicar(SENTENCIAS.get(0));
+        assertFalse(plan.contains("PUBLIC." + tabla + ".tableScan"), "Recorre " + tabla + " entera:\n" + plan);
+        return plan;
+    }
+
+    // H2 arma el plan al preparar la sentencia: no hace falta ligar los parámetros
+    private String explicar(String sql) throws Exception {
+        try (Connection conexion = dataSource.getConnection();
+             PreparedStatement sentencia = conexion.prepareStatement("EXPLAIN " + sql);
+             ResultSet plan = sentencia.executeQuery()) {
+            plan.next();
+            return plan.getString(1);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package ar.edu.davinci.excusas.service;
+
+import ar.edu.davinci.excusas.model.email.AgregadorResumenProductivo;
+import ar.edu.davinci.excusas.model.email.EmailSenderMemoria;
+import ar.edu.davinci.excusas.model.email.EmailSenderMemoria.EmailEnviado;
+import ar.edu.davinci.excusas.model.email.ServiciosEmail;
+import ar.edu.davinci.excusas.model.empleados.Empleado;
+import ar.edu.davinci.excusas.model.excusas.Excusa;
+import ar.edu.davinci.excusas.model.excusas.motivos.MotivoTrivial;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "app.email.transporte=memoria",
+        "app.email.outbox.habilitado=false",
+        "app.email.resumen-productivo.ventana-ms=3600000",
+        "app.email.resumen-productivo.umbral=3",
+        "app.email.resumen-productivo.empleados-por-resumen=2"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class AgregadorResumenProductivoIntegrationTest {
+
+    @Autowired
+    private AgregadorResumenProductivo agregadorResumenProductivo;
+
+    @Autowired
+    private CadenaDeEncargadosService cadenaDeEncargadosService;
+
+    @Autowired
+    private EncargadoService encargadoService;
+
+    @Autowired
+    private ServiciosEmail serviciosEmail;
+
+    @Autowired
+    private EmailSenderMemoria transporteMemoria;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // Los emails del DataInitializer no cuentan
+    @BeforeEach
+    public void limpiarEmails() {
+        transporteMemoria.limpiar();
+    }
+
+    @Test
+    public void testNotificacionesProductivasSeResumenPorUmbralYVentana() throws InterruptedException {
+
+        assertSame(agregadorResumenProductivo, serviciosEmail.getNotificadorProductivo());
+        encargadoService.cambiarModo("recepcionista", "PRODUCTIVO");
+
+        String[] empleados = {"Ana", "Bruno", "Carla", "Ana", "Bruno", "Dario", "Ana"};
+        for (int i = 0; i < empleados.length; i++) {
+            Empleado empleado = new Empleado(empleados[i], "resumen" + i + "@test.com", 9100 + i);
+            cadenaDeEncargadosService.procesarExcusa(new Excusa(empleado, new MotivoTrivial(), "Excusa trivial"));
+        }
+
+        // Siete excusas con umbral 3: dos resúmenes completos y uno pendiente hasta que cierre la ventana
+        List<EmailEnviado> resumenes = esperarResumenes(2);
+        assertEquals(2, resumenes.size());
+        assertEquals("laura@excusas.com", resumenes.get(0).origen());
+        assertTrue(resumenes.get(0).cuerpo().startsWith("Se procesaron 3 excusas"));
+        assertTrue(resumenes.get(0).cuerpo().endsWith("Ana (1), Bruno (1), otros (1)"));
+        assertEquals(1, agregadorResumenProductivo.getEncargadosConPendientes());
+
+        assertEquals(1, agregadorResumenProductivo.vaciar());
+        assertEquals(3, resumenesAlCTO().size());
+        assertTrue(resumenesAlCTO().get(2).cuerpo().startsWith("Se procesaron 1 excusas"));
+        assertEquals(0, agregadorResumenProductivo.getEncargadosConPendientes());
+        assertTrue(transporteMemoria.getEnviados().stream().noneMatch(email -> email.asunto().equals("Procesamiento productivo")));
+    }
+
+    @Test
+    public void testExcusasDeUnaTransaccionRevertidaNoCuentan() throws InterruptedException {
+
+        encargadoService.cambiarModo("recepcionista", "PRODUCTIVO");
+        TransactionTemplate transaccion = new TransactionTemplate(transactionManager);
+
+        transaccion.executeWithoutResult(status -> {
+            for (int i = 0; i < 4; i++) {
+                Empleado empleado = new Empleado("Revertido", "revertido" + i + "@test.com", 9200 + i);
+                cadenaDeEncargadosService.procesarExcusa(new Excusa(empleado, new MotivoTrivial(), "Excusa trivial"));
+            }
+            status.setRollbackOnly();
+        });
+        assertEquals(0, agregadorResumenProductivo.getEncargadosConPendientes());
+
+        // Dentro de la transacción nada cuenta hasta que se confirma, aunque se pase el umbral
+        transaccion.executeWithoutResult(status -> {
+            for (int i = 0; i < 4; i++) {
+                Empleado empleado = new Empleado("Confirmado", "confirmado" + i + "@test.com", 9300 + i);
+                cadenaDeEncargadosService.procesarExcusa(new Excusa(empleado, new MotivoTrivial(), "Excusa trivial"));
+            }
+            assertEquals(0, agregadorResumenProductivo.getEncargadosConPendientes());
+        });
+
+        List<EmailEnviado> resumenes = esperarResumenes(1);
+        assertTrue(resumenes.get(0).cuerpo().startsWith("Se procesaron 3 excusas"));
+        assertTrue(resumenes.get(0).cuerpo().endsWith("Confirmado (3)"));
+        assertEquals(1, agregadorResumenProductivo.getEncargadosConPendientes());
+    }
+
+    // Los resúmenes que llegan al umbral salen desde el hilo del agregador
+    private List<EmailEnviado> esperarResumenes(int cantidad) throws InterruptedException {
+        for (int intento = 0; intento < 100 && resumenesAlCTO().size() < cantidad; intento++) {
+            Thread.sleep(50);
+        }
+        return resumenesAlCTO();
+    }
+
+    private List<EmailEnviado> resumenesAlCTO() {
+        return transporteMemoria.getEnviados().stream()
+                .filter(email -> email.destino().equals("cto@excusas.com"))
+                .toList();
+    }
+}
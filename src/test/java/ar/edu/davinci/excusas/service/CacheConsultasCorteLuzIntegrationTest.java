@@ -0,0 +1,124 @@
+package ar.edu.davinci.excusas.service;
+
+import ar.edu.davinci.excusas.model.email.CacheConsultasCorteLuz;
+import ar.edu.davinci.excusas.model.email.EmailSenderMemoria;
+import ar.edu.davinci.excusas.model.email.ServiciosEmail;
+import ar.edu.davinci.excusas.model.empleados.Empleado;
+import ar.edu.davinci.excusas.model.empleados.encargados.SupervisorArea;
+import ar.edu.davinci.excusas.model.excusas.Excusa;
+import ar.edu.davinci.excusas.model.excusas.motivos.MotivoProblemaElectrico;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "app.email.transporte=memoria",
+        "app.email.outbox.habilitado=false",
+        "app.email.edesur.ventana-ms=1000"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class CacheConsultasCorteLuzIntegrationTest {
+
+    @Autowired
+    private CacheConsultasCorteLuz cacheConsultasCorteLuz;
+
+    @Autowired
+    private CadenaDeEncargadosService cadenaDeEncargadosService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ServiciosEmail serviciosEmail;
+
+    @Autowired
+    private EmailSenderMemoria transporteMemoria;
+
+    // Los emails del DataInitializer no cuentan
+    @BeforeEach
+    public void limpiarEmails() {
+        transporteMemoria.limpiar();
+    }
+
+    @Test
+    public void testConsultasAEdesurSeDeduplicanDentroDeLaVentana() throws InterruptedException {
+
+        assertSame(cacheConsultasCorteLuz, serviciosEmail.getRegistroConsultasCorteLuz());
+        long enviadasIniciales = cacheConsultasCorteLuz.getEnviadas();
+        long suprimidasIniciales = cacheConsultasCorteLuz.getSuprimidas();
+
+        procesarExcusasElectricas(20);
+
+        assertEquals(1, consultasAEdesur());
+        assertEquals(enviadasIniciales + 1, cacheConsultasCorteLuz.getEnviadas());
+        assertEquals(suprimidasIniciales + 19, cacheConsultasCorteLuz.getSuprimidas());
+        assertEquals(suprimidasIniciales + 19, meterRegistry.get("excusas.edesur.consultas")
+                .tag("resultado", "suprimida").counter().count());
+
+        // Vencida la ventana se vuelve a consultar
+        Thread.sleep(1200);
+        procesarExcusasElectricas(1);
+        assertEquals(2, consultasAEdesur());
+    }
+
+    @Test
+    public void testConsultaFallidaNoSeReutiliza() {
+
+        // Mismo supervisor y misma ventana que los de la cadena, pero con un envío que falla
+        ServiciosEmail sinConexion = new ServiciosEmail(
+                (destino, origen, asunto, cuerpo) -> {
+                    throw new IllegalStateException("Sin conexión");
+                },
+                serviciosEmail.getPlantillas(),
+                serviciosEmail.getNotificadorProductivo(),
+                cacheConsultasCorteLuz);
+        SupervisorArea supervisor = new SupervisorArea("Pedro Super", "pedro@excusas.com", 2002, sinConexion);
+        Excusa excusa = new Excusa(new Empleado("Corte Test", "corte@test.com", 9200),
+                new MotivoProblemaElectrico(), "Se cortó la luz");
+        assertThrows(IllegalStateException.class, () -> supervisor.procesarProblemaElectrico(excusa));
+
+        procesarExcusasElectricas(3);
+
+        assertEquals(1, consultasAEdesur());
+    }
+
+    @Test
+    public void testConsultaDeUnaTransaccionRevertidaNoSeReutiliza() {
+
+        long enviadasIniciales = cacheConsultasCorteLuz.getEnviadas();
+        long suprimidasIniciales = cacheConsultasCorteLuz.getSuprimidas();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            procesarExcusasElectricas(1);
+            status.setRollbackOnly();
+        });
+        procesarExcusasElectricas(2);
+
+        // La primera consulta se revirtió con su excusa: la siguiente vuelve a consultar y la tercera la reutiliza
+        assertEquals(enviadasIniciales + 2, cacheConsultasCorteLuz.getEnviadas());
+        assertEquals(suprimidasIniciales + 1, cacheConsultasCorteLuz.getSuprimidas());
+    }
+
+    private void procesarExcusasElectricas(int cantidad) {
+        Empleado empleado = new Empleado("Corte Test", "corte@test.com", 9200);
+        for (int i = 0; i < cantidad; i++) {
+            cadenaDeEncargadosService.procesarExcusa(new Excusa(empleado, new MotivoProblemaElectrico(), "Se cortó la luz"));
+        }
+    }
+
+    private long consultasAEdesur() {
+        return transporteMemoria.getEnviados().stream()
+                .filter(email -> email.destino().equals("EDESUR@mailfake.com.ar"))
+                .count();
+    }
+}
@@ -0,0 +1,254 @@
+package ar.edu.davinci.excusas.service;
+
+import ar.edu.davinci.excusas.model.empleados.Empleado;
+import ar.edu.davinci.excusas.model.empleados.encargados.*;
+import ar.edu.davinci.excusas.model.empleados.encargados.modos.ModoNormal;
+import ar.edu.davinci.excusas.model.empleados.encargados.modos.ModoProductivo;
+import ar.edu.davinci.excusas.model.empleados.encargados.modos.ModoVago;
+import ar.edu.davinci.excusas.model.empleados.encargados.modos.interfaces.IModoManejo;
+import ar.edu.davinci.excusas.model.empleados.interfaces.IManejadorExcusas;
+import ar.edu.davinci.excusas.model.excusas.Excusa;
+import ar.edu.davinci.excusas.model.excusas.motivos.*;
+import ar.edu.davinci.excusas.model.prontuarios.AdministradorProntuariosJPA;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class CadenaDeEncargadosServiceIntegrationTest {
+
+    @Autowired
+    private CadenaDeEncargadosService cadenaDeEncargadosService;
+
+    @Autowired
+    private EncargadoService encargadoService;
+
+    @Autowired
+    private ExcusaService excusaService;
+
+    @Autowired
+    private EmpleadoService empleadoService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private AdministradorProntuariosJPA administradorProntuarios;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    public void testCadenaSeReutilizaMientrasNoCambieLaConfiguracion() {
+
+        CadenaDeEncargados primera = cadenaDeEncargadosService.obtenerCadena();
+        CadenaDeEncargados segunda = cadenaDeEncargadosService.obtenerCadena();
+
+        assertSame(primera, segunda);
+    }
+
+    @Test
+    public void testCadenaSeReconstruyeAlCambiarModo() {
+
+        CadenaDeEncargados anterior = cadenaDeEncargadosService.obtenerCadena();
+
+        encargadoService.cambiarModo("supervisor", "VAGO");
+        CadenaDeEncargados nueva = cadenaDeEncargadosService.obtenerCadena();
+
+        assertNotSame(anterior, nueva);
+        assertEquals(encargadoService.getVersion(), nueva.getVersion());
+    }
+
+    @Test
+    public void testCadenaSeReconstruyeAlCrearEncargado() {
+
+        CadenaDeEncargados anterior = cadenaDeEncargadosService.obtenerCadena();
+
+        encargadoService.crearEncargadoDinamico("auditor", "Auditor Test", "auditor@excusas.com", List.of("COMPLEJO"));
+        CadenaDeEncargados nueva = cadenaDeEncargadosService.obtenerCadena();
+
+        assertNotSame(anterior, nueva);
+    }
+
+    @Test
+    public void testIndiceDeCapacidadesIncluyeEncargadosDinamicos() {
+
+        encargadoService.crearEncargadoDinamico("auditor", "Auditor Test", "auditor@excusas.com",
+                List.of("inverosimil", "INVEROSIMIL"));
+
+        List<EncargadoService.EncargadoInfo> inverosimiles = encargadoService.obtenerEncargadosPorCapacidad("INVEROSIMIL");
+        assertEquals(List.of("ceo", "auditor"), inverosimiles.stream().map(EncargadoService.EncargadoInfo::getTipo).toList());
+        assertEquals(List.of("INVEROSIMIL"), inverosimiles.get(1).getCapacidades());
+        assertEquals(List.of("TRIVIAL"), encargadoService.obtenerEncargado("recepcionista").getCapacidades());
+
+        EncargadoDinamico auditor = (EncargadoDinamico) cadenaDeEncargadosService.obtenerCadena().getEncargados().get(4);
+        assertEquals(CategoriaMotivo.INVEROSIMIL.getMascara(), auditor.getMascaraCapacidades());
+        assertTrue(auditor.puedeManejarInverosimil());
+        assertFalse(auditor.puedeManejarTrivial());
+    }
+
+    @Test
+    @Transactional
+    public void testObservadoresNoCrecenAlProcesarExcusas() {
+
+        cadenaDeEncargadosService.obtenerCadena();
+        int observadoresIniciales = administradorProntuarios.cantidadObservadores();
+
+        // Las inverosímiles llegan al CEO, que guarda un prontuario: el empleado y esa excusa tienen que existir
+        Empleado empleado = empleadoService.crearEmpleado("Carga Test", "carga@test.com");
+        Excusa inverosimil = excusaService.crearExcusa(empleado.getLegajo(), "INVEROSIMIL", "Excusa de carga inverosímil");
+        MotivoExcusa[] motivos = {new MotivoTrivial(), new MotivoProblemaElectrico(), new MotivoProblemaFamiliar(),
+                new MotivoComplejo(), new MotivoInverosimil()};
+        Set<String> encargados = new HashSet<>();
+
+        for (int i = 0; i < 100_000; i++) {
+            MotivoExcusa motivo = motivos[i % motivos.length];
+            Excusa excusa = motivo instanceof MotivoInverosimil
+                    ? inverosimil
+                    : new Excusa(empleado, motivo, "Excusa de carga número " + i);
+            encargados.add(cadenaDeEncargadosService.procesarExcusa(excusa).getClass().getSimpleName());
+            // Sin vaciar el contexto, cada prontuario revisaría todos los anteriores al hacer flush
+            if (i % 1_000 == 999) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        assertEquals(Set.of("Recepcionista", "SupervisorArea", "GerenteRecursosHumanos", "CEO"), encargados);
+
+        encargadoService.cambiarModo("gerente", "PRODUCTIVO");
+        encargadoService.cambiarModo("gerente", "NORMAL");
+
+        int excusasGuardadas = excusaService.obtenerTodasLasExcusas().size();
+        for (int i = 0; i < excusasGuardadas; i++) {
+            excusaService.procesarExcusa(i);
+        }
+
+        assertEquals(observadoresIniciales, administradorProntuarios.cantidadObservadores());
+    }
+
+    @Test
+    public void testTablaDeRuteoEquivaleAlRecorridoParaTodosLosModos() {
+
+        IModoManejo[] modos = {new ModoNormal(), new ModoProductivo((origen, empleado) -> { }), new ModoVago()};
+        MotivoExcusa[] motivos = {new MotivoTrivial(), new MotivoProblemaElectrico(), new MotivoComplejo(), new MotivoInverosimil()};
+        Empleado empleado = new Empleado("Ruteo Test", "ruteo@test.com", 9002);
+
+        for (int combinacion = 0; combinacion < 81; combinacion++) {
+            List<IManejadorExcusas> configuracion = List.of(
+                    new Recepcionista("Laura Recep", "laura@excusas.com", 2001),
+                    new SupervisorArea("Pedro Super", "pedro@excusas.com", 2002),
+                    new GerenteRecursosHumanos("Sofia Gerente", "sofia@excusas.com", 2003),
+                    new CEO("Roberto CEO", "roberto@excusas.com", 2004)
+            );
+            int resto = combinacion;
+            for (IManejadorExcusas encargado : configuracion) {
+                encargado.setModo(modos[resto % 3]);
+                resto /= 3;
+            }
+            CadenaDeEncargados cadena = new CadenaDeEncargados(configuracion, null, 0);
+
+            for (MotivoExcusa motivo : motivos) {
+                Excusa excusa = new Excusa(empleado, motivo, "Excusa de ruteo");
+                IManejadorExcusas compilado = cadena.procesarExcusa(excusa);
+                IManejadorExcusas recorrido = cadena.procesarExcusaRecorriendo(excusa);
+
+                assertSame(recorrido, compilado, "Combinación " + combinacion + ", motivo " + motivo.getCategoria());
+            }
+        }
+    }
+
+    @Test
+    public void testTablaDeRuteoSeInvalidaAlCambiarModoOSiguiente() {
+
+        CadenaDeEncargados cadena = new CadenaDeEncargados();
+        IManejadorExcusas recepcionista = cadena.getEncargados().get(0);
+        IManejadorExcusas encargadoPorDefecto = cadena.getEncargados().get(cadena.getEncargados().size() - 1);
+
+        TablaDeRuteo inicial = cadena.obtenerTablaDeRuteo();
+        assertTrue(inicial.estaCompilada());
+        assertSame(inicial, cadena.obtenerTablaDeRuteo());
+        assertSame(recepcionista, inicial.obtenerTerminal(CategoriaMotivo.TRIVIAL));
+
+        recepcionista.setModo(new ModoVago());
+        TablaDeRuteo trasCambiarModo = cadena.obtenerTablaDeRuteo();
+        assertNotSame(inicial, trasCambiarModo);
+        assertSame(encargadoPorDefecto, trasCambiarModo.obtenerTerminal(CategoriaMotivo.TRIVIAL));
+
+        recepcionista.setModo(new ModoNormal());
+        recepcionista.setSiguiente(encargadoPorDefecto);
+        TablaDeRuteo trasCambiarSiguiente = cadena.obtenerTablaDeRuteo();
+        assertNotSame(trasCambiarModo, trasCambiarSiguiente);
+        assertSame(encargadoPorDefecto, trasCambiarSiguiente.obtenerTerminal(CategoriaMotivo.COMPLEJO));
+    }
+
+    @Test
+    public void testMetricasPorEncargadoRegistranPasosDelegacionesYResultados() {
+
+        encargadoService.cambiarModo("supervisor", "VAGO");
+        cadenaDeEncargadosService.obtenerCadena();
+        Empleado empleado = new Empleado("Metricas Test", "metricas@test.com", 9003);
+
+        // El DataInitializer ya procesó excusas: se comparan incrementos
+        double pasosRecepcionista = contador("excusas.encargado.pasos", "laura@excusas.com");
+        double pasosSupervisor = contador("excusas.encargado.pasos", "pedro@excusas.com");
+        double delegacionesSupervisor = contador("excusas.encargado.delegaciones", "pedro@excusas.com");
+        double delegacionesRecepcionista = contador("excusas.encargado.delegaciones", "laura@excusas.com");
+        double aceptadasGerente = resultado("sofia@excusas.com", "aceptada");
+        double rechazadasPorDefecto = resultado("sistema@excusas.com", "rechazada");
+        long procesamientosGerente = meterRegistry.get("excusas.encargado.procesamiento")
+                .tag("encargado", "sofia@excusas.com").timer().count();
+
+        // Moderado: recepcionista -> supervisor (vago) -> gerente -> CEO -> por defecto
+        cadenaDeEncargadosService.procesarExcusa(new Excusa(empleado, new MotivoProblemaElectrico(), "Corte de luz"));
+        // Complejo: recepcionista -> supervisor (vago) -> gerente (acepta)
+        cadenaDeEncargadosService.procesarExcusa(new Excusa(empleado, new MotivoComplejo(), "Excusa compleja"));
+
+        assertEquals(pasosRecepcionista + 2, contador("excusas.encargado.pasos", "laura@excusas.com"));
+        assertEquals(pasosSupervisor + 2, contador("excusas.encargado.pasos", "pedro@excusas.com"));
+        assertEquals(delegacionesSupervisor + 2, contador("excusas.encargado.delegaciones", "pedro@excusas.com"));
+        assertEquals(delegacionesRecepcionista, contador("excusas.encargado.delegaciones", "laura@excusas.com"));
+        assertEquals(aceptadasGerente + 1, resultado("sofia@excusas.com", "aceptada"));
+        assertEquals(rechazadasPorDefecto + 1, resultado("sistema@excusas.com", "rechazada"));
+        assertEquals(procesamientosGerente + 1, meterRegistry.get("excusas.encargado.procesamiento")
+                .tag("encargado", "sofia@excusas.com").timer().count());
+    }
+
+    @Test
+    public void testRecorridoEnlazadoRegistraLasMismasMetricasQueLaTabla() {
+
+        Empleado empleado = new Empleado("Recorrido Test", "recorrido@test.com", 9004);
+        CadenaDeEncargados cadena = cadenaDeEncargadosService.obtenerCadena();
+        double pasosIniciales = contador("excusas.encargado.pasos", "sofia@excusas.com");
+        double aceptadasIniciales = resultado("sofia@excusas.com", "aceptada");
+
+        cadena.procesarExcusa(new Excusa(empleado, new MotivoComplejo(), "Excusa compleja"));
+        double pasosTabla = contador("excusas.encargado.pasos", "sofia@excusas.com") - pasosIniciales;
+
+        cadena.procesarExcusaRecorriendo(new Excusa(empleado, new MotivoComplejo(), "Excusa compleja"));
+
+        assertEquals(1.0, pasosTabla);
+        assertEquals(pasosIniciales + 2, contador("excusas.encargado.pasos", "sofia@excusas.com"));
+        assertEquals(aceptadasIniciales + 2, resultado("sofia@excusas.com", "aceptada"));
+    }
+
+    private double contador(String nombre, String encargado) {
+        return meterRegistry.get(nombre).tag("encargado", encargado).counter().count();
+    }
+
+    private double resultado(String encargado, String resultado) {
+        return meterRegistry.get("excusas.encargado.resultado")
+                .tag("encargado", encargado).tag("resultado", resultado).counter().count();
+    }
+}
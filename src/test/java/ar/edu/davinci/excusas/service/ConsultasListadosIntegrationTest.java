@@ -0,0 +1,118 @@
+package ar.edu.davinci.excusas.service;
+
+import ar.edu.davinci.excusas.entity.EmpleadoEntity;
+import ar.edu.davinci.excusas.entity.ExcusaEntity;
+import ar.edu.davinci.excusas.entity.ProntuarioEntity;
+import ar.edu.davinci.excusas.repository.EmpleadoRepository;
+import ar.edu.davinci.excusas.repository.ExcusaRepository;
+import ar.edu.davinci.excusas.repository.ProntuarioRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Los listados traen las asociaciones que lee el mapper en la misma consulta: la cantidad de sentencias
+// no depende de cuántas filas devuelven. Las estadísticas son globales: sin outbox no hay un despachador
+// consultando la base en segundo plano
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:consultas-listados",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "app.data-initializer.enabled=false",
+        "app.email.outbox.habilitado=false"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class ConsultasListadosIntegrationTest {
+
+    private static final int LEGAJO_FRECUENTE = 5000;
+
+    @Autowired
+    private ExcusaService excusaService;
+
+    @Autowired
+    private ProntuarioService prontuarioService;
+
+    @Autowired
+    private EmpleadoRepository empleadoRepository;
+
+    @Autowired
+    private ExcusaRepository excusaRepository;
+
+    @Autowired
+    private ProntuarioRepository prontuarioRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private int proximoLegajo = LEGAJO_FRECUENTE + 1;
+
+    @Test
+    public void testListadosDeExcusasUsanLaMismaCantidadDeSentenciasSinImportarLasFilas() {
+
+        EmpleadoEntity frecuente = empleadoRepository.save(
+                new EmpleadoEntity("Frecuente Test", "frecuente@test.com", LEGAJO_FRECUENTE));
+        sembrar(frecuente, 3);
+
+        Map<String, Supplier<Integer>> listados = new LinkedHashMap<>();
+        listados.put("todas", () -> excusaService.obtenerTodasLasExcusas().size());
+        listados.put("por empleado", () -> excusaService.obtenerExcusasPorEmpleado(LEGAJO_FRECUENTE).size());
+        listados.put("por motivo", () -> excusaService.obtenerExcusasPorTipoMotivo("TRIVIAL").size());
+        listados.put("rechazadas", () -> excusaService.obtenerExcusasRechazadas().size());
+        listados.put("por fechas", () -> excusaService.buscarExcusasPorLegajoYFechas(LEGAJO_FRECUENTE,
+                LocalDate.now().minusDays(1), LocalDate.now().plusDays(1)).size());
+        listados.put("prontuarios", () -> prontuarioService.obtenerTodosLosProntuarios().size());
+        listados.put("prontuarios por empleado",
+                () -> prontuarioService.obtenerProntuariosPorEmpleado(LEGAJO_FRECUENTE).size());
+
+        Map<String, Long> sentenciasIniciales = new LinkedHashMap<>();
+        Map<String, Integer> filasIniciales = new LinkedHashMap<>();
+        listados.forEach((nombre, listado) -> {
+            filasIniciales.put(nombre, 0);
+            sentenciasIniciales.put(nombre, contarSentencias(() -> filasIniciales.put(nombre, listado.get())));
+        });
+
+        sembrar(frecuente, 30);
+
+        listados.forEach((nombre, listado) -> {
+            int[] filas = new int[1];
+            long sentencias = contarSentencias(() -> filas[0] = listado.get());
+            assertTrue(filas[0] > filasIniciales.get(nombre), nombre);
+            assertEquals(sentenciasIniciales.get(nombre), sentencias, nombre);
+            // La consulta del listado y, a lo sumo, la validación previa del empleado
+            assertTrue(sentencias <= 2, nombre + ": " + sentencias + " sentencias");
+        });
+    }
+
+    // Cada excusa (y su prontuario) tiene su propio empleado, y el empleado frecuente suma una más de cada una:
+    // así una asociación perezosa se notaría con una consulta extra por fila
+    private void sembrar(EmpleadoEntity frecuente, int cantidad) {
+        for (int i = 0; i < cantidad; i++) {
+            int legajo = proximoLegajo++;
+            EmpleadoEntity empleado = empleadoRepository.save(
+                    new EmpleadoEntity("Empleado " + legajo, "empleado" + legajo + "@test.com", legajo));
+            guardarExcusaConProntuario(empleado);
+            guardarExcusaConProntuario(frecuente);
+        }
+    }
+
+    private void guardarExcusaConProntuario(EmpleadoEntity empleado) {
+        ExcusaEntity excusa = excusaRepository.save(new ExcusaEntity(empleado, "Excusa de " + empleado.getNombre(), "TRIVIAL"));
+        prontuarioRepository.save(new ProntuarioEntity(empleado, excusa, empleado.getLegajo()));
+    }
+
+    private long contarSentencias(Runnable consulta) {
+        Statistics estadisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estadisticas.clear();
+        consulta.run();
+        return estadisticas.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,179 @@
+package ar.edu.davinci.excusas.service;
+
+import ar.edu.davinci.excusas.entity.EmailOutboxEntity;
+import ar.edu.davinci.excusas.entity.EmailOutboxEntity.EstadoEmail;
+import ar.edu.davinci.excusas.entity.NotificacionFallidaEntity.TipoNotificacion;
+import ar.edu.davinci.excusas.model.email.EmailSenderOutbox;
+import ar.edu.davinci.excusas.model.email.ServiciosEmail;
+import ar.edu.davinci.excusas.model.email.interfaces.IEmailSender;
+import ar.edu.davinci.excusas.model.empleados.Empleado;
+import ar.edu.davinci.excusas.model.excusas.Excusa;
+import ar.edu.davinci.excusas.repository.EmailOutboxRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+
+// El despacho automático queda fuera de juego (intervalo de una hora) y se dispara a mano
+@SpringBootTest(properties = {
+        // Base propia: los contextos de otras clases de prueba siguen vivos en caché y sus despachadores
+        // tomarían de la outbox compartida los emails que esta prueba encola y cuenta
+        "spring.datasource.url=jdbc:h2:mem:despachador-emails",
+        "app.email.outbox.intervalo-ms=3600000",
+        "app.email.outbox.backoff-inicial-ms=0",
+        "app.email.outbox.max-intentos=3"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class DespachadorEmailsServiceIntegrationTest {
+
+    @Autowired
+    private DespachadorEmailsService despachadorEmailsService;
+
+    @Autowired
+    private EmailSenderOutbox emailSenderOutbox;
+
+    @Autowired
+    private ServiciosEmail serviciosEmail;
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Autowired
+    private ExcusaService excusaService;
+
+    @Autowired
+    private EmpleadoService empleadoService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private NotificacionesFallidasService notificacionesFallidasService;
+
+    @MockBean(name = "transporteEmail")
+    private IEmailSender transporte;
+
+    @Test
+    public void testProcesarExcusaEncolaEmailEnLaMismaTransaccion() {
+
+        assertSame(emailSenderOutbox, serviciosEmail.getEmailSender());
+        Empleado empleado = empleadoService.crearEmpleado("Outbox Test", "outbox.test@test.com");
+        Excusa excusa = excusaService.crearExcusa(empleado.getLegajo(), "TRIVIAL", "Excusa trivial para el outbox");
+        long pendientes = emailOutboxRepository.countByEstado(EstadoEmail.PENDIENTE);
+
+        // Si la transacción se revierte, el email tampoco queda encolado
+        TransactionTemplate transaccion = new TransactionTemplate(transactionManager);
+        transaccion.executeWithoutResult(status -> {
+            excusaService.procesarExcusaPorId(excusa.getId());
+            status.setRollbackOnly();
+        });
+        assertEquals(pendientes, emailOutboxRepository.countByEstado(EstadoEmail.PENDIENTE));
+
+        excusaService.procesarExcusaPorId(excusa.getId());
+        assertEquals(pendientes + 1, emailOutboxRepository.countByEstado(EstadoEmail.PENDIENTE));
+        assertTrue(emailOutboxRepository.findAll().stream()
+                .anyMatch(email -> email.getDestino().equals("outbox.test@test.com")
+                        && email.getEstado() == EstadoEmail.PENDIENTE));
+    }
+
+    @Test
+    public void testDespachoEnviaEnLotesYReintentaFallos() {
+
+        List<String> enviados = new CopyOnWriteArrayList<>();
+        AtomicInteger fallosRestantes = new AtomicInteger(2);
+        responderCon(servidorDePrueba(enviados, fallosRestantes));
+
+        emailSenderOutbox.enviarEmail("reintento@test.com", "sistema@excusas.com", "Asunto", "Cuerpo");
+        emailSenderOutbox.enviarEmail("directo@test.com", "sistema@excusas.com", "Asunto", "Cuerpo");
+
+        despacharHastaVaciar();
+
+        assertEquals(0, despachadorEmailsService.contarPorEstado(EstadoEmail.PENDIENTE));
+        assertEquals(1, enviados.stream().filter("reintento@test.com"::equals).count());
+        assertEquals(1, enviados.stream().filter("directo@test.com"::equals).count());
+
+        EmailOutboxEntity reintentado = buscarPorDestino("reintento@test.com");
+        assertEquals(EstadoEmail.ENVIADO, reintentado.getEstado());
+        assertEquals(3, reintentado.getIntentos());
+        assertNotNull(reintentado.getFechaEnvio());
+    }
+
+    @Test
+    public void testEmailQueAgotaIntentosQuedaFallido() {
+
+        List<String> enviados = new CopyOnWriteArrayList<>();
+        responderCon(servidorDePrueba(enviados, new AtomicInteger(Integer.MAX_VALUE)));
+
+        emailSenderOutbox.enviarEmail("reintento@test.com", "sistema@excusas.com", "Asunto", "Cuerpo");
+
+        despacharHastaVaciar();
+
+        EmailOutboxEntity fallido = buscarPorDestino("reintento@test.com");
+        assertEquals(EstadoEmail.FALLIDO, fallido.getEstado());
+        assertEquals(3, fallido.getIntentos());
+        assertEquals("Servidor de correo no disponible", fallido.getUltimoError());
+
+        // Agotados los intentos queda entre las notificaciones fallidas para reenviarlo a mano
+        assertTrue(notificacionesFallidasService.obtenerPendientes(TipoNotificacion.EMAIL, 10).stream()
+                .anyMatch(notificacion -> notificacion.getDestino().equals("reintento@test.com")
+                        && notificacion.getIntentos() == 3));
+    }
+
+    @Test
+    public void testEsperaExponencialAcotada() {
+
+        DespachadorEmailsService despachador = new DespachadorEmailsService();
+        ReflectionTestUtils.setField(despachador, "backoffInicialMs", 1000L);
+        ReflectionTestUtils.setField(despachador, "backoffMaximoMs", 10_000L);
+
+        assertEquals(1000L, despachador.calcularEspera(1));
+        assertEquals(2000L, despachador.calcularEspera(2));
+        assertEquals(8000L, despachador.calcularEspera(4));
+        assertEquals(10_000L, despachador.calcularEspera(5));
+        assertEquals(10_000L, despachador.calcularEspera(60));
+    }
+
+    // Servidor de correo local de prueba: rechaza a "reintento@test.com" mientras queden fallos
+    private IEmailSender servidorDePrueba(List<String> enviados, AtomicInteger fallosRestantes) {
+        return (destino, origen, asunto, cuerpo) -> {
+            if (destino.equals("reintento@test.com") && fallosRestantes.getAndDecrement() > 0) {
+                throw new IllegalStateException("Servidor de correo no disponible");
+            }
+            enviados.add(destino);
+        };
+    }
+
+    private void responderCon(IEmailSender servidor) {
+        doAnswer(invocacion -> {
+            servidor.enviarEmail(invocacion.getArgument(0), invocacion.getArgument(1),
+                    invocacion.getArgument(2), invocacion.getArgument(3));
+            return null;
+        }).when(transporte).enviarEmail(anyString(), anyString(), anyString(), anyString());
+    }
+
+    private void despacharHastaVaciar() {
+        int despachados;
+        do {
+            despachados = despachadorEmailsService.despacharPendientes();
+        } while (despachados > 0);
+    }
+
+    private EmailOutboxEntity buscarPorDestino(String destino) {
+        return emailOutboxRepository.findAll().stream()
+                .filter(email -> email.getDestino().equals(destino))
+                .findFirst()
+                .orElseThrow();
+    }
+}
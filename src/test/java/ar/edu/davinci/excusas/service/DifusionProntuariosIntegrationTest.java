@@ -0,0 +1,83 @@
+package ar.edu.davinci.excusas.service;
+
+import ar.edu.davinci.excusas.model.email.EmailSenderMemoria;
+import ar.edu.davinci.excusas.model.email.RegistroDifusionesProntuarios;
+import ar.edu.davinci.excusas.model.email.ServiciosEmail;
+import ar.edu.davinci.excusas.model.empleados.Empleado;
+import ar.edu.davinci.excusas.model.empleados.encargados.CEO;
+import ar.edu.davinci.excusas.model.excusas.Excusa;
+import ar.edu.davinci.excusas.model.prontuarios.AdministradorProntuariosJPA;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:difusion-prontuarios",
+        "app.email.transporte=memoria",
+        "app.email.outbox.habilitado=false"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class DifusionProntuariosIntegrationTest {
+
+    @Autowired
+    private ProntuarioService prontuarioService;
+
+    @Autowired
+    private EmpleadoService empleadoService;
+
+    @Autowired
+    private ExcusaService excusaService;
+
+    @Autowired
+    private AdministradorProntuariosJPA administradorProntuarios;
+
+    @Autowired
+    private RegistroDifusionesProntuarios difusionesProntuarios;
+
+    @Autowired
+    private ServiciosEmail serviciosEmail;
+
+    @Autowired
+    private EmailSenderMemoria transporteMemoria;
+
+    @Test
+    public void testAvisoATodosLosCEOsSaleUnaVezPorProntuario() {
+
+        Empleado empleado = empleadoService.crearEmpleado("Difusion Test", "difusion@test.com");
+        Excusa primera = excusaService.crearExcusa(empleado.getLegajo(), "INVEROSIMIL", "Me abdujeron");
+        Excusa segunda = excusaService.crearExcusa(empleado.getLegajo(), "INVEROSIMIL", "Me abdujeron otra vez");
+
+        // Además del CEO de la cadena observan otros tres
+        List<CEO> otrosCEOs = List.of(
+                new CEO("Ana CEO", "ana.ceo@excusas.com", 2101, administradorProntuarios, serviciosEmail),
+                new CEO("Beto CEO", "beto.ceo@excusas.com", 2102, administradorProntuarios, serviciosEmail),
+                new CEO("Carla CEO", "carla.ceo@excusas.com", 2103, administradorProntuarios, serviciosEmail));
+        // El administrador JPA usa el registro del contexto, no el del administrador en memoria
+        assertSame(difusionesProntuarios, administradorProntuarios.getDifusiones());
+        long suprimidasIniciales = difusionesProntuarios.getSuprimidas();
+
+        transporteMemoria.limpiar();
+        try {
+            excusaService.procesarExcusaPorId(primera.getId());
+            excusaService.procesarExcusaPorId(segunda.getId());
+        } finally {
+            otrosCEOs.forEach(administradorProntuarios::eliminarObservador);
+        }
+        List<String> avisos = transporteMemoria.getEnviados().stream()
+                .filter(email -> email.destino().equals("todos-ceos@excusas.com"))
+                .map(EmailSenderMemoria.EmailEnviado::cuerpo)
+                .toList();
+
+        assertEquals(2, avisos.size());
+        assertTrue(avisos.get(0).contains("Difusion Test"));
+        assertTrue(avisos.get(1).contains("Difusion Test"));
+        assertEquals(suprimidasIniciales + 6, difusionesProntuarios.getSuprimidas());
+        assertTrue(prontuarioService.obtenerTodosLosProntuarios().stream()
+                .allMatch(prontuario -> prontuario.getId() != null));
+    }
+}
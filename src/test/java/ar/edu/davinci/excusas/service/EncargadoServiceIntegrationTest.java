@@ -0,0 +1,121 @@
+package ar.edu.davinci.excusas.service;
+
+import ar.edu.davinci.excusas.exception.DuplicateEntityException;
+import ar.edu.davinci.excusas.model.empleados.encargados.modos.ModoNormal;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class EncargadoServiceIntegrationTest {
+
+    @Autowired
+    private EncargadoService encargadoService;
+
+    @Test
+    public void testCambiarModoPublicaNuevaInstantanea() {
+
+        EncargadoService.InstantaneaEncargados anterior = encargadoService.obtenerInstantanea();
+
+        encargadoService.cambiarModo("gerente", "VAGO");
+        EncargadoService.InstantaneaEncargados nueva = encargadoService.obtenerInstantanea();
+
+        assertEquals(anterior.getVersion() + 1, nueva.getVersion());
+        assertInstanceOf(ModoNormal.class, anterior.getEncargados().get("gerente").modo());
+        assertEquals("ModoVago", encargadoService.obtenerEncargado("gerente").getModoActual());
+        assertSame(anterior.getEncargados().get("gerente").encargado(), nueva.getEncargados().get("gerente").encargado());
+        assertThrows(UnsupportedOperationException.class, () -> nueva.getEncargados().remove("gerente"));
+    }
+
+    @Test
+    public void testCrearEncargadoDuplicadoNoCambiaLaVersion() {
+
+        encargadoService.crearEncargadoDinamico("auditor", "Auditor Test", "auditor@excusas.com", List.of("COMPLEJO"));
+        long version = encargadoService.getVersion();
+
+        assertThrows(DuplicateEntityException.class, () ->
+                encargadoService.crearEncargadoDinamico("AUDITOR", "Otro Auditor", "otro@excusas.com", List.of("TRIVIAL")));
+        assertEquals(version, encargadoService.getVersion());
+    }
+
+    @Test
+    public void testEscriturasConcurrentesSerializadasYLecturasSinErrores() throws Exception {
+
+        int escritores = 4;
+        int cambiosPorEscritor = 250;
+        int creacionesPorEscritor = 5;
+        long versionInicial = encargadoService.getVersion();
+        String[] tipos = {"recepcionista", "supervisor", "gerente", "ceo"};
+        String[] modos = {"NORMAL", "PRODUCTIVO", "VAGO"};
+
+        ExecutorService executor = Executors.newFixedThreadPool(escritores + 2);
+        AtomicBoolean escribiendo = new AtomicBoolean(true);
+        List<Future<?>> tareas = new ArrayList<>();
+
+        for (int lector = 0; lector < 2; lector++) {
+            tareas.add(executor.submit(() -> {
+                long ultimaVersion = -1;
+                while (escribiendo.get()) {
+                    EncargadoService.InstantaneaEncargados instantanea = encargadoService.obtenerInstantanea();
+                    assertTrue(instantanea.getVersion() >= ultimaVersion, "La versión no puede retroceder");
+                    ultimaVersion = instantanea.getVersion();
+                    // Recorrer la instantánea nunca debe fallar aunque haya escrituras en curso
+                    assertEquals(instantanea.getConfiguracionCadena().size(), instantanea.getModosCadena().size());
+                    encargadoService.obtenerTodosLosEncargados();
+                    encargadoService.obtenerEncargadosPorCapacidad("TRIVIAL");
+                }
+                return null;
+            }));
+        }
+
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Future<?>> escrituras = new ArrayList<>();
+        for (int escritor = 0; escritor < escritores; escritor++) {
+            int id = escritor;
+            escrituras.add(executor.submit(() -> {
+                largada.await();
+                for (int i = 0; i < cambiosPorEscritor; i++) {
+                    encargadoService.cambiarModo(tipos[(id + i) % tipos.length], modos[i % modos.length]);
+                }
+                for (int i = 0; i < creacionesPorEscritor; i++) {
+                    encargadoService.crearEncargadoDinamico("dinamico-" + id + "-" + i, "Dinamico " + id,
+                            "dinamico" + id + "." + i + "@excusas.com", List.of("TRIVIAL"));
+                }
+                return null;
+            }));
+        }
+        largada.countDown();
+        for (Future<?> escritura : escrituras) {
+            escritura.get(30, TimeUnit.SECONDS);
+        }
+        escribiendo.set(false);
+        for (Future<?> tarea : tareas) {
+            try {
+                tarea.get(30, TimeUnit.SECONDS);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof ConcurrentModificationException) {
+                    fail("Lectura concurrente con una escritura: " + e.getCause());
+                }
+                throw e;
+            }
+        }
+        executor.shutdown();
+
+        // Ninguna escritura se pierde: cada una publicó exactamente una versión nueva
+        int escriturasTotales = escritores * (cambiosPorEscritor + creacionesPorEscritor);
+        assertEquals(versionInicial + escriturasTotales, encargadoService.getVersion());
+        assertEquals(4 + escritores * creacionesPorEscritor, encargadoService.obtenerTodosLosEncargados().size());
+        assertEquals(1 + escritores * creacionesPorEscritor,
+                encargadoService.obtenerEncargadosPorCapacidad("TRIVIAL").size());
+    }
+}
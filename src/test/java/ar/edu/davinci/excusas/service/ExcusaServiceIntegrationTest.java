@@ -5,13 +5,16 @@ import ar.edu.davinci.excusas.exception.ExcusaNotFoundException;
 import ar.edu.davinci.excusas.exception.InvalidDataException;
 import ar.edu.davinci.excusas.model.empleados.Empleado;
 import ar.edu.davinci.excusas.model.excusas.Excusa;
+import ar.edu.davinci.excusas.repository.ExcusaRepository;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -25,6 +28,15 @@ public class ExcusaServiceIntegrationTest {
     @Autowired
     private EmpleadoService empleadoService;
 
+    @Autowired
+    private EncargadoService encargadoService;
+
+    @Autowired
+    private ExcusaRepository excusaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     @Transactional
     public void testCrearExcusa_Success() {
@@ -296,6 +308,157 @@ public class ExcusaServiceIntegrationTest {
         });
     }
 
+    @Test
+    @Transactional
+    public void testProcesarExcusaPorId_Success() {
+
+        String nombreUnico = "Procesar Id Test " + System.currentTimeMillis();
+        Empleado empleado = empleadoService.crearEmpleado(nombreUnico, "procesarid.test@test.com");
+        Excusa creada = excusaService.crearExcusa(empleado.getLegajo(), "COMPLEJO", "Excusa compleja para procesar por id");
+
+        Excusa procesada = excusaService.procesarExcusaPorId(creada.getId());
+
+        assertEquals(creada.getId(), procesada.getId());
+        assertEquals(nombreUnico, procesada.getNombreEmpleado());
+    }
+
+    @Test
+    @Transactional
+    public void testProcesarExcusaPorId_RegistraVersionDeEncargados() {
+
+        Empleado empleado = empleadoService.crearEmpleado("Version Test", "version.test@test.com");
+        Excusa creada = excusaService.crearExcusa(empleado.getLegajo(), "TRIVIAL", "Excusa trivial para versionar");
+        assertNull(creada.getVersionEncargados());
+
+        encargadoService.cambiarModo("recepcionista", "PRODUCTIVO");
+        long version = encargadoService.getVersion();
+
+        Excusa procesada = excusaService.procesarExcusaPorId(creada.getId());
+
+        assertEquals(version, procesada.getVersionEncargados());
+    }
+
+    @Test
+    @Transactional
+    public void testProcesarExcusaPorId_NoExiste() {
+
+        assertThrows(ExcusaNotFoundException.class, () -> {
+            excusaService.procesarExcusaPorId(999_999L);
+        });
+    }
+
+    @Test
+    @Transactional
+    public void testObtenerIdExcusaPorIndice_CoincideConListado() {
+
+        List<Excusa> excusas = excusaService.obtenerTodasLasExcusas();
+
+        for (int i = 0; i < excusas.size(); i++) {
+            assertEquals(excusas.get(i).getId(), excusaService.obtenerIdExcusaPorIndice(i));
+        }
+    }
+
+    @Test
+    public void testProcesarExcusasPendientes_EnVariosLotes() {
+
+        String nombreUnico = "Lote Test " + System.currentTimeMillis();
+        Empleado empleado = empleadoService.crearEmpleado(nombreUnico, "lote.test@test.com");
+        excusaService.crearExcusa(empleado.getLegajo(), "TRIVIAL", "Excusa trivial para el lote nocturno");
+        excusaService.crearExcusa(empleado.getLegajo(), "COMPLEJO", "Excusa compleja para el lote nocturno");
+
+        int pendientes = excusaService.obtenerExcusasRechazadas().size();
+
+
+        ExcusaService.ResultadoProcesamientoMasivo resultado = excusaService.procesarExcusasPendientes(3);
+
+
+        assertEquals(pendientes, resultado.getProcesadas());
+        assertEquals(0, resultado.getConError());
+        assertEquals(resultado.getProcesadas(), resultado.getAceptadas() + resultado.getRechazadas());
+        assertEquals((pendientes + 2) / 3, resultado.getLotes());
+        assertTrue(resultado.getPorEncargado().get("Recepcionista") >= 1);
+        assertTrue(resultado.getPorEncargado().get("GerenteRecursosHumanos") >= 1);
+        assertThrows(ExcusaNotFoundException.class, () -> excusaService.obtenerExcusasRechazadas());
+        assertEquals(Set.of(encargadoService.getVersion()), resultado.getVersionesEncargados());
+    }
+
+    @Test
+    public void testProcesarExcusasPendientes_ErrorDeBaseDeDatosSoloDeshaceEsaExcusa() {
+
+        Empleado falla = empleadoService.crearEmpleado("Savepoint Falla", "savepoint.falla@test.com");
+        Empleado sigue = empleadoService.crearEmpleado("Savepoint Sigue", "savepoint.sigue@test.com");
+        Excusa excusaFalla = excusaService.crearExcusa(falla.getLegajo(), "INVEROSIMIL", "Me abdujeron");
+        Excusa excusaSigue = excusaService.crearExcusa(sigue.getLegajo(), "INVEROSIMIL", "Me abdujeron a mí también");
+        // El CEO encola su respuesta y recién después guarda el prontuario, que la base rechaza
+        jdbcTemplate.execute("ALTER TABLE prontuarios ADD CONSTRAINT chk_savepoint CHECK (legajo <> "
+                + falla.getLegajo() + ")");
+        try {
+            int pendientes = excusaService.obtenerExcusasRechazadas().size();
+
+            ExcusaService.ResultadoProcesamientoMasivo resultado = excusaService.procesarExcusasPendientes(50);
+            assertEquals(pendientes - 1, resultado.getProcesadas());
+            assertEquals(List.of(excusaFalla.getId()), resultado.getIdsConError());
+
+            ExcusaService.ResultadoProcesamientoMasivo enParalelo = excusaService.procesarExcusasPendientesEnParalelo(50, 2);
+            assertEquals(0, enParalelo.getProcesadas());
+            assertEquals(List.of(excusaFalla.getId()), enParalelo.getIdsConError());
+        } finally {
+            jdbcTemplate.execute("ALTER TABLE prontuarios DROP CONSTRAINT chk_savepoint");
+        }
+
+        assertFalse(excusaRepository.findById(excusaFalla.getId()).orElseThrow().getProcesada());
+        assertTrue(excusaRepository.findById(excusaSigue.getId()).orElseThrow().getProcesada());
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM email_outbox WHERE destino = 'savepoint.falla@test.com'", Integer.class));
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM email_outbox WHERE destino = 'savepoint.sigue@test.com'", Integer.class));
+    }
+
+    @Test
+    public void testProcesarExcusasPendientesEnParalelo() {
+
+        for (int i = 0; i < 4; i++) {
+            Empleado empleado = empleadoService.crearEmpleado("Paralelo Test " + i, "paralelo" + i + "@test.com");
+            excusaService.crearExcusa(empleado.getLegajo(), "TRIVIAL", "Primera excusa del empleado en paralelo");
+            excusaService.crearExcusa(empleado.getLegajo(), "PROBLEMA_ELECTRICO", "Segunda excusa del empleado en paralelo");
+        }
+
+        int pendientes = excusaService.obtenerExcusasRechazadas().size();
+
+
+        ExcusaService.ResultadoProcesamientoMasivo resultado = excusaService.procesarExcusasPendientesEnParalelo(5, 4);
+
+
+        assertEquals(pendientes, resultado.getProcesadas());
+        assertEquals(0, resultado.getConError());
+        assertEquals((pendientes + 4) / 5, resultado.getLotes());
+        assertThrows(ExcusaNotFoundException.class, () -> excusaService.obtenerExcusasRechazadas());
+    }
+
+    @Test
+    public void testProcesarExcusasPendientesEnParalelo_ParalelismoInvalido() {
+
+        assertThrows(InvalidDataException.class, () -> excusaService.procesarExcusasPendientesEnParalelo(null, 0));
+    }
+
+    @Test
+    public void testProcesarExcusasPendientes_SinPendientes() {
+
+        excusaService.procesarExcusasPendientes(null);
+
+        ExcusaService.ResultadoProcesamientoMasivo resultado = excusaService.procesarExcusasPendientes(null);
+
+        assertEquals(0, resultado.getProcesadas());
+        assertEquals(0, resultado.getLotes());
+    }
+
+    @Test
+    public void testProcesarExcusasPendientes_TamanioLoteInvalido() {
+
+        assertThrows(InvalidDataException.class, () -> excusaService.procesarExcusasPendientes(0));
+        assertThrows(InvalidDataException.class, () -> excusaService.procesarExcusasPendientes(10_000));
+    }
+
     @Test
     @Transactional
     public void testObtenerExcusasRechazadas() {
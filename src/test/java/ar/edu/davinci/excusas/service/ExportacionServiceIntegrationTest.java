@@ -0,0 +1,182 @@
+package ar.edu.davinci.excusas.service;
+
+import ar.edu.davinci.excusas.entity.EmpleadoEntity;
+import ar.edu.davinci.excusas.entity.ExcusaEntity;
+import ar.edu.davinci.excusas.entity.ProntuarioEntity;
+import ar.edu.davinci.excusas.repository.EmpleadoRepository;
+import ar.edu.davinci.excusas.repository.ExcusaRepository;
+import ar.edu.davinci.excusas.repository.ProntuarioRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Base de H2 en archivo bajo target/: así el millón de filas no ocupa el heap que se mide. Se descarta al
+// terminar cada prueba
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:file:./target/h2/exportacion",
+        "app.data-initializer.enabled=false",
+        "app.email.outbox.habilitado=false"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class ExportacionServiceIntegrationTest {
+
+    private static final int FILAS = 1_000_000;
+    private static final int FILAS_PRUEBA_CORTA = 1_000;
+    private static final long CRECIMIENTO_MAXIMO = 32L * 1024 * 1024;
+
+    @Autowired
+    private ExportacionService exportacionService;
+
+    @Autowired
+    private EmpleadoRepository empleadoRepository;
+
+    @Autowired
+    private ExcusaRepository excusaRepository;
+
+    @Autowired
+    private ProntuarioRepository prontuarioRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    public void testExportaExcusasEnLineasJson() throws Exception {
+
+        insertarExcusas(FILAS_PRUEBA_CORTA);
+
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+        assertEquals(FILAS_PRUEBA_CORTA, exportacionService.exportarExcusas(salida, false));
+
+        List<String> lineas = salida.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(FILAS_PRUEBA_CORTA, lineas.size());
+        verificarPrimeraLinea(objectMapper.readTree(lineas.get(0)));
+        assertEquals("Excusa sintética número " + FILAS_PRUEBA_CORTA,
+                leer(lineas.get(FILAS_PRUEBA_CORTA - 1)).get("descripcion").asText());
+    }
+
+    // Corre solo con -Pvolumen: tarda minutos y fuerza System.gc() para medir la memoria retenida
+    @Test
+    @Tag("volumen")
+    public void testExportaUnMillonDeExcusasSinRetenerlasEnMemoria() throws Exception {
+
+        insertarExcusas(FILAS);
+
+        SalidaMedida salida = new SalidaMedida(100_000, FILAS - 100_000);
+        long lineas = exportacionService.exportarExcusas(salida, false);
+
+        assertEquals(FILAS, lineas);
+        assertEquals(FILAS, salida.lineas);
+        // Entre la línea 100.000 y la 900.000 la memoria retenida no crece: las filas ya escritas no quedan en ningún lado
+        long crecimiento = salida.memoriaFinal - salida.memoriaInicial;
+        assertTrue(crecimiento < CRECIMIENTO_MAXIMO, "La memoria retenida creció " + crecimiento + " bytes");
+
+        verificarPrimeraLinea(objectMapper.readTree(salida.primeraLinea.toByteArray()));
+    }
+
+    @Test
+    public void testExportaProntuariosComprimidos() throws Exception {
+
+        EmpleadoEntity empleado = empleadoRepository.save(new EmpleadoEntity("Gzip Test", "gzip@test.com", 7002));
+        for (int i = 1; i <= 3; i++) {
+            ExcusaEntity excusa = excusaRepository.save(new ExcusaEntity(empleado, "Me abdujeron, vez " + i, "INVEROSIMIL"));
+            prontuarioRepository.save(new ProntuarioEntity(empleado, excusa, empleado.getLegajo()));
+        }
+
+        ByteArrayOutputStream comprimido = new ByteArrayOutputStream();
+        assertEquals(3, exportacionService.exportarProntuarios(comprimido, true));
+
+        try (BufferedReader lector = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(new ByteArrayInputStream(comprimido.toByteArray())), StandardCharsets.UTF_8))) {
+            List<JsonNode> lineas = lector.lines().map(this::leer).toList();
+            assertEquals(3, lineas.size());
+            assertEquals("Me abdujeron, vez 1", lineas.get(0).get("descripcionExcusa").asText());
+            assertEquals(7002, lineas.get(2).get("legajo").asInt());
+            assertTrue(lineas.get(0).get("id").asLong() < lineas.get(1).get("id").asLong());
+        }
+    }
+
+    private void insertarExcusas(int filas) {
+        EmpleadoEntity empleado = empleadoRepository.save(new EmpleadoEntity("Export Test", "export@test.com", 7001));
+        jdbcTemplate.update("INSERT INTO excusas (empleado_id, descripcion, tipo_motivo, fecha_creacion, procesada) "
+                + "SELECT ?, CONCAT('Excusa sintética número ', X), 'T', LOCALTIMESTAMP, FALSE "
+                + "FROM SYSTEM_RANGE(1, ?)", empleado.getId(), filas);
+    }
+
+    private void verificarPrimeraLinea(JsonNode primera) {
+        assertEquals(7001, primera.get("legajo").asInt());
+        assertEquals("Export Test", primera.get("nombreEmpleado").asText());
+        assertEquals("Excusa sintética número 1", primera.get("descripcion").asText());
+        assertEquals("TRIVIAL", primera.get("tipoMotivo").asText());
+    }
+
+    private JsonNode leer(String linea) {
+        try {
+            return objectMapper.readTree(linea);
+        } catch (Exception e) {
+            throw new AssertionError("Línea que no es JSON: " + linea, e);
+        }
+    }
+
+    private static long memoriaUsada() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    // Descarta lo escrito salvo la primera línea, y mide la memoria retenida al llegar a dos líneas dadas
+    private static class SalidaMedida extends OutputStream {
+        private final long lineaInicial;
+        private final long lineaFinal;
+        private final ByteArrayOutputStream primeraLinea = new ByteArrayOutputStream();
+        private long lineas;
+        private long memoriaInicial;
+        private long memoriaFinal;
+
+        SalidaMedida(long lineaInicial, long lineaFinal) {
+            this.lineaInicial = lineaInicial;
+            this.lineaFinal = lineaFinal;
+        }
+
+        @Override
+        public void write(int b) {
+            if (lineas == 0 && b != '\n') {
+                primeraLinea.write(b);
+            }
+            if (b != '\n') {
+                return;
+            }
+            lineas++;
+            if (lineas == lineaInicial) {
+                memoriaInicial = memoriaUsada();
+            } else if (lineas == lineaFinal) {
+                memoriaFinal = memoriaUsada();
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            for (int i = off; i < off + len; i++) {
+                write(b[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package ar.edu.davinci.excusas.service;
+
+import ar.edu.davinci.excusas.model.empleados.Empleado;
+import ar.edu.davinci.excusas.model.excusas.Excusa;
+import ar.edu.davinci.excusas.model.prontuarios.AdministradorProntuariosJPA;
+import ar.edu.davinci.excusas.model.prontuarios.DespachoAsincronico;
+import ar.edu.davinci.excusas.model.prontuarios.MonitorNotificacionesSinRegistro;
+import ar.edu.davinci.excusas.model.prontuarios.ObservableBase;
+import ar.edu.davinci.excusas.model.prontuarios.PoliticaDesborde;
+import ar.edu.davinci.excusas.model.prontuarios.Prontuario;
+import ar.edu.davinci.excusas.model.prontuarios.interfaces.IObserver;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "app.prontuarios.notificacion.asincronica=true")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class NotificacionObservadoresIntegrationTest {
+
+    @Autowired
+    private AdministradorProntuariosJPA administradorProntuarios;
+
+    @Autowired
+    private ExcusaService excusaService;
+
+    @Autowired
+    private EmpleadoService empleadoService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    public void testObservadorLentoRecibeLosProntuariosEnOrdenFueraDelHiloQueEscribe() throws Exception {
+
+        Empleado empleado = empleadoService.crearEmpleado("Observado Test", "observado@test.com");
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(excusaService.crearExcusa(empleado.getLegajo(), "INVEROSIMIL", "Excusa observada " + i).getId());
+        }
+
+        List<Long> recibidos = new CopyOnWriteArrayList<>();
+        List<String> hilos = new CopyOnWriteArrayList<>();
+        CountDownLatch liberar = new CountDownLatch(1);
+        CountDownLatch todos = new CountDownLatch(ids.size());
+        IObserver lento = prontuario -> {
+            try {
+                liberar.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            recibidos.add(prontuario.getId());
+            hilos.add(Thread.currentThread().getName());
+            todos.countDown();
+        };
+        administradorProntuarios.agregarObservador(lento);
+
+        for (Long id : ids) {
+            excusaService.procesarExcusaPorId(id);
+        }
+
+        // Las escrituras terminaron aunque el observador sigue trabado en el primer prontuario
+        assertTrue(recibidos.isEmpty());
+        liberar.countDown();
+        assertTrue(todos.await(10, TimeUnit.SECONDS));
+        administradorProntuarios.eliminarObservador(lento);
+
+        assertEquals(recibidos.stream().sorted().toList(), recibidos);
+        assertTrue(hilos.stream().allMatch(hilo -> hilo.startsWith("notificacion-observadores-")));
+        assertTrue(meterRegistry.get("excusas.observadores.demora").timer().count() >= ids.size());
+    }
+
+    @Test
+    public void testDescartarAntiguaConservaLasMasRecientes() throws Exception {
+
+        List<Integer> recibidos = desbordar(PoliticaDesborde.DESCARTAR_ANTIGUA);
+
+        // La primera ya estaba en proceso; de las cuatro restantes entran las dos últimas
+        assertEquals(List.of(1, 4, 5), recibidos);
+    }
+
+    @Test
+    public void testBloquearEsperaHastaQueHayaLugar() throws Exception {
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        DespachoAsincronico despacho = new DespachoAsincronico(1, 2, PoliticaDesborde.BLOQUEAR, registry);
+        CountDownLatch enProceso = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        List<Integer> recibidos = new CopyOnWriteArrayList<>();
+        IObserver trabado = observadorTrabado(enProceso, liberar, recibidos);
+        MonitorNotificacionesSinRegistro monitor = new MonitorNotificacionesSinRegistro();
+
+        Empleado empleado = new Empleado("Bloqueo Test", "bloqueo@test.com", 9401);
+        despacho.despachar(trabado, new Prontuario(1L, empleado, null, 1), monitor);
+        assertTrue(enProceso.await(10, TimeUnit.SECONDS));
+        Thread productor = new Thread(() -> {
+            for (int i = 2; i <= 5; i++) {
+                despacho.despachar(trabado, new Prontuario((long) i, empleado, null, i), monitor);
+            }
+        });
+        productor.start();
+
+        // 2 y 3 en la cola: la 4 espera a que el observador avance
+        productor.join(500);
+        assertTrue(productor.isAlive());
+        assertEquals(2, despacho.getProfundidad(trabado));
+
+        liberar.countDown();
+        productor.join(10_000);
+        assertFalse(productor.isAlive());
+        despacho.cerrar();
+        assertEquals(List.of(1, 2, 3, 4, 5), recibidos);
+    }
+
+    @Test
+    public void testRegistroYNotificacionConcurrentes() throws Exception {
+
+        ObservablePrueba observable = new ObservablePrueba(false);
+        List<ObservadorContador> permanentes = List.of(
+                new ObservadorContador(), new ObservadorContador(), new ObservadorContador(), new ObservadorContador());
+        permanentes.forEach(observable::agregarObservador);
+
+        Prontuario prontuario = new Prontuario(1L, new Empleado("Stress Test", "stress@test.com", 9500), null, 9500);
+        List<Throwable> errores = new CopyOnWriteArrayList<>();
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Thread> hilos = new ArrayList<>();
+        for (int h = 0; h < 4; h++) {
+            hilos.add(new Thread(() -> repetir(largada, errores, 20_000, () -> observable.notificarObservadores(prontuario))));
+            hilos.add(new Thread(() -> repetir(largada, errores, 5_000, () -> {
+                ObservadorContador transitorio = new ObservadorContador();
+                observable.agregarObservador(transitorio);
+                observable.eliminarObservador(transitorio);
+            })));
+        }
+        hilos.forEach(Thread::start);
+        largada.countDown();
+        for (Thread hilo : hilos) {
+            hilo.join(60_000);
+        }
+
+        assertTrue(errores.isEmpty(), () -> "Errores: " + errores);
+        assertEquals(4, observable.cantidadObservadores());
+        for (ObservadorContador permanente : permanentes) {
+            assertEquals(80_000, permanente.recibidos.get());
+        }
+    }
+
+    @Test
+    public void testObservadoresDebilesSeRecolectan() throws Exception {
+
+        ObservablePrueba observable = new ObservablePrueba(true);
+        ObservadorContador permanente = new ObservadorContador();
+        observable.agregarObservador(permanente);
+        for (int i = 0; i < 100; i++) {
+            observable.agregarObservador(new ObservadorContador());
+        }
+
+        Prontuario prontuario = new Prontuario(1L, new Empleado("Debil Test", "debil@test.com", 9501), null, 9501);
+        for (int intento = 0; intento < 50 && observable.cantidadObservadores() > 1; intento++) {
+            System.gc();
+            Thread.sleep(20);
+            observable.notificarObservadores(prontuario);
+        }
+
+        assertEquals(1, observable.cantidadObservadores());
+        assertTrue(permanente.recibidos.get() > 0);
+    }
+
+    private void repetir(CountDownLatch largada, List<Throwable> errores, int veces, Runnable accion) {
+        try {
+            largada.await();
+            for (int i = 0; i < veces; i++) {
+                accion.run();
+            }
+        } catch (Throwable e) {
+            errores.add(e);
+        }
+    }
+
+    private static class ObservablePrueba extends ObservableBase {
+        ObservablePrueba(boolean referenciasDebiles) {
+            setReferenciasDebiles(referenciasDebiles);
+        }
+    }
+
+    private static class ObservadorContador implements IObserver {
+        private final AtomicInteger recibidos = new AtomicInteger();
+
+        @Override
+        public void actualizar(Prontuario prontuario) {
+            recibidos.incrementAndGet();
+        }
+    }
+
+    // Cinco prontuarios a un observador trabado en el primero, con lugar para dos en la cola
+    private List<Integer> desbordar(PoliticaDesborde politica) throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        DespachoAsincronico despacho = new DespachoAsincronico(1, 2, politica, registry);
+        CountDownLatch enProceso = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        List<Integer> recibidos = new CopyOnWriteArrayList<>();
+        MonitorNotificacionesSinRegistro monitor = new MonitorNotificacionesSinRegistro();
+        IObserver trabado = observadorTrabado(enProceso, liberar, recibidos);
+
+        Empleado empleado = new Empleado("Desborde Test", "desborde@test.com", 9400);
+        despacho.despachar(trabado, new Prontuario(1L, empleado, null, 1), monitor);
+        assertTrue(enProceso.await(10, TimeUnit.SECONDS));
+        for (int i = 2; i <= 5; i++) {
+            despacho.despachar(trabado, new Prontuario((long) i, empleado, null, i), monitor);
+        }
+        assertEquals(2, despacho.getProfundidad(trabado));
+
+        liberar.countDown();
+        despacho.cerrar();
+        assertEquals(0, despacho.getProfundidad());
+        return recibidos;
+    }
+
+    private IObserver observadorTrabado(CountDownLatch enProceso, CountDownLatch liberar, List<Integer> recibidos) {
+        return prontuario -> {
+            enProceso.countDown();
+            try {
+                liberar.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            recibidos.add(prontuario.getLegajo());
+        };
+    }
+}
@@ -0,0 +1,194 @@
+package ar.edu.davinci.excusas.service;
+
+import ar.edu.davinci.excusas.entity.NotificacionFallidaEntity;
+import ar.edu.davinci.excusas.entity.NotificacionFallidaEntity.EstadoNotificacion;
+import ar.edu.davinci.excusas.entity.NotificacionFallidaEntity.TipoNotificacion;
+import ar.edu.davinci.excusas.exception.BusinessRuleException;
+import ar.edu.davinci.excusas.model.email.interfaces.IEmailSender;
+import ar.edu.davinci.excusas.model.empleados.Empleado;
+import ar.edu.davinci.excusas.model.excusas.Excusa;
+import ar.edu.davinci.excusas.model.prontuarios.AdministradorProntuariosJPA;
+import ar.edu.davinci.excusas.model.prontuarios.Prontuario;
+import ar.edu.davinci.excusas.model.prontuarios.interfaces.IObserver;
+import ar.edu.davinci.excusas.repository.ExcusaRepository;
+import ar.edu.davinci.excusas.repository.NotificacionFallidaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+
+// Sin outbox: los emails salen en el hilo del procesamiento y un destinatario que falla se nota en el momento
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:notificaciones-fallidas",
+        "app.email.outbox.habilitado=false"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class NotificacionesFallidasServiceIntegrationTest {
+
+    @Autowired
+    private NotificacionesFallidasService notificacionesFallidasService;
+
+    @Autowired
+    private NotificacionFallidaRepository notificacionFallidaRepository;
+
+    @Autowired
+    private AdministradorProntuariosJPA administradorProntuarios;
+
+    @Autowired
+    private ExcusaService excusaService;
+
+    @Autowired
+    private EmpleadoService empleadoService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ExcusaRepository excusaRepository;
+
+    @MockBean(name = "transporteEmail")
+    private IEmailSender transporte;
+
+    @Test
+    public void testEmailQueFallaNoHaceFallarElProcesamientoYSeReenvia() {
+
+        List<String> enviados = new CopyOnWriteArrayList<>();
+        IEmailSender rebotaUna = (destino, origen, asunto, cuerpo) -> {
+            if (destino.equals("rebota@test.com")) {
+                throw new IllegalStateException("550 casilla inexistente");
+            }
+            enviados.add(destino);
+        };
+        responderCon(rebotaUna);
+
+        Empleado rebota = empleadoService.crearEmpleado("Rebota Test", "rebota@test.com");
+        Empleado llega = empleadoService.crearEmpleado("Llega Test", "llega@test.com");
+        Excusa excusaRebota = excusaService.crearExcusa(rebota.getLegajo(), "TRIVIAL", "Me quedé dormido");
+        Excusa excusaLlega = excusaService.crearExcusa(llega.getLegajo(), "TRIVIAL", "Perdí el colectivo");
+
+        assertDoesNotThrow(() -> excusaService.procesarExcusaPorId(excusaRebota.getId()));
+        assertDoesNotThrow(() -> excusaService.procesarExcusaPorId(excusaLlega.getId()));
+        assertEquals(List.of("llega@test.com"), enviados);
+
+        List<NotificacionFallidaEntity> pendientes = notificacionesFallidasService.obtenerPendientes(TipoNotificacion.EMAIL, 10);
+        assertEquals(1, pendientes.size());
+        NotificacionFallidaEntity fallida = pendientes.get(0);
+        assertEquals("rebota@test.com", fallida.getDestino());
+        assertEquals("550 casilla inexistente", fallida.getMotivo());
+        assertEquals(1, fallida.getIntentos());
+
+        // Mientras la casilla siga rebotando queda pendiente con un intento más
+        NotificacionFallidaEntity reintento = notificacionesFallidasService.reenviar(fallida.getId());
+        assertEquals(EstadoNotificacion.PENDIENTE, reintento.getEstado());
+        assertEquals(2, reintento.getIntentos());
+
+        responderCon((destino, origen, asunto, cuerpo) -> enviados.add(destino));
+        NotificacionFallidaEntity reenviada = notificacionesFallidasService.reenviar(fallida.getId());
+        assertEquals(EstadoNotificacion.REENVIADA, reenviada.getEstado());
+        assertEquals(3, reenviada.getIntentos());
+        assertEquals(List.of("llega@test.com", "rebota@test.com"), enviados);
+        assertEquals(0, notificacionesFallidasService.contarPendientes());
+        assertThrows(BusinessRuleException.class, () -> notificacionesFallidasService.reenviar(fallida.getId()));
+
+        assertEquals(1.0, contador("email", "fallida"));
+        assertEquals(2.0, contador("email", "reintentada"));
+        assertTrue(contador("email", "entregada") >= 2.0);
+    }
+
+    @Test
+    public void testFallaRegistradaSobreviveALaReversionDelProcesamiento() {
+
+        responderCon((destino, origen, asunto, cuerpo) -> {
+            throw new IllegalStateException("Servidor de correo caído");
+        });
+        Empleado empleado = empleadoService.crearEmpleado("Revertido Test", "revertido@test.com");
+        Excusa excusa = excusaService.crearExcusa(empleado.getLegajo(), "TRIVIAL", "Se me rompió el despertador");
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            excusaService.procesarExcusaPorId(excusa.getId());
+            status.setRollbackOnly();
+        });
+
+        assertFalse(excusaRepository.findById(excusa.getId()).orElseThrow().getProcesada());
+        List<NotificacionFallidaEntity> pendientes = notificacionesFallidasService.obtenerPendientes(TipoNotificacion.EMAIL, 10);
+        assertEquals(1, pendientes.size());
+        assertEquals("revertido@test.com", pendientes.get(0).getDestino());
+    }
+
+    @Test
+    public void testObservadorQueFallaQuedaRegistradoYSeRenotificaSoloAEl() {
+
+        ObservadorInestable inestable = new ObservadorInestable();
+        administradorProntuarios.agregarObservador(inestable);
+        Empleado empleado = empleadoService.crearEmpleado("Observado Test", "observado@test.com");
+        Excusa excusa = excusaService.crearExcusa(empleado.getLegajo(), "INVEROSIMIL", "Me abdujeron");
+
+        try {
+            assertDoesNotThrow(() -> excusaService.procesarExcusaPorId(excusa.getId()));
+
+            List<NotificacionFallidaEntity> pendientes =
+                    notificacionesFallidasService.obtenerPendientes(TipoNotificacion.OBSERVADOR, 10);
+            assertEquals(1, pendientes.size());
+            assertEquals("observador-inestable", pendientes.get(0).getDestino());
+            assertEquals("Observador caído", pendientes.get(0).getMotivo());
+            assertNotNull(pendientes.get(0).getProntuarioId());
+
+            inestable.caido = false;
+            NotificacionesFallidasService.ResultadoReenvio resultado = notificacionesFallidasService.reenviarPendientes();
+            assertEquals(1, resultado.reenviadas());
+            assertEquals(0, resultado.fallidas());
+            assertEquals(List.of(pendientes.get(0).getProntuarioId()), inestable.recibidos);
+            assertEquals(1.0, contador("observador", "fallida"));
+            assertEquals(1.0, contador("observador", "reintentada"));
+            assertTrue(notificacionFallidaRepository.findAll().stream()
+                    .allMatch(notificacion -> notificacion.getEstado() == EstadoNotificacion.REENVIADA));
+        } finally {
+            administradorProntuarios.eliminarObservador(inestable);
+        }
+    }
+
+    private double contador(String tipo, String resultado) {
+        return meterRegistry.get("excusas.notificaciones").tag("tipo", tipo).tag("resultado", resultado)
+                .counter().count();
+    }
+
+    private void responderCon(IEmailSender servidor) {
+        doAnswer(invocacion -> {
+            servidor.enviarEmail(invocacion.getArgument(0), invocacion.getArgument(1),
+                    invocacion.getArgument(2), invocacion.getArgument(3));
+            return null;
+        }).when(transporte).enviarEmail(anyString(), anyString(), anyString(), anyString());
+    }
+
+    private static class ObservadorInestable implements IObserver {
+        private volatile boolean caido = true;
+        private final List<Long> recibidos = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void actualizar(Prontuario prontuario) {
+            if (caido) {
+                throw new IllegalStateException("Observador caído");
+            }
+            recibidos.add(prontuario.getId());
+        }
+
+        @Override
+        public String getIdentificadorObservador() {
+            return "observador-inestable";
+        }
+    }
+}
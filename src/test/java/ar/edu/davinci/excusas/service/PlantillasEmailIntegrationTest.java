@@ -0,0 +1,92 @@
+package ar.edu.davinci.excusas.service;
+
+import ar.edu.davinci.excusas.model.email.EmailSenderMemoria;
+import ar.edu.davinci.excusas.model.email.EmailSenderMemoria.EmailEnviado;
+import ar.edu.davinci.excusas.model.email.PlantillaEmail;
+import ar.edu.davinci.excusas.model.email.RegistroPlantillasEmail;
+import ar.edu.davinci.excusas.model.email.ServiciosEmail;
+import ar.edu.davinci.excusas.model.empleados.Empleado;
+import ar.edu.davinci.excusas.model.excusas.Excusa;
+import ar.edu.davinci.excusas.model.excusas.motivos.MotivoProblemaFamiliar;
+import ar.edu.davinci.excusas.model.excusas.motivos.MotivoTrivial;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "app.email.transporte=memoria",
+        "app.email.outbox.habilitado=false",
+        "app.email.plantillas.supervisor.familiar.asunto=Consulta familiar para {empleado}",
+        "app.email.plantillas.supervisor.familiar.cuerpo=Hola {empleado}, ¿todo bien en casa?"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class PlantillasEmailIntegrationTest {
+
+    @Autowired
+    private RegistroPlantillasEmail plantillasEmail;
+
+    @Autowired
+    private CadenaDeEncargadosService cadenaDeEncargadosService;
+
+    @Autowired
+    private ServiciosEmail serviciosEmail;
+
+    @Autowired
+    private EmailSenderMemoria transporteMemoria;
+
+    // Los emails del DataInitializer no cuentan
+    @BeforeEach
+    public void limpiarEmails() {
+        transporteMemoria.limpiar();
+    }
+
+    @Test
+    public void testPlantillasPersonalizadasDesdeLaConfiguracion() {
+
+        assertSame(plantillasEmail, serviciosEmail.getPlantillas());
+        Empleado empleado = new Empleado("Julia Plantilla", "plantilla@test.com", 9300);
+
+        cadenaDeEncargadosService.procesarExcusa(new Excusa(empleado, new MotivoProblemaFamiliar(), "Familiar enfermo"));
+        cadenaDeEncargadosService.procesarExcusa(new Excusa(empleado, new MotivoTrivial(), "Me quedé dormida"));
+
+        List<EmailEnviado> emails = transporteMemoria.getEnviados();
+        assertEquals(2, emails.size());
+        assertEquals("Consulta familiar para Julia Plantilla", emails.get(0).asunto());
+        assertEquals("Hola Julia Plantilla, ¿todo bien en casa?", emails.get(0).cuerpo());
+        // Las plantillas sin personalizar mantienen el texto original
+        assertEquals("motivo demora", emails.get(1).asunto());
+        assertEquals("la licencia fue aceptada", emails.get(1).cuerpo());
+    }
+
+    @Test
+    public void testPlantillasInvalidasSeRechazanAlCompilar() {
+
+        PlantillaEmail prontuario = new RegistroPlantillasEmail().obtener(RegistroPlantillasEmail.CEO_NUEVO_PRONTUARIO);
+        assertEquals("Se ha creado un nuevo prontuario para el empleado: Ana (Legajo: 1001)",
+                prontuario.renderizarCuerpo("Ana", 1001));
+        assertThrows(IllegalArgumentException.class, () -> prontuario.renderizarCuerpo("Ana"));
+
+        // Variables en otro orden, repetidas o más de dos apariciones
+        RegistroPlantillasEmail personalizadas = new RegistroPlantillasEmail(Map.of(
+                "ceo.nuevo-prontuario.asunto", "Legajo {legajo}: {empleado}",
+                "ceo.nuevo-prontuario.cuerpo", "{empleado} ({legajo}) - {empleado} ({legajo})"));
+        PlantillaEmail reordenada = personalizadas.obtener(RegistroPlantillasEmail.CEO_NUEVO_PRONTUARIO);
+        assertEquals("Legajo -7: Ana", reordenada.renderizarAsunto("Ana", -7));
+        assertEquals("Ana (1001) - Ana (1001)", reordenada.renderizarCuerpo("Ana", 1001));
+        assertEquals("Ana (B) - Ana (B)", reordenada.renderizarCuerpo("Ana", "B"));
+
+        assertThrows(IllegalArgumentException.class, () -> new RegistroPlantillasEmail(
+                Map.of("ceo.respuesta.cuerpo", "Aprobado para {inexistente}")));
+        assertThrows(IllegalArgumentException.class, () -> new RegistroPlantillasEmail(
+                Map.of("ceo.respuesta.cuerpo", "Aprobado para {empleado")));
+        assertThrows(IllegalArgumentException.class, () -> new RegistroPlantillasEmail(
+                Map.of("gerente.respuesta.asunto", "Sin plantilla")));
+    }
+}
@@ -0,0 +1,118 @@
+package ar.edu.davinci.excusas.service;
+
+import ar.edu.davinci.excusas.exception.ExcusaNotFoundException;
+import ar.edu.davinci.excusas.exception.ProcesamientoNotFoundException;
+import ar.edu.davinci.excusas.model.empleados.Empleado;
+import ar.edu.davinci.excusas.model.excusas.Excusa;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class ProcesamientoAsincronoServiceIntegrationTest {
+
+    @Autowired
+    private ProcesamientoAsincronoService procesamientoAsincronoService;
+
+    @Autowired
+    private ExcusaService excusaService;
+
+    @Autowired
+    private EmpleadoService empleadoService;
+
+    private ProcesamientoAsincronoService.EstadoProcesamiento esperarFinalizacion(String ticket) throws InterruptedException {
+        for (int intento = 0; intento < 100; intento++) {
+            ProcesamientoAsincronoService.EstadoProcesamiento estado = procesamientoAsincronoService.obtenerEstado(ticket);
+            if (estado.getEstado() == ProcesamientoAsincronoService.Estado.COMPLETADO ||
+                    estado.getEstado() == ProcesamientoAsincronoService.Estado.ERROR) {
+                return estado;
+            }
+            Thread.sleep(50);
+        }
+        fail("El procesamiento no finalizó a tiempo");
+        return null;
+    }
+
+    @Test
+    public void testEncolarExcusa_SeProcesaEnSegundoPlano() throws Exception {
+
+        String nombreUnico = "Async Test " + System.currentTimeMillis();
+        Empleado empleado = empleadoService.crearEmpleado(nombreUnico, "async.test@test.com");
+        Excusa excusa = excusaService.crearExcusa(empleado.getLegajo(), "PROBLEMA_FAMILIAR", "Excusa familiar para procesar en segundo plano");
+
+
+        ProcesamientoAsincronoService.EstadoProcesamiento encolado = procesamientoAsincronoService.encolarExcusa(excusa.getId());
+        ProcesamientoAsincronoService.EstadoProcesamiento finalizado = esperarFinalizacion(encolado.getTicket());
+
+
+        assertNotNull(encolado.getTicket());
+        assertEquals(ProcesamientoAsincronoService.Estado.COMPLETADO, finalizado.getEstado());
+        assertEquals(nombreUnico, finalizado.getEmpleado());
+        assertEquals("MotivoProblemaFamiliar", finalizado.getTipoMotivo());
+        assertNotNull(finalizado.getFechaFinalizacion());
+    }
+
+    @Test
+    public void testEncolarExcusa_NoExiste() {
+
+        assertThrows(ExcusaNotFoundException.class, () -> {
+            procesamientoAsincronoService.encolarExcusa(999_999L);
+        });
+    }
+
+    @Test
+    public void testObtenerEstado_TicketInexistente() {
+
+        assertThrows(ProcesamientoNotFoundException.class, () -> {
+            procesamientoAsincronoService.obtenerEstado("ticket-inexistente");
+        });
+    }
+
+    @Test
+    public void testSoloSeDescartanTicketsTerminados() throws Exception {
+
+        Empleado empleado = empleadoService.crearEmpleado("Async Retenidos", "async.retenidos@test.com");
+        Excusa excusa = excusaService.crearExcusa(empleado.getLegajo(), "TRIVIAL", "Excusa para llenar los tickets");
+        CountDownLatch liberar = new CountDownLatch(1);
+        ReflectionTestUtils.setField(procesamientoAsincronoService, "ticketsRetenidos", 2);
+        ReflectionTestUtils.setField(procesamientoAsincronoService, "excusaService", new ExcusaService() {
+            @Override
+            public Excusa procesarExcusaPorId(Long id) {
+                try {
+                    liberar.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new IllegalStateException("Procesamiento liberado");
+            }
+        });
+
+        List<String> tickets = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            tickets.add(procesamientoAsincronoService.encolarExcusa(excusa.getId()).getTicket());
+        }
+        // Ninguno terminó: siguen todos aunque superen los retenidos
+        for (String ticket : tickets) {
+            assertFalse(procesamientoAsincronoService.obtenerEstado(ticket).terminado());
+        }
+
+        liberar.countDown();
+        for (String ticket : tickets) {
+            assertEquals(ProcesamientoAsincronoService.Estado.ERROR, esperarFinalizacion(ticket).getEstado());
+        }
+        String ultimo = procesamientoAsincronoService.encolarExcusa(excusa.getId()).getTicket();
+
+        assertThrows(ProcesamientoNotFoundException.class, () -> procesamientoAsincronoService.obtenerEstado(tickets.get(0)));
+        assertNotNull(procesamientoAsincronoService.obtenerEstado(tickets.get(5)));
+        assertNotNull(procesamientoAsincronoService.obtenerEstado(ultimo));
+    }
+}
@@ -0,0 +1,83 @@
+package ar.edu.davinci.excusas.service;
+
+import ar.edu.davinci.excusas.entity.EmpleadoEntity;
+import ar.edu.davinci.excusas.entity.ExcusaEntity;
+import ar.edu.davinci.excusas.entity.ProntuarioEntity;
+import ar.edu.davinci.excusas.exception.BusinessRuleException;
+import ar.edu.davinci.excusas.repository.EmpleadoRepository;
+import ar.edu.davinci.excusas.repository.ExcusaRepository;
+import ar.edu.davinci.excusas.repository.ProntuarioRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Las estadísticas de Hibernate cuentan las transacciones: sin outbox no hay otro hilo abriendo las suyas
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:retencion",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "app.data-initializer.enabled=false",
+        "app.email.outbox.habilitado=false",
+        "app.retencion.tamanio-lote=1000"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class RetencionExcusasIntegrationTest {
+
+    private static final int EXCUSAS_VIEJAS = 25_500;
+
+    @Autowired
+    private ExcusaService excusaService;
+
+    @Autowired
+    private EmpleadoRepository empleadoRepository;
+
+    @Autowired
+    private ExcusaRepository excusaRepository;
+
+    @Autowired
+    private ProntuarioRepository prontuarioRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    public void testEliminaDeALotesConSusProntuariosYDevuelveLaCantidadExacta() {
+
+        EmpleadoEntity empleado = empleadoRepository.save(new EmpleadoEntity("Retencion Test", "retencion@test.com", 8001));
+        jdbcTemplate.update("INSERT INTO excusas (empleado_id, descripcion, tipo_motivo, fecha_creacion, procesada) "
+                + "SELECT ?, CONCAT('Excusa vieja número ', X), 'I', TIMESTAMP '2020-03-01 10:00:00', TRUE "
+                + "FROM SYSTEM_RANGE(1, ?)", empleado.getId(), EXCUSAS_VIEJAS);
+        // Una de cada tres excusas viejas tiene prontuario: sin borrarlos antes, la clave foránea frena el borrado
+        jdbcTemplate.update("INSERT INTO prontuarios (empleado_id, excusa_id, legajo, fecha_creacion) "
+                + "SELECT empleado_id, id, 8001, fecha_creacion FROM excusas WHERE MOD(id, 3) = 0");
+        ExcusaEntity reciente = excusaRepository.save(new ExcusaEntity(empleado, "Excusa de hoy", "INVEROSIMIL"));
+        ProntuarioEntity prontuarioReciente = prontuarioRepository.save(new ProntuarioEntity(empleado, reciente, 8001));
+
+        Statistics estadisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estadisticas.clear();
+
+        int eliminadas = excusaService.eliminarExcusasAnterioresA(LocalDate.of(2020, 12, 31));
+
+        assertEquals(EXCUSAS_VIEJAS, eliminadas);
+        // 26 lotes (el último incompleto) y la consulta que confirma que no queda nada
+        assertEquals(27, estadisticas.getSuccessfulTransactionCount());
+        assertEquals(1, excusaRepository.count());
+        assertEquals(1, prontuarioRepository.count());
+        assertTrue(excusaRepository.existsById(reciente.getId()));
+        assertTrue(prontuarioRepository.existsById(prontuarioReciente.getId()));
+
+        assertThrows(BusinessRuleException.class,
+                () -> excusaService.eliminarExcusasAnterioresA(LocalDate.of(2020, 12, 31)));
+    }
+}
@@ -0,0 +1,137 @@
+package ar.edu.davinci.excusas.service;
+
+import ar.edu.davinci.excusas.dto.mapper.ProntuarioMapper;
+import ar.edu.davinci.excusas.entity.EmpleadoEntity;
+import ar.edu.davinci.excusas.entity.ExcusaEntity;
+import ar.edu.davinci.excusas.entity.ProntuarioEntity;
+import ar.edu.davinci.excusas.repository.EmpleadoRepository;
+import ar.edu.davinci.excusas.repository.ExcusaRepository;
+import ar.edu.davinci.excusas.repository.ProntuarioRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Los envíos se observan desde el conversor, que corre en el hilo de la suscripción justo antes de cada evento
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:stream",
+        "app.data-initializer.enabled=false",
+        "app.prontuarios.stream.max-avisos-pendientes=3"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class StreamProntuariosServiceIntegrationTest {
+
+    @Autowired
+    private StreamProntuariosService streamProntuariosService;
+
+    @Autowired
+    private EmpleadoRepository empleadoRepository;
+
+    @Autowired
+    private ExcusaRepository excusaRepository;
+
+    @Autowired
+    private ProntuarioRepository prontuarioRepository;
+
+    @Autowired
+    private ProntuarioMapper prontuarioMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private EmpleadoEntity empleado;
+    private ExcusaEntity excusa;
+
+    @BeforeEach
+    public void sembrar() {
+        empleado = empleadoRepository.save(new EmpleadoEntity("Stream Test", "stream@test.com", 9700));
+        excusa = excusaRepository.save(new ExcusaEntity(empleado, "Me abdujeron", "INVEROSIMIL"));
+    }
+
+    @Test
+    public void testProntuarioConfirmadoFueraDeOrdenNoSePierde() throws Exception {
+
+        AtomicLong idDemorado = new AtomicLong();
+        CountDownLatch creado = new CountDownLatch(1);
+        CountDownLatch confirmar = new CountDownLatch(1);
+        Thread demorada = new Thread(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            idDemorado.set(prontuarioRepository.save(new ProntuarioEntity(empleado, excusa, 9700)).getId());
+            creado.countDown();
+            try {
+                confirmar.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        demorada.start();
+        assertTrue(creado.await(10, TimeUnit.SECONDS));
+
+        List<Long> enviados = new CopyOnWriteArrayList<>();
+        streamProntuariosService.suscribir(idDemorado.get() - 1, prontuario -> {
+            enviados.add(prontuario.getId());
+            return prontuario.getId();
+        });
+
+        // El id siguiente se confirma y se notifica primero: no sale hasta que aparezca el anterior
+        ProntuarioEntity siguiente = prontuarioRepository.save(new ProntuarioEntity(empleado, excusa, 9700));
+        assertEquals(idDemorado.get() + 1, siguiente.getId());
+        streamProntuariosService.actualizar(prontuarioMapper.toModel(siguiente));
+        Thread.sleep(300);
+        assertTrue(enviados.isEmpty());
+
+        confirmar.countDown();
+        demorada.join(10_000);
+        for (int intento = 0; intento < 100 && enviados.size() < 2; intento++) {
+            Thread.sleep(50);
+        }
+        assertEquals(List.of(idDemorado.get(), siguiente.getId()), enviados);
+    }
+
+    @Test
+    public void testClienteLentoNoFrenaALosDemasYSeLeCierraElStream() throws Exception {
+
+        ProntuarioEntity primero = prontuarioRepository.save(new ProntuarioEntity(empleado, excusa, 9700));
+        CountDownLatch enviando = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        streamProntuariosService.suscribir(primero.getId() - 1, prontuario -> {
+            enviando.countDown();
+            try {
+                liberar.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return prontuario.getId();
+        });
+        assertTrue(enviando.await(10, TimeUnit.SECONDS));
+
+        List<Long> rapido = new CopyOnWriteArrayList<>();
+        streamProntuariosService.suscribir(primero.getId(), prontuario -> {
+            rapido.add(prontuario.getId());
+            return prontuario.getId();
+        });
+        assertEquals(2, streamProntuariosService.getCantidadSuscripciones());
+
+        // Cuatro avisos sin atender superan el máximo de tres: el lento queda afuera, el rápido recibe cada uno
+        for (int i = 1; i <= 4; i++) {
+            ProntuarioEntity nuevo = prontuarioRepository.save(new ProntuarioEntity(empleado, excusa, 9700));
+            streamProntuariosService.actualizar(prontuarioMapper.toModel(nuevo));
+            for (int intento = 0; intento < 100 && rapido.size() < i; intento++) {
+                Thread.sleep(50);
+            }
+            assertEquals(nuevo.getId(), rapido.get(rapido.size() - 1));
+        }
+        assertEquals(1, streamProntuariosService.getCantidadSuscripciones());
+        liberar.countDown();
+    }
+}
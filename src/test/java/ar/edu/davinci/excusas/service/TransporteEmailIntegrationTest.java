@@ -0,0 +1,170 @@
+package ar.edu.davinci.excusas.service;
+
+import ar.edu.davinci.excusas.model.email.EmailSenderMemoria;
+import ar.edu.davinci.excusas.model.email.EmailSenderOutbox;
+import ar.edu.davinci.excusas.model.email.EmailSenderSmtp;
+import ar.edu.davinci.excusas.model.email.ServiciosEmail;
+import ar.edu.davinci.excusas.model.empleados.Empleado;
+import ar.edu.davinci.excusas.model.excusas.Excusa;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "app.email.transporte=memoria",
+        "app.email.outbox.intervalo-ms=3600000"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class TransporteEmailIntegrationTest {
+
+    @Autowired
+    private EmailSenderMemoria transporteMemoria;
+
+    @Autowired
+    private EmailSenderOutbox emailSenderOutbox;
+
+    @Autowired
+    private ServiciosEmail serviciosEmail;
+
+    @Autowired
+    private DespachadorEmailsService despachadorEmailsService;
+
+    @Autowired
+    private ExcusaService excusaService;
+
+    @Autowired
+    private EmpleadoService empleadoService;
+
+    @Test
+    public void testEmailsDelOutboxSalenPorElTransporteConfigurado() {
+
+        assertSame(emailSenderOutbox, serviciosEmail.getEmailSender());
+        Empleado empleado = empleadoService.crearEmpleado("Transporte Test", "transporte.test@test.com");
+        Excusa excusa = excusaService.crearExcusa(empleado.getLegajo(), "TRIVIAL", "Excusa trivial para el transporte");
+
+        excusaService.procesarExcusaPorId(excusa.getId());
+        while (despachadorEmailsService.despacharPendientes() > 0) {
+            // Se vacía también lo que dejó el DataInitializer
+        }
+
+        assertTrue(transporteMemoria.getEnviados().stream()
+                .anyMatch(email -> email.destino().equals("transporte.test@test.com")));
+    }
+
+    @Test
+    public void testTransporteSmtpReutilizaConexionesDelPool() throws Exception {
+
+        try (ServidorSmtpDePrueba servidor = new ServidorSmtpDePrueba();
+             EmailSenderSmtp smtp = new EmailSenderSmtp("localhost", servidor.getPuerto(), "", "", false, 2, 5000)) {
+
+            for (int i = 0; i < 10; i++) {
+                smtp.enviarEmail("destino" + i + "@test.com", "origen@test.com", "Asunto " + i, "Cuerpo " + i);
+            }
+            assertEquals(1, servidor.getConexiones());
+            assertEquals(10, servidor.getMensajes());
+
+            // Con ocho hilos concurrentes nunca se abren más conexiones que el tamaño del pool
+            ExecutorService hilos = Executors.newFixedThreadPool(8);
+            List<Future<?>> envios = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                int numero = i;
+                envios.add(hilos.submit(() -> smtp.enviarEmail(
+                        "concurrente" + numero + "@test.com", "origen@test.com", "Asunto", "Cuerpo")));
+            }
+            for (Future<?> envio : envios) {
+                envio.get();
+            }
+            hilos.shutdown();
+
+            assertEquals(50, servidor.getMensajes());
+            assertTrue(servidor.getConexiones() <= 2);
+            assertEquals(servidor.getConexiones(), smtp.getConexionesLibres());
+        }
+    }
+
+    // Servidor SMTP mínimo que acepta todo y cuenta conexiones y mensajes recibidos
+    private static class ServidorSmtpDePrueba implements AutoCloseable {
+
+        private final ServerSocket servidor = new ServerSocket(0);
+        private final AtomicInteger conexiones = new AtomicInteger();
+        private final AtomicInteger mensajes = new AtomicInteger();
+
+        ServidorSmtpDePrueba() throws IOException {
+            Thread aceptador = new Thread(this::aceptar, "smtp-prueba");
+            aceptador.setDaemon(true);
+            aceptador.start();
+        }
+
+        int getPuerto() { return servidor.getLocalPort(); }
+        int getConexiones() { return conexiones.get(); }
+        int getMensajes() { return mensajes.get(); }
+
+        private void aceptar() {
+            while (!servidor.isClosed()) {
+                try {
+                    Socket cliente = servidor.accept();
+                    conexiones.incrementAndGet();
+                    Thread atencion = new Thread(() -> atender(cliente), "smtp-prueba-cliente");
+                    atencion.setDaemon(true);
+                    atencion.start();
+                } catch (IOException e) {
+                    return;
+                }
+            }
+        }
+
+        private void atender(Socket cliente) {
+            try (cliente;
+                 BufferedReader entrada = new BufferedReader(new InputStreamReader(cliente.getInputStream(), StandardCharsets.US_ASCII));
+                 PrintWriter salida = new PrintWriter(cliente.getOutputStream(), true, StandardCharsets.US_ASCII)) {
+                responder(salida, "220 prueba ESMTP");
+                String linea;
+                while ((linea = entrada.readLine()) != null) {
+                    String comando = linea.toUpperCase();
+                    if (comando.startsWith("DATA")) {
+                        responder(salida, "354 Terminar con .");
+                        while ((linea = entrada.readLine()) != null && !linea.equals(".")) {
+                            // Se descarta el contenido del mensaje
+                        }
+                        mensajes.incrementAndGet();
+                        responder(salida, "250 OK");
+                    } else if (comando.startsWith("QUIT")) {
+                        responder(salida, "221 Chau");
+                        return;
+                    } else {
+                        responder(salida, "250 OK");
+                    }
+                }
+            } catch (IOException e) {
+                // El cliente cerró la conexión
+            }
+        }
+
+        private void responder(PrintWriter salida, String respuesta) {
+            salida.print(respuesta + "\r\n");
+            salida.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            servidor.close();
+        }
+    }
+}